@@ -0,0 +1,105 @@
+package dev.turingcomplete.quarkussimplifiedasync.benchmarks;
+
+import dev.turingcomplete.quarkussimplifiedasync.vertx.ExecutorKind;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.SaturationPolicy;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutor;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutorDescriptor;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutorRegistry;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncMethodDescriptor;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.WorkerExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the lookup of a shared worker executor via
+ * {@link Vertx#createSharedWorkerExecutor} on every call with the cached
+ * lookup via the {@link VertxAsyncExecutorRegistry} under 64 concurrent
+ * callers.
+ *
+ * <p>Run with: {@code java -jar benchmarks/target/benchmarks.jar ExecutorLookupBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(64)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ExecutorLookupBenchmark {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String EXECUTOR_NAME = "ExecutorLookupBenchmark";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private Vertx                      vertx;
+  private VertxAsyncExecutorRegistry executorRegistry;
+  private VertxAsyncMethodDescriptor descriptor;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  @Setup
+  public void setUp() {
+    vertx = Vertx.vertx();
+    executorRegistry = new VertxAsyncExecutorRegistry(vertx);
+    var executorDescriptor = new VertxAsyncExecutorDescriptor(EXECUTOR_NAME, VertxOptions.DEFAULT_WORKER_POOL_SIZE,
+                                                              VertxOptions.DEFAULT_MAX_WORKER_EXECUTE_TIME,
+                                                              VertxOptions.DEFAULT_MAX_WORKER_EXECUTE_TIME_UNIT, false,
+                                                              VertxAsync.UNBOUNDED_QUEUE_SIZE, SaturationPolicy.REJECT,
+                                                              0, TimeUnit.SECONDS, ExecutorKind.WORKER);
+    descriptor = VertxAsyncMethodDescriptor.builder(ExecutorLookupBenchmark.class.getName(), "run", new String[0],
+                                                    VertxAsyncMethodDescriptor.ReturnType.OTHER)
+                                           .executorDescriptor(executorDescriptor)
+                                           .build();
+    // Keeps the shared pool alive between the invocations of `createSharedWorkerExecutor()`
+    executorRegistry.executor(descriptor);
+  }
+
+  @TearDown
+  public void tearDown() {
+    executorRegistry.close();
+    vertx.close().toCompletionStage().toCompletableFuture().join();
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * The lookup that was used by the interceptor before the registry existed.
+   *
+   * <p>The interceptor never closed the returned executor and therefore leaked
+   * its reference. The benchmark closes it to keep the memory bounded, which
+   * takes the same global lock a second time.
+   */
+  @Benchmark
+  public void createSharedWorkerExecutor() {
+    VertxAsyncExecutorDescriptor executorDescriptor = descriptor.getExecutorDescriptor();
+    WorkerExecutor executor = vertx.createSharedWorkerExecutor(EXECUTOR_NAME,
+                                                               executorDescriptor.getPoolSize(),
+                                                               executorDescriptor.getMaxExecutionTime(),
+                                                               executorDescriptor.getMaxExecutionTimeUnit());
+    executor.close();
+  }
+
+  @Benchmark
+  public VertxAsyncExecutor cachedExecutor() {
+    return executorRegistry.executor(descriptor);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,283 @@
+package dev.turingcomplete.quarkussimplifiedasync.benchmarks;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.StandaloneVertxAsyncInterceptor;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncContextPropagation;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncInterceptor;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.eclipse.microprofile.context.ThreadContext;
+import org.jboss.logging.MDC;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.interceptor.InvocationContext;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the dispatch of a call through the {@link VertxAsyncInterceptor}
+ * until the intercepted method gets executed on a worker thread, compared to a
+ * direct call of {@link Vertx#executeBlocking}.
+ *
+ * <p>The interceptor gets wired without CDI by the
+ * {@link StandaloneVertxAsyncInterceptor}. The intercepted methods do nothing,
+ * so the results only contain the overhead of the dispatch.
+ *
+ * <p>Run with: {@code java -jar benchmarks/target/benchmarks.jar InterceptorDispatchBenchmark -t 4 -prof gc}
+ * or via {@link #main(String[])}, which runs with 1, 4 and one caller thread
+ * per available processor and the GC profiler to measure the allocations
+ * per call ({@code gc.alloc.rate.norm}).
+ *
+ * <p>The {@link #propagateContext} parameter measures the overhead of the
+ * {@link VertxAsyncContextPropagation}, with a SmallRye {@link ThreadContext}
+ * and an MDC entry on each caller thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class InterceptorDispatchBenchmark {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String CUSTOM_EXECUTOR_NAME = "InterceptorDispatchBenchmark";
+
+  private static final CompletableFuture<Void> COMPLETED_FUTURE = CompletableFuture.completedFuture(null);
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Whether the caller has a context, which gets propagated to the worker
+   * thread. Without, only the capturing of an empty context gets measured.
+   */
+  @Param({"false", "true"})
+  public boolean propagateContext;
+
+  private Vertx                           vertx;
+  private StandaloneVertxAsyncInterceptor interceptor;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  @Setup
+  public void setUp() {
+    vertx = Vertx.vertx();
+    // None of the methods is durable, so the journal directory never gets created
+    interceptor = StandaloneVertxAsyncInterceptor.create(vertx, List.of(Target.class.getDeclaredMethods()),
+                                                         propagateContext ? ThreadContext.builder().build() : null,
+                                                         Path.of(System.getProperty("java.io.tmpdir"), "interceptor-dispatch-benchmark"));
+  }
+
+  @TearDown
+  public void tearDown() {
+    interceptor.close();
+    vertx.close().toCompletionStage().toCompletableFuture().join();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    var threadCounts = new TreeSet<>(List.of(1, 4, Runtime.getRuntime().availableProcessors()));
+    for (int threads : threadCounts) {
+      new Runner(new OptionsBuilder().include(InterceptorDispatchBenchmark.class.getSimpleName())
+                                     .threads(threads)
+                                     .addProfiler(GCProfiler.class)
+                                     .build()).run();
+    }
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * The baseline without the interceptor.
+   */
+  @Benchmark
+  public void executeBlocking(Caller caller) throws InterruptedException {
+    vertx.executeBlocking(caller::executeBlocking, false);
+    caller.awaitExecution();
+  }
+
+  @Benchmark
+  public Object voidMethod(Caller caller) throws Exception {
+    Object result = interceptor.intercept(caller.voidMethod);
+    caller.awaitExecution();
+    return result;
+  }
+
+  @Benchmark
+  public Object futureMethod(Caller caller) throws Exception {
+    Object result = interceptor.intercept(caller.futureMethod);
+    caller.awaitExecution();
+    return result;
+  }
+
+  @Benchmark
+  public Object completableFutureMethod(Caller caller) throws Exception {
+    Object result = interceptor.intercept(caller.completableFutureMethod);
+    caller.awaitExecution();
+    return result;
+  }
+
+  @Benchmark
+  public Object customExecutorMethod(Caller caller) throws Exception {
+    Object result = interceptor.intercept(caller.customExecutorMethod);
+    caller.awaitExecution();
+    return result;
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  /**
+   * The state of a single caller thread, which waits for the execution of its
+   * previous call before it makes the next one.
+   */
+  @State(Scope.Thread)
+  public static class Caller {
+
+    private final Semaphore executed = new Semaphore(0);
+
+    private InvocationContext voidMethod;
+    private InvocationContext futureMethod;
+    private InvocationContext completableFutureMethod;
+    private InvocationContext customExecutorMethod;
+
+    /**
+     * Gets executed by the benchmark thread which uses this state.
+     */
+    @Setup
+    public void setUp(InterceptorDispatchBenchmark benchmark) throws NoSuchMethodException {
+      if (benchmark.propagateContext) {
+        MDC.put("requestId", "4b8d2c3e-3f41-4f5f-9a43-5a8c1e7d9b10");
+      }
+
+      voidMethod = new BenchmarkInvocationContext(Target.class.getDeclaredMethod("voidMethod"), null, executed);
+      futureMethod = new BenchmarkInvocationContext(Target.class.getDeclaredMethod("futureMethod"), Future.succeededFuture(), executed);
+      completableFutureMethod = new BenchmarkInvocationContext(Target.class.getDeclaredMethod("completableFutureMethod"), COMPLETED_FUTURE, executed);
+      customExecutorMethod = new BenchmarkInvocationContext(Target.class.getDeclaredMethod("customExecutorMethod"), Future.succeededFuture(), executed);
+    }
+
+    @TearDown
+    public void tearDown() {
+      MDC.clear();
+    }
+
+    private void executeBlocking(Promise<Object> promise) {
+      executed.release();
+      promise.complete();
+    }
+
+    private void awaitExecution() throws InterruptedException {
+      executed.acquire();
+    }
+  }
+
+  /**
+   * A reusable {@link InvocationContext}, whose {@link #proceed()} only
+   * signals the execution.
+   */
+  private static class BenchmarkInvocationContext implements InvocationContext {
+
+    private static final Object[] NO_PARAMETERS = new Object[0];
+
+    private final Method    method;
+    private final Object    result;
+    private final Semaphore executed;
+
+    private BenchmarkInvocationContext(Method method, Object result, Semaphore executed) {
+      this.method = method;
+      this.result = result;
+      this.executed = executed;
+    }
+
+    @Override
+    public Object getTarget() {
+      return null;
+    }
+
+    @Override
+    public Object getTimer() {
+      return null;
+    }
+
+    @Override
+    public Method getMethod() {
+      return method;
+    }
+
+    @Override
+    public Constructor<?> getConstructor() {
+      return null;
+    }
+
+    @Override
+    public Object[] getParameters() {
+      return NO_PARAMETERS;
+    }
+
+    @Override
+    public void setParameters(Object[] parameters) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Map<String, Object> getContextData() {
+      return Map.of();
+    }
+
+    @Override
+    public Object proceed() {
+      executed.release();
+      return result;
+    }
+  }
+
+  /**
+   * The intercepted methods. They never get called, since the
+   * {@link BenchmarkInvocationContext} replaces their execution.
+   */
+  @SuppressWarnings("unused")
+  private static class Target {
+
+    @Async
+    void voidMethod() {
+    }
+
+    @Async
+    Future<Void> futureMethod() {
+      return null;
+    }
+
+    @Async
+    CompletableFuture<Void> completableFutureMethod() {
+      return null;
+    }
+
+    @VertxAsync(CUSTOM_EXECUTOR_NAME)
+    Future<Void> customExecutorMethod() {
+      return null;
+    }
+  }
+}
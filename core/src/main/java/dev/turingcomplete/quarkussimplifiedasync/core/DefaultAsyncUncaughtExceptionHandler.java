@@ -1,26 +1,123 @@
 package dev.turingcomplete.quarkussimplifiedasync.core;
 
+import org.jboss.logging.Logger;
+
 import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 
 /**
  * This is a default {@link AsyncUncaughtExceptionHandler} implementation that
- * will rethrow any uncaught {@link Throwable} in an @{@link Async} method as a
- * {@link RuntimeException}.
+ * logs any uncaught {@link Throwable} in an @{@link Async} method.
+ *
+ * <p>The handler never throws, because it gets called from a callback of the
+ * asynchronous execution, where a thrown exception would only produce more
+ * load. The failures get counted per method and at most one summary per
+ * method gets logged within the log interval. A summary contains the number
+ * of failures since the previous summary and the stack trace of the failure
+ * which triggered it as a sample. Failures after the last summary get
+ * reported with the next failure after the log interval. The summaries get
+ * logged by {@link #logFailures}.
  */
 public class DefaultAsyncUncaughtExceptionHandler implements AsyncUncaughtExceptionHandler {
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final Logger LOGGER = Logger.getLogger(DefaultAsyncUncaughtExceptionHandler.class);
+
+  public static final long DEFAULT_LOG_INTERVAL_SECONDS = 10;
+
   // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final long                                 logIntervalNanos;
+  private final LongSupplier                         nanoTime;
+  private final ConcurrentMap<Method, MethodFailures> methodFailures = new ConcurrentHashMap<>();
+
   // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  public DefaultAsyncUncaughtExceptionHandler() {
+    this(DEFAULT_LOG_INTERVAL_SECONDS, TimeUnit.SECONDS);
+  }
+
+  public DefaultAsyncUncaughtExceptionHandler(long logInterval, TimeUnit logIntervalUnit) {
+    this(logInterval, logIntervalUnit, System::nanoTime);
+  }
+
+  /**
+   * @param nanoTime the source of the current time, like
+   *                 {@link System#nanoTime()}.
+   */
+  public DefaultAsyncUncaughtExceptionHandler(long logInterval, TimeUnit logIntervalUnit, LongSupplier nanoTime) {
+    this.logIntervalNanos = logIntervalUnit.toNanos(logInterval);
+    this.nanoTime = nanoTime;
+  }
+
   // -- Exposed Methods --------------------------------------------------------------------------------------------- //
 
   @Override
   public void handleUncaughtException(Throwable throwable, Method method, Object... parameters) {
-    throw new RuntimeException(String.format("An exception was thrown during the asynchronous execution of the method: %s.%s",
-                                             method.getDeclaringClass().getSimpleName(),
-                                             method.getName()),
-                               throwable);
+    MethodFailures failures = methodFailures.get(method);
+    if (failures == null) {
+      failures = methodFailures.computeIfAbsent(method, key -> new MethodFailures(nanoTime.getAsLong()));
+    }
+    failures.count.increment();
+
+    long now = nanoTime.getAsLong();
+    long nextLogNanos = failures.nextLogNanos.get();
+    if (now - nextLogNanos >= 0 && failures.nextLogNanos.compareAndSet(nextLogNanos, now + logIntervalNanos)) {
+      // Only the thread which won the CAS gets here. But with a short log
+      // interval, the winner of the next interval may already be here, too.
+      synchronized (failures) {
+        long count = failures.count.sum();
+        long unreportedCount = count - failures.reportedCount;
+        failures.reportedCount = count;
+        if (unreportedCount > 0) {
+          logFailures(throwable, method, unreportedCount, count);
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the number of uncaught exceptions of the given method.
+   */
+  public long getFailureCount(Method method) {
+    MethodFailures failures = methodFailures.get(method);
+    return failures != null ? failures.count.sum() : 0;
+  }
+
+  /**
+   * Logs a summary of the failures of the given method.
+   *
+   * @param sample            the failure which triggered the summary.
+   * @param failureCount      the number of failures since the previous
+   *                          summary.
+   * @param totalFailureCount the number of all failures of the method.
+   */
+  protected void logFailures(Throwable sample, Method method, long failureCount, long totalFailureCount) {
+    LOGGER.errorf(sample, "%d exception(s) were thrown during the asynchronous execution of the method %s.%s since the last report (%d in total). Sampled exception:",
+                  failureCount, method.getDeclaringClass().getSimpleName(), method.getName(), totalFailureCount);
   }
 
   // -- Private Methods --------------------------------------------------------------------------------------------- //
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private static class MethodFailures {
+
+    private final LongAdder  count = new LongAdder();
+    private final AtomicLong nextLogNanos;
+
+    /**
+     * Only accessed by a thread which has advanced {@link #nextLogNanos},
+     * while holding the lock of this object.
+     */
+    private long reportedCount;
+
+    private MethodFailures(long nowNanos) {
+      this.nextLogNanos = new AtomicLong(nowNanos);
+    }
+  }
 }
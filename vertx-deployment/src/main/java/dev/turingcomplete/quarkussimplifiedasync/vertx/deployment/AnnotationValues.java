@@ -0,0 +1,77 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.deployment;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+
+/**
+ * Utilities to read the attribute values of an {@link AnnotationInstance}.
+ *
+ * <p>Jandex does not provide the values of attributes that were not
+ * explicitly set. In this case, the default value gets reflectively read from
+ * the annotation type, which is available in the build class loader.
+ */
+final class AnnotationValues {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private AnnotationValues() {
+    throw new UnsupportedOperationException();
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  static String stringValue(AnnotationInstance annotation, Class<? extends Annotation> annotationType, String name) {
+    AnnotationValue value = annotation.value(name);
+    return value != null ? value.asString() : (String) defaultValue(annotationType, name);
+  }
+
+  static int intValue(AnnotationInstance annotation, Class<? extends Annotation> annotationType, String name) {
+    AnnotationValue value = annotation.value(name);
+    return value != null ? value.asInt() : (Integer) defaultValue(annotationType, name);
+  }
+
+  static long longValue(AnnotationInstance annotation, Class<? extends Annotation> annotationType, String name) {
+    AnnotationValue value = annotation.value(name);
+    return value != null ? value.asLong() : (Long) defaultValue(annotationType, name);
+  }
+
+  static boolean booleanValue(AnnotationInstance annotation, Class<? extends Annotation> annotationType, String name) {
+    AnnotationValue value = annotation.value(name);
+    return value != null ? value.asBoolean() : (Boolean) defaultValue(annotationType, name);
+  }
+
+  static double doubleValue(AnnotationInstance annotation, Class<? extends Annotation> annotationType, String name) {
+    AnnotationValue value = annotation.value(name);
+    return value != null ? value.asDouble() : (Double) defaultValue(annotationType, name);
+  }
+
+  static String[] classNamesValue(AnnotationInstance annotation, Class<? extends Annotation> annotationType, String name) {
+    AnnotationValue value = annotation.value(name);
+    if (value != null) {
+      return Arrays.stream(value.asClassArray()).map(type -> type.name().toString()).toArray(String[]::new);
+    }
+    return Arrays.stream((Class<?>[]) defaultValue(annotationType, name)).map(Class::getName).toArray(String[]::new);
+  }
+
+  static <E extends Enum<E>> E enumValue(AnnotationInstance annotation, Class<? extends Annotation> annotationType, String name, Class<E> enumType) {
+    AnnotationValue value = annotation.value(name);
+    return value != null ? Enum.valueOf(enumType, value.asEnum()) : enumType.cast(defaultValue(annotationType, name));
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static Object defaultValue(Class<? extends Annotation> annotationType, String name) {
+    try {
+      return annotationType.getMethod(name).getDefaultValue();
+    }
+    catch (NoSuchMethodException e) {
+      throw new IllegalArgumentException("Unknown attribute '" + name + "' of annotation: " + annotationType.getName(), e);
+    }
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
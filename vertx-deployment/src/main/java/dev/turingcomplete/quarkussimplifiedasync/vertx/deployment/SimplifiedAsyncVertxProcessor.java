@@ -1,15 +1,88 @@
 package dev.turingcomplete.quarkussimplifiedasync.vertx.deployment;
 
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.MicrometerVertxAsyncMetrics;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.NoopVertxAsyncMetrics;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.AsyncBatched;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.AsyncBulkhead;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.AsyncCoalesced;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.AsyncDelayed;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.AsyncDurable;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.AsyncRetry;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.CoalescingKey;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.ExecutorKind;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.OrderingKey;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.SaturationPolicy;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.SimplifiedAsyncVertxConfig;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.SimplifiedAsyncVertxRecorder;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.TaskPriority;
 import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncInterceptor;
 import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncBatchDescriptor;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncBulkheadDescriptor;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncBulkheadRegistry;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncContextPropagation;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutorDescriptor;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutorManagement;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutorOverrides;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutorRegistry;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncJournal;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncJournalSettings;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncMethodDescriptor;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncMethodIndex;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncParallel;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncRetryDescriptor;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncShutdownSettings;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncTimer;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveMethodBuildItem;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import javax.inject.Singleton;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 class SimplifiedAsyncVertxProcessor {
 
+    private static final Logger LOGGER = Logger.getLogger(SimplifiedAsyncVertxProcessor.class);
+
     private static final String FEATURE = "simplified-async-vertx";
 
+    private static final DotName ASYNC = DotName.createSimple(Async.class.getName());
+    private static final DotName VERTX_ASYNC = DotName.createSimple(VertxAsync.class.getName());
+    private static final DotName ORDERING_KEY = DotName.createSimple(OrderingKey.class.getName());
+    private static final DotName ASYNC_BATCHED = DotName.createSimple(AsyncBatched.class.getName());
+    private static final DotName ASYNC_BULKHEAD = DotName.createSimple(AsyncBulkhead.class.getName());
+    private static final DotName ASYNC_DELAYED = DotName.createSimple(AsyncDelayed.class.getName());
+    private static final DotName ASYNC_RETRY = DotName.createSimple(AsyncRetry.class.getName());
+    private static final DotName ASYNC_COALESCED = DotName.createSimple(AsyncCoalesced.class.getName());
+    private static final DotName COALESCING_KEY = DotName.createSimple(CoalescingKey.class.getName());
+    private static final DotName ASYNC_DURABLE = DotName.createSimple(AsyncDurable.class.getName());
+    private static final DotName LIST = DotName.createSimple(List.class.getName());
+
     @BuildStep
     FeatureBuildItem feature() {
         return new FeatureBuildItem(FEATURE);
@@ -18,6 +91,533 @@ class SimplifiedAsyncVertxProcessor {
     @BuildStep
     AdditionalBeanBuildItem additionalBean() {
         return new AdditionalBeanBuildItem(VertxAsyncInterceptor.class,
-                                           VertxAsync.class);
+                                           VertxAsync.class,
+                                           AsyncBatched.class,
+                                           VertxAsyncExecutorRegistry.class,
+                                           VertxAsyncBulkheadRegistry.class,
+                                           VertxAsyncContextPropagation.class,
+                                           VertxAsyncTimer.class,
+                                           VertxAsyncParallel.class,
+                                           VertxAsyncJournal.class,
+                                           NoopVertxAsyncMetrics.class);
+    }
+
+    /**
+     * Registers the {@link MicrometerVertxAsyncMetrics} if the Quarkus
+     * Micrometer extension is present. Otherwise, the
+     * {@link NoopVertxAsyncMetrics} will be used.
+     */
+    @BuildStep
+    void metrics(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (capabilities.isPresent(Capability.MICROMETER)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(MicrometerVertxAsyncMetrics.class));
+        }
+    }
+
+    /**
+     * The {@link VertxAsyncExecutorManagement} can also be looked up
+     * programmatically. Its HTTP endpoint is provided by the separate
+     * <em>Simplified Async via Vert.x - Management</em> extension.
+     */
+    @BuildStep
+    AdditionalBeanBuildItem management() {
+        return AdditionalBeanBuildItem.unremovableOf(VertxAsyncExecutorManagement.class);
+    }
+
+    /**
+     * Discovers all @{@link Async} and @{@link VertxAsync} methods in the
+     * index and computes their {@link VertxAsyncMethodDescriptor}s.
+     */
+    @BuildStep
+    void collectAsyncMethods(CombinedIndexBuildItem combinedIndex,
+                             BuildProducer<VertxAsyncMethodBuildItem> asyncMethods,
+                             BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
+                             BuildProducer<ReflectiveMethodBuildItem> reflectiveMethods) {
+
+        IndexView index = combinedIndex.getIndex();
+
+        Map<String, MethodInfo> methods = new LinkedHashMap<>();
+        for (DotName annotationName : List.of(ASYNC, VERTX_ASYNC, ASYNC_BATCHED)) {
+            for (AnnotationInstance annotation : index.getAnnotations(annotationName)) {
+                AnnotationTarget target = annotation.target();
+                if (target.kind() == AnnotationTarget.Kind.METHOD) {
+                    collectMethod(target.asMethod(), methods);
+                }
+                else if (target.kind() == AnnotationTarget.Kind.CLASS) {
+                    // Both annotations are @Inherited
+                    collectClassMethods(target.asClass(), methods);
+                    index.getAllKnownSubclasses(target.asClass().name()).forEach(subclass -> collectClassMethods(subclass, methods));
+                }
+            }
+        }
+
+        validateFeatureAnnotations(index, methods);
+
+        for (MethodInfo method : methods.values()) {
+            VertxAsyncMethodDescriptor descriptor = createDescriptor(method, index, methods);
+            asyncMethods.produce(new VertxAsyncMethodBuildItem(method, descriptor));
+
+            // The `VertxAsyncMethodIndex` resolves the methods during the
+            // static initialization, which also needs to work in native mode.
+            reflectiveMethods.produce(new ReflectiveMethodBuildItem(method));
+            if (descriptor.isBatched()) {
+                reflectiveMethods.produce(new ReflectiveMethodBuildItem(findBulkMethod(method, descriptor.getBatchDescriptor())));
+            }
+            reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, descriptor.getDeclaringClassName()));
+            for (String parameterTypeName : descriptor.getParameterTypeNames()) {
+                // Skip primitive and array types
+                if (parameterTypeName.contains(".") && !parameterTypeName.startsWith("[")) {
+                    reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, parameterTypeName));
+                }
+            }
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    SyntheticBeanBuildItem methodIndex(SimplifiedAsyncVertxRecorder recorder,
+                                       List<VertxAsyncMethodBuildItem> asyncMethods) {
+
+        List<VertxAsyncMethodDescriptor> descriptors = asyncMethods.stream()
+                                                                   .map(VertxAsyncMethodBuildItem::getDescriptor)
+                                                                   .collect(Collectors.toList());
+        warnAboutConflictingExecutorDescriptors(descriptors);
+        return SyntheticBeanBuildItem.configure(VertxAsyncMethodIndex.class)
+                                     .scope(Singleton.class)
+                                     .unremovable()
+                                     .runtimeValue(recorder.createMethodIndex(descriptors))
+                                     .done();
+    }
+
+    /**
+     * Provides the executor attributes from the runtime configuration, which
+     * can be changed without rebuilding the application.
+     */
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    SyntheticBeanBuildItem executorOverrides(SimplifiedAsyncVertxRecorder recorder, SimplifiedAsyncVertxConfig config) {
+        return SyntheticBeanBuildItem.configure(VertxAsyncExecutorOverrides.class)
+                                     .scope(Singleton.class)
+                                     .unremovable()
+                                     .setRuntimeInit()
+                                     .runtimeValue(recorder.createExecutorOverrides(config))
+                                     .done();
+    }
+
+    /**
+     * Provides the journal settings from the runtime configuration, so that
+     * the journal directory can differ per deployment.
+     */
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    SyntheticBeanBuildItem journalSettings(SimplifiedAsyncVertxRecorder recorder, SimplifiedAsyncVertxConfig config) {
+        return SyntheticBeanBuildItem.configure(VertxAsyncJournalSettings.class)
+                                     .scope(Singleton.class)
+                                     .unremovable()
+                                     .setRuntimeInit()
+                                     .runtimeValue(recorder.createJournalSettings(config))
+                                     .done();
+    }
+
+    /**
+     * Provides the timeout of the draining of the executors during the
+     * shutdown from the runtime configuration.
+     */
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    SyntheticBeanBuildItem shutdownSettings(SimplifiedAsyncVertxRecorder recorder, SimplifiedAsyncVertxConfig config) {
+        return SyntheticBeanBuildItem.configure(VertxAsyncShutdownSettings.class)
+                                     .scope(Singleton.class)
+                                     .unremovable()
+                                     .setRuntimeInit()
+                                     .runtimeValue(recorder.createShutdownSettings(config))
+                                     .done();
+    }
+
+    /**
+     * Only the attributes of the first method which uses an executor name
+     * are taken into account. Diverging attributes of other methods are
+     * most likely a mistake.
+     */
+    private static void warnAboutConflictingExecutorDescriptors(List<VertxAsyncMethodDescriptor> descriptors) {
+        Map<String, VertxAsyncMethodDescriptor> firstDescriptors = new HashMap<>();
+        for (VertxAsyncMethodDescriptor descriptor : descriptors) {
+            VertxAsyncExecutorDescriptor executorDescriptor = descriptor.getExecutorDescriptor();
+            if (descriptor.usesDefaultExecutor() || descriptor.isNonBlocking()) {
+                continue;
+            }
+
+            VertxAsyncMethodDescriptor firstDescriptor = firstDescriptors.putIfAbsent(executorDescriptor.getName(), descriptor);
+            if (firstDescriptor != null && !firstDescriptor.getExecutorDescriptor().equals(executorDescriptor)) {
+                LOGGER.warnf("The @VertxAsync method '%s#%s' defines different attributes for the executor '%s' than the method '%s#%s'. " +
+                             "Only the attributes of the latter are used. The attributes can be set via the configuration " +
+                             "'quarkus.simplified-async.executors.\"%s\".*'.",
+                             descriptor.getDeclaringClassName(), descriptor.getMethodName(), executorDescriptor.getName(),
+                             firstDescriptor.getDeclaringClassName(), firstDescriptor.getMethodName(), executorDescriptor.getName());
+            }
+        }
+    }
+
+    /**
+     * The feature annotations are only evaluated for the collected @{@link Async}
+     * methods. On any other method, they would be silently ignored.
+     */
+    private static void validateFeatureAnnotations(IndexView index, Map<String, MethodInfo> methods) {
+        for (DotName annotationName : List.of(ASYNC_BULKHEAD, ASYNC_DELAYED, ASYNC_RETRY, ASYNC_COALESCED, ASYNC_DURABLE)) {
+            for (AnnotationInstance annotation : index.getAnnotations(annotationName)) {
+                if (annotation.target().kind() != AnnotationTarget.Kind.METHOD) {
+                    continue;
+                }
+
+                MethodInfo method = annotation.target().asMethod();
+                if (!methods.containsKey(methodKey(method))) {
+                    throw new IllegalStateException("The @" + annotationName.withoutPackagePrefix() + " method '" + method.declaringClass().name() + "#" +
+                                                    method.name() + "' must be a non-private, non-static @Async method, otherwise the annotation has no effect.");
+                }
+            }
+        }
+    }
+
+    private static void collectClassMethods(ClassInfo classInfo, Map<String, MethodInfo> methods) {
+        // Includes annotation types which are meta-annotated with @Async
+        if (Modifier.isInterface(classInfo.flags())) {
+            return;
+        }
+
+        for (MethodInfo method : classInfo.methods()) {
+            collectMethod(method, methods);
+        }
+    }
+
+    private static void collectMethod(MethodInfo method, Map<String, MethodInfo> methods) {
+        // Only these methods can be intercepted
+        short flags = method.flags();
+        if (Modifier.isPrivate(flags) || Modifier.isStatic(flags) || Modifier.isAbstract(flags) || method.isSynthetic()
+                || method.name().equals("<init>") || method.name().equals("<clinit>")) {
+            return;
+        }
+
+        methods.putIfAbsent(methodKey(method), method);
+    }
+
+    private static String methodKey(MethodInfo method) {
+        return method.declaringClass().name() + "#" + method.name() + method.parameters();
+    }
+
+    private static VertxAsyncMethodDescriptor createDescriptor(MethodInfo method, IndexView index, Map<String, MethodInfo> methods) {
+        String declaringClassName = method.declaringClass().name().toString();
+        String[] parameterTypeNames = method.parameters().stream()
+                                            .map(SimplifiedAsyncVertxProcessor::erasedTypeName)
+                                            .toArray(String[]::new);
+        VertxAsyncMethodDescriptor.ReturnType returnType = VertxAsyncMethodDescriptor.ReturnType.of(method.returnType().name().toString());
+
+        AnnotationInstance vertxAsync = findVertxAsyncAnnotation(method, index);
+        VertxAsyncExecutorDescriptor executorDescriptor = vertxAsync != null ? createExecutorDescriptor(vertxAsync) : null;
+        if (executorDescriptor != null) {
+            validateExecutor(method, executorDescriptor);
+        }
+
+        AnnotationInstance asyncBatched = method.annotation(ASYNC_BATCHED);
+        VertxAsyncBatchDescriptor batchDescriptor = asyncBatched != null ? createBatchDescriptor(asyncBatched) : null;
+        if (batchDescriptor != null) {
+            validateBatchedMethod(method, returnType, batchDescriptor, methods);
+        }
+
+        AnnotationInstance asyncBulkhead = method.annotation(ASYNC_BULKHEAD);
+        VertxAsyncBulkheadDescriptor bulkheadDescriptor = asyncBulkhead != null ? createBulkheadDescriptor(asyncBulkhead, method) : null;
+        if (bulkheadDescriptor != null) {
+            validateBulkheadMethod(method, bulkheadDescriptor, batchDescriptor);
+        }
+
+        int orderingKeyParameterIndex = findOrderingKeyParameterIndex(method);
+        boolean nonBlocking = vertxAsync != null && AnnotationValues.booleanValue(vertxAsync, VertxAsync.class, "nonBlocking");
+        if (nonBlocking) {
+            validateNonBlockingMethod(method, orderingKeyParameterIndex, batchDescriptor);
+        }
+
+        TaskPriority priority = vertxAsync != null ? AnnotationValues.enumValue(vertxAsync, VertxAsync.class, "priority", TaskPriority.class) : TaskPriority.NORMAL;
+        if (priority != TaskPriority.NORMAL) {
+            validatePrioritizedMethod(method, orderingKeyParameterIndex, nonBlocking);
+        }
+
+        AnnotationInstance asyncDelayed = method.annotation(ASYNC_DELAYED);
+        long delayMillis = asyncDelayed != null ? delayMillis(asyncDelayed) : VertxAsyncMethodDescriptor.NO_DELAY;
+        if (asyncDelayed != null) {
+            validateDelayedMethod(method, delayMillis, batchDescriptor);
+        }
+
+        AnnotationInstance asyncRetry = method.annotation(ASYNC_RETRY);
+        VertxAsyncRetryDescriptor retryDescriptor = asyncRetry != null ? createRetryDescriptor(asyncRetry) : null;
+        if (retryDescriptor != null) {
+            validateRetryMethod(method, retryDescriptor, orderingKeyParameterIndex, batchDescriptor);
+        }
+
+        int[] coalescingKeyParameterIndices = null;
+        if (method.hasAnnotation(ASYNC_COALESCED)) {
+            validateCoalescedMethod(method, returnType, batchDescriptor);
+            coalescingKeyParameterIndices = findCoalescingKeyParameterIndices(method);
+        }
+
+        boolean durable = method.hasAnnotation(ASYNC_DURABLE);
+        if (durable) {
+            validateDurableMethod(method, batchDescriptor, coalescingKeyParameterIndices);
+        }
+
+        return VertxAsyncMethodDescriptor.builder(declaringClassName, method.name(), parameterTypeNames, returnType)
+                                         .executorDescriptor(executorDescriptor)
+                                         .orderingKeyParameterIndex(orderingKeyParameterIndex)
+                                         .batchDescriptor(batchDescriptor)
+                                         .bulkheadDescriptor(bulkheadDescriptor)
+                                         .nonBlocking(nonBlocking)
+                                         .delayMillis(delayMillis)
+                                         .retryDescriptor(retryDescriptor)
+                                         .priority(priority)
+                                         .coalescingKeyParameterIndices(coalescingKeyParameterIndices)
+                                         .durable(durable)
+                                         .build();
+    }
+
+    /**
+     * A journaled call can't be bridged back to its caller, because it may
+     * get executed after a restart.
+     */
+    private static void validateDurableMethod(MethodInfo method, VertxAsyncBatchDescriptor batchDescriptor, int[] coalescingKeyParameterIndices) {
+        String methodName = method.declaringClass().name() + "#" + method.name();
+        if (method.returnType().kind() != Type.Kind.VOID) {
+            throw new IllegalStateException("The @AsyncDurable method '" + methodName + "' must return void.");
+        }
+        if (batchDescriptor != null) {
+            throw new IllegalStateException("The @AsyncDurable method '" + methodName + "' must not be an @AsyncBatched method.");
+        }
+        if (coalescingKeyParameterIndices != null) {
+            throw new IllegalStateException("The @AsyncDurable method '" + methodName + "' must not be an @AsyncCoalesced method.");
+        }
+    }
+
+    private static void validateCoalescedMethod(MethodInfo method,
+                                                VertxAsyncMethodDescriptor.ReturnType returnType,
+                                                VertxAsyncBatchDescriptor batchDescriptor) {
+
+        String methodName = method.declaringClass().name() + "#" + method.name();
+        if (returnType == VertxAsyncMethodDescriptor.ReturnType.MUTINY_MULTI) {
+            throw new IllegalStateException("The @AsyncCoalesced method '" + methodName + "' must not have a Multi return type.");
+        }
+        if (batchDescriptor != null) {
+            throw new IllegalStateException("The @AsyncCoalesced method '" + methodName + "' must not be an @AsyncBatched method.");
+        }
+    }
+
+    /**
+     * Without any {@link CoalescingKey} parameters, all parameters identify a
+     * call.
+     */
+    private static int[] findCoalescingKeyParameterIndices(MethodInfo method) {
+        int[] keyParameterIndices = method.annotations(COALESCING_KEY).stream()
+                                          .filter(annotation -> annotation.target().kind() == AnnotationTarget.Kind.METHOD_PARAMETER)
+                                          .mapToInt(annotation -> annotation.target().asMethodParameter().position())
+                                          .sorted()
+                                          .toArray();
+        return keyParameterIndices.length > 0 ? keyParameterIndices : IntStream.range(0, method.parameters().size()).toArray();
+    }
+
+    private static void validatePrioritizedMethod(MethodInfo method, int orderingKeyParameterIndex, boolean nonBlocking) {
+        String methodName = method.declaringClass().name() + "#" + method.name();
+        if (orderingKeyParameterIndex != VertxAsyncMethodDescriptor.NO_ORDERING_KEY) {
+            throw new IllegalStateException("The prioritized @VertxAsync method '" + methodName + "' must not have an @OrderingKey parameter.");
+        }
+        if (nonBlocking) {
+            throw new IllegalStateException("The prioritized @VertxAsync method '" + methodName + "' must not be non-blocking.");
+        }
+    }
+
+    private static VertxAsyncRetryDescriptor createRetryDescriptor(AnnotationInstance asyncRetry) {
+        TimeUnit delayUnit = AnnotationValues.enumValue(asyncRetry, AsyncRetry.class, "delayUnit", TimeUnit.class);
+        return new VertxAsyncRetryDescriptor(AnnotationValues.intValue(asyncRetry, AsyncRetry.class, "maxAttempts"),
+                                             delayUnit.toMillis(AnnotationValues.longValue(asyncRetry, AsyncRetry.class, "delay")),
+                                             delayUnit.toMillis(AnnotationValues.longValue(asyncRetry, AsyncRetry.class, "maxDelay")),
+                                             AnnotationValues.doubleValue(asyncRetry, AsyncRetry.class, "multiplier"),
+                                             AnnotationValues.doubleValue(asyncRetry, AsyncRetry.class, "jitter"),
+                                             AnnotationValues.classNamesValue(asyncRetry, AsyncRetry.class, "retryOn"),
+                                             AnnotationValues.classNamesValue(asyncRetry, AsyncRetry.class, "abortOn"));
+    }
+
+    private static void validateRetryMethod(MethodInfo method,
+                                            VertxAsyncRetryDescriptor retryDescriptor,
+                                            int orderingKeyParameterIndex,
+                                            VertxAsyncBatchDescriptor batchDescriptor) {
+
+        String methodName = method.declaringClass().name() + "#" + method.name();
+        if (retryDescriptor.getMaxAttempts() < 1) {
+            throw new IllegalStateException("The @AsyncRetry method '" + methodName + "' must have at least one attempt.");
+        }
+        if (retryDescriptor.getDelayMillis() < 0 || retryDescriptor.getMaxDelayMillis() < retryDescriptor.getDelayMillis()) {
+            throw new IllegalStateException("The @AsyncRetry method '" + methodName + "' must have a non-negative delay that is not greater than the max delay.");
+        }
+        if (retryDescriptor.getMultiplier() < 1) {
+            throw new IllegalStateException("The @AsyncRetry method '" + methodName + "' must have a multiplier of at least one.");
+        }
+        if (retryDescriptor.getJitter() < 0 || retryDescriptor.getJitter() > 1) {
+            throw new IllegalStateException("The @AsyncRetry method '" + methodName + "' must have a jitter between zero and one.");
+        }
+        if (orderingKeyParameterIndex != VertxAsyncMethodDescriptor.NO_ORDERING_KEY) {
+            throw new IllegalStateException("The @AsyncRetry method '" + methodName + "' must not have an @OrderingKey parameter.");
+        }
+        if (batchDescriptor != null) {
+            throw new IllegalStateException("The @AsyncRetry method '" + methodName + "' must not be an @AsyncBatched method.");
+        }
+    }
+
+    private static long delayMillis(AnnotationInstance asyncDelayed) {
+        return AnnotationValues.enumValue(asyncDelayed, AsyncDelayed.class, "unit", TimeUnit.class)
+                               .toMillis(AnnotationValues.longValue(asyncDelayed, AsyncDelayed.class, "value"));
+    }
+
+    private static void validateExecutor(MethodInfo method, VertxAsyncExecutorDescriptor executorDescriptor) {
+        int maxQueueSize = executorDescriptor.getMaxQueueSize();
+        if (maxQueueSize < 1 && maxQueueSize != VertxAsync.UNBOUNDED_QUEUE_SIZE) {
+            // A size of zero would otherwise silently make the queue unbounded
+            String methodName = method.declaringClass().name() + "#" + method.name();
+            throw new IllegalStateException("The maximum queue size of the executor '" + executorDescriptor.getName() + "' of the @VertxAsync method '"
+                                            + methodName + "' must be positive or " + VertxAsync.UNBOUNDED_QUEUE_SIZE + ".");
+        }
+    }
+
+    private static void validateDelayedMethod(MethodInfo method, long delayMillis, VertxAsyncBatchDescriptor batchDescriptor) {
+        String methodName = method.declaringClass().name() + "#" + method.name();
+        if (delayMillis <= 0) {
+            throw new IllegalStateException("The @AsyncDelayed method '" + methodName + "' must have a delay of at least one millisecond.");
+        }
+        if (batchDescriptor != null) {
+            throw new IllegalStateException("The @AsyncDelayed method '" + methodName + "' must not be an @AsyncBatched method.");
+        }
+    }
+
+    private static void validateNonBlockingMethod(MethodInfo method, int orderingKeyParameterIndex, VertxAsyncBatchDescriptor batchDescriptor) {
+        String methodName = method.declaringClass().name() + "#" + method.name();
+        if (orderingKeyParameterIndex != VertxAsyncMethodDescriptor.NO_ORDERING_KEY) {
+            throw new IllegalStateException("The non-blocking @VertxAsync method '" + methodName + "' must not have an @OrderingKey parameter.");
+        }
+        if (batchDescriptor != null) {
+            throw new IllegalStateException("The non-blocking @VertxAsync method '" + methodName + "' must not be an @AsyncBatched method.");
+        }
+    }
+
+    private static VertxAsyncBulkheadDescriptor createBulkheadDescriptor(AnnotationInstance asyncBulkhead, MethodInfo method) {
+        String name = AnnotationValues.stringValue(asyncBulkhead, AsyncBulkhead.class, "value");
+        return new VertxAsyncBulkheadDescriptor(name.isEmpty() ? VertxAsyncBulkheadDescriptor.defaultName(method.declaringClass().name().toString(), method.name()) : name,
+                                                AnnotationValues.intValue(asyncBulkhead, AsyncBulkhead.class, "maxConcurrency"),
+                                                AnnotationValues.intValue(asyncBulkhead, AsyncBulkhead.class, "minConcurrency"),
+                                                AnnotationValues.booleanValue(asyncBulkhead, AsyncBulkhead.class, "adaptive"));
+    }
+
+    private static void validateBulkheadMethod(MethodInfo method,
+                                               VertxAsyncBulkheadDescriptor bulkheadDescriptor,
+                                               VertxAsyncBatchDescriptor batchDescriptor) {
+
+        String methodName = method.declaringClass().name() + "#" + method.name();
+        if (batchDescriptor != null) {
+            throw new IllegalStateException("The @AsyncBulkhead method '" + methodName + "' must not be an @AsyncBatched method.");
+        }
+        if (bulkheadDescriptor.getMaxConcurrency() < 1) {
+            throw new IllegalStateException("The @AsyncBulkhead method '" + methodName + "' must have a positive maximum concurrency.");
+        }
+        if (bulkheadDescriptor.getMinConcurrency() < 1 || bulkheadDescriptor.getMinConcurrency() > bulkheadDescriptor.getMaxConcurrency()) {
+            throw new IllegalStateException("The @AsyncBulkhead method '" + methodName + "' must have a minimum concurrency between 1 and its maximum concurrency.");
+        }
+    }
+
+    private static VertxAsyncBatchDescriptor createBatchDescriptor(AnnotationInstance asyncBatched) {
+        return new VertxAsyncBatchDescriptor(AnnotationValues.stringValue(asyncBatched, AsyncBatched.class, "value"),
+                                             AnnotationValues.intValue(asyncBatched, AsyncBatched.class, "maxBatchSize"),
+                                             AnnotationValues.longValue(asyncBatched, AsyncBatched.class, "maxDelay"),
+                                             AnnotationValues.enumValue(asyncBatched, AsyncBatched.class, "maxDelayUnit", TimeUnit.class));
+    }
+
+    private static void validateBatchedMethod(MethodInfo method,
+                                              VertxAsyncMethodDescriptor.ReturnType returnType,
+                                              VertxAsyncBatchDescriptor batchDescriptor,
+                                              Map<String, MethodInfo> methods) {
+
+        String methodName = method.declaringClass().name() + "#" + method.name();
+        if (method.parameters().size() != 1) {
+            throw new IllegalStateException("The @AsyncBatched method '" + methodName + "' must have exactly one parameter.");
+        }
+        if (returnType == VertxAsyncMethodDescriptor.ReturnType.MUTINY_UNI || returnType == VertxAsyncMethodDescriptor.ReturnType.MUTINY_MULTI) {
+            throw new IllegalStateException("The @AsyncBatched method '" + methodName + "' must not return a Mutiny type.");
+        }
+        if (batchDescriptor.getMaxBatchSize() < 1) {
+            throw new IllegalStateException("The @AsyncBatched method '" + methodName + "' must have a positive maximum batch size.");
+        }
+        // The bulk method gets invoked on the intercepted bean instance
+        if (methods.containsKey(methodKey(findBulkMethod(method, batchDescriptor)))) {
+            throw new IllegalStateException("The bulk method '" + batchDescriptor.getBulkMethodName() + "(java.util.List)' of the @AsyncBatched method '" +
+                                            methodName + "' must not be an @Async method.");
+        }
+    }
+
+    private static MethodInfo findBulkMethod(MethodInfo method, VertxAsyncBatchDescriptor batchDescriptor) {
+        MethodInfo bulkMethod = method.declaringClass().method(batchDescriptor.getBulkMethodName(), Type.create(LIST, Type.Kind.CLASS));
+        if (bulkMethod == null) {
+            throw new IllegalStateException("The bulk method '" + batchDescriptor.getBulkMethodName() + "(java.util.List)' of the @AsyncBatched method '" +
+                                            method.declaringClass().name() + "#" + method.name() + "' does not exist.");
+        }
+        return bulkMethod;
+    }
+
+    private static int findOrderingKeyParameterIndex(MethodInfo method) {
+        for (AnnotationInstance annotation : method.annotations(ORDERING_KEY)) {
+            if (annotation.target().kind() == AnnotationTarget.Kind.METHOD_PARAMETER) {
+                return annotation.target().asMethodParameter().position();
+            }
+        }
+        return VertxAsyncMethodDescriptor.NO_ORDERING_KEY;
+    }
+
+    private static VertxAsyncExecutorDescriptor createExecutorDescriptor(AnnotationInstance vertxAsync) {
+        return new VertxAsyncExecutorDescriptor(AnnotationValues.stringValue(vertxAsync, VertxAsync.class, "value"),
+                                                AnnotationValues.intValue(vertxAsync, VertxAsync.class, "executorPoolSize"),
+                                                AnnotationValues.longValue(vertxAsync, VertxAsync.class, "maxExecutionTime"),
+                                                AnnotationValues.enumValue(vertxAsync, VertxAsync.class, "maxExecutionTimeUnit", TimeUnit.class),
+                                                AnnotationValues.booleanValue(vertxAsync, VertxAsync.class, "enforceMaxExecutionTime"),
+                                                AnnotationValues.intValue(vertxAsync, VertxAsync.class, "maxQueueSize"),
+                                                AnnotationValues.enumValue(vertxAsync, VertxAsync.class, "saturationPolicy", SaturationPolicy.class),
+                                                AnnotationValues.longValue(vertxAsync, VertxAsync.class, "maxBlockTime"),
+                                                AnnotationValues.enumValue(vertxAsync, VertxAsync.class, "maxBlockTimeUnit", TimeUnit.class),
+                                                AnnotationValues.enumValue(vertxAsync, VertxAsync.class, "executorKind", ExecutorKind.class));
+    }
+
+    /**
+     * Finds the @{@link VertxAsync} annotation of the given method or, if not
+     * present, the one of its declaring class or any of its superclasses.
+     */
+    private static AnnotationInstance findVertxAsyncAnnotation(MethodInfo method, IndexView index) {
+        for (AnnotationInstance annotation : method.annotations(VERTX_ASYNC)) {
+            if (annotation.target().kind() == AnnotationTarget.Kind.METHOD) {
+                return annotation;
+            }
+        }
+
+        ClassInfo classInfo = method.declaringClass();
+        while (classInfo != null) {
+            AnnotationInstance annotation = classInfo.classAnnotation(VERTX_ASYNC);
+            if (annotation != null) {
+                return annotation;
+            }
+            classInfo = classInfo.superName() != null ? index.getClassByName(classInfo.superName()) : null;
+        }
+
+        return null;
+    }
+
+    private static String erasedTypeName(Type type) {
+        switch (type.kind()) {
+            case TYPE_VARIABLE:
+                List<Type> bounds = type.asTypeVariable().bounds();
+                return bounds.isEmpty() ? Object.class.getName() : erasedTypeName(bounds.get(0));
+            case UNRESOLVED_TYPE_VARIABLE:
+                return Object.class.getName();
+            default:
+                return type.name().toString();
+        }
     }
 }
@@ -0,0 +1,37 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.deployment;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncMethodDescriptor;
+import io.quarkus.builder.item.MultiBuildItem;
+import org.jboss.jandex.MethodInfo;
+
+/**
+ * Represents an @{@link Async} method that was discovered in the Jandex index.
+ */
+public final class VertxAsyncMethodBuildItem extends MultiBuildItem {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final MethodInfo                 method;
+  private final VertxAsyncMethodDescriptor descriptor;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  public VertxAsyncMethodBuildItem(MethodInfo method, VertxAsyncMethodDescriptor descriptor) {
+    this.method = method;
+    this.descriptor = descriptor;
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  public MethodInfo getMethod() {
+    return method;
+  }
+
+  public VertxAsyncMethodDescriptor getDescriptor() {
+    return descriptor;
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,183 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.DefaultAsyncUncaughtExceptionHandler;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Tests for the {@link DefaultAsyncUncaughtExceptionHandler}.
+ */
+class DefaultAsyncUncaughtExceptionHandlerTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final long LOG_INTERVAL_NANOS = 1_000;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether {@link DefaultAsyncUncaughtExceptionHandler} counts the
+   * failures per method without throwing.
+   */
+  @Test
+  void testCountsFailuresWithoutThrowing() throws NoSuchMethodException {
+    var handler = new DefaultAsyncUncaughtExceptionHandler(1, TimeUnit.HOURS);
+    Method failingMethod = DefaultAsyncUncaughtExceptionHandlerTest.class.getDeclaredMethod("failingMethod");
+    Method otherMethod = DefaultAsyncUncaughtExceptionHandlerTest.class.getDeclaredMethod("otherMethod");
+
+    assertThatCode(() -> {
+      for (int i = 0; i < 1000; i++) {
+        handler.handleUncaughtException(new IllegalStateException("Failure " + i), failingMethod);
+      }
+    }).doesNotThrowAnyException();
+
+    assertThat(handler.getFailureCount(failingMethod)).isEqualTo(1000);
+    assertThat(handler.getFailureCount(otherMethod)).isZero();
+  }
+
+  /**
+   * Tests whether {@link DefaultAsyncUncaughtExceptionHandler} logs at most
+   * one summary per method within the log interval, each with the failures
+   * since the previous summary.
+   */
+  @Test
+  void testLogsAtMostOneSummaryPerInterval() throws NoSuchMethodException {
+    var time = new AtomicLong();
+    var handler = new RecordingHandler(time::get);
+    Method failingMethod = DefaultAsyncUncaughtExceptionHandlerTest.class.getDeclaredMethod("failingMethod");
+    Method otherMethod = DefaultAsyncUncaughtExceptionHandlerTest.class.getDeclaredMethod("otherMethod");
+
+    // The first failure gets logged immediately
+    for (int i = 0; i < 10; i++) {
+      handler.handleUncaughtException(new IllegalStateException(), failingMethod);
+    }
+    time.addAndGet(LOG_INTERVAL_NANOS - 1);
+    for (int i = 0; i < 5; i++) {
+      handler.handleUncaughtException(new IllegalStateException(), failingMethod);
+    }
+    handler.handleUncaughtException(new IllegalStateException(), otherMethod);
+    assertThat(handler.summaries).containsExactly(new Summary(failingMethod, 1, 1), new Summary(otherMethod, 1, 1));
+
+    time.incrementAndGet();
+    handler.handleUncaughtException(new IllegalStateException(), failingMethod);
+    handler.handleUncaughtException(new IllegalStateException(), failingMethod);
+    assertThat(handler.summaries).containsExactly(new Summary(failingMethod, 1, 1), new Summary(otherMethod, 1, 1),
+                                                  new Summary(failingMethod, 15, 16));
+    assertThat(handler.getFailureCount(failingMethod)).isEqualTo(17);
+  }
+
+  /**
+   * Tests whether {@link DefaultAsyncUncaughtExceptionHandler} reports each
+   * failure of concurrent callers in at most one summary, and logs at most one
+   * summary per log interval.
+   */
+  @Test
+  void testSummarizesFailuresOfConcurrentCallers() throws Exception {
+    int threads = 8;
+    int failuresPerThread = 20_000;
+    // Every read of the time advances it
+    var time = new AtomicLong();
+    var handler = new RecordingHandler(time::incrementAndGet);
+    Method failingMethod = DefaultAsyncUncaughtExceptionHandlerTest.class.getDeclaredMethod("failingMethod");
+
+    var start = new CountDownLatch(1);
+    var callers = new ArrayList<CompletableFuture<Void>>();
+    for (int i = 0; i < threads; i++) {
+      callers.add(CompletableFuture.runAsync(() -> {
+        try {
+          start.await();
+        }
+        catch (InterruptedException e) {
+          throw new IllegalStateException(e);
+        }
+        for (int j = 0; j < failuresPerThread; j++) {
+          handler.handleUncaughtException(new IllegalStateException(), failingMethod);
+        }
+      }, runnable -> new Thread(runnable).start()));
+    }
+    start.countDown();
+    assertThatCode(() -> CompletableFuture.allOf(callers.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS))
+            .doesNotThrowAnyException();
+
+    long totalFailureCount = (long) threads * failuresPerThread;
+    assertThat(handler.getFailureCount(failingMethod)).isEqualTo(totalFailureCount);
+    assertThat(handler.summaries).isNotEmpty()
+                                 .hasSizeLessThanOrEqualTo((int) (time.get() / LOG_INTERVAL_NANOS) + 1);
+    long reportedCount = 0;
+    for (Summary summary : handler.summaries) {
+      assertThat(summary.failureCount).isPositive();
+      reportedCount += summary.failureCount;
+      assertThat(summary.totalFailureCount).isEqualTo(reportedCount);
+    }
+    assertThat(reportedCount).isLessThanOrEqualTo(totalFailureCount);
+  }
+
+  void failingMethod() {
+  }
+
+  void otherMethod() {
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private static class RecordingHandler extends DefaultAsyncUncaughtExceptionHandler {
+
+    private final List<Summary> summaries = Collections.synchronizedList(new ArrayList<>());
+
+    private RecordingHandler(LongSupplier nanoTime) {
+      super(LOG_INTERVAL_NANOS, TimeUnit.NANOSECONDS, nanoTime);
+    }
+
+    @Override
+    protected void logFailures(Throwable sample, Method method, long failureCount, long totalFailureCount) {
+      summaries.add(new Summary(method, failureCount, totalFailureCount));
+    }
+  }
+
+  private static class Summary {
+
+    private final Method method;
+    private final long   failureCount;
+    private final long   totalFailureCount;
+
+    private Summary(Method method, long failureCount, long totalFailureCount) {
+      this.method = method;
+      this.failureCount = failureCount;
+      this.totalFailureCount = totalFailureCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Summary)) {
+        return false;
+      }
+      var other = (Summary) o;
+      return method.equals(other.method) && failureCount == other.failureCount && totalFailureCount == other.totalFailureCount;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(method, failureCount, totalFailureCount);
+    }
+
+    @Override
+    public String toString() {
+      return method.getName() + ": " + failureCount + " (" + totalFailureCount + " in total)";
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.testkit.AsyncAssertions;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutor;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutorManagement;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutorStatus;
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import javax.inject.Inject;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the {@link VertxAsyncExecutorManagement}.
+ */
+@QuarkusTest
+class VertxAsyncExecutorManagementTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String EXECUTOR_NAME        = "ExecutorManagementTest";
+  private static final String RESIZE_EXECUTOR_NAME = "ResizeExecutorManagementTest";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  @Inject
+  VertxAsyncExecutorManagement executorManagement;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether the status contains the running task and its method.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testStatusContainsLongestRunningTask() throws InterruptedException {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    try {
+      var completed = new CountDownLatch(1);
+      awaitRelease(started, release).onSuccess(ignore -> completed.countDown());
+      assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+
+      VertxAsyncExecutorStatus status = executorManagement.executorStatus(EXECUTOR_NAME);
+      assertThat(status.getActiveTaskCount()).isEqualTo(1);
+      assertThat(status.getPoolSize()).isEqualTo(2);
+      assertThat(status.getLongestRunningMethod()).isEqualTo(VertxAsyncExecutorManagementTest.class.getName() + "#awaitRelease");
+      assertThat(status.getLongestRunningTime()).isNotNull();
+
+      release.countDown();
+      assertThat(completed.await(2, TimeUnit.SECONDS)).isTrue();
+      // The task gets counted after the worker thread has left it
+      while (executorManagement.executorStatus(EXECUTOR_NAME).getCompletedTaskCount() < 1) {
+        Thread.sleep(10);
+      }
+      assertThat(executorManagement.executorStatus(EXECUTOR_NAME).getActiveTaskCount()).isZero();
+    }
+    finally {
+      release.countDown();
+    }
+
+    assertThat(executorManagement.executorStatuses()).extracting(VertxAsyncExecutorStatus::getName)
+                                                     .contains(VertxAsyncExecutor.VERTX_WORKER_POOL_NAME, EXECUTOR_NAME);
+  }
+
+  @VertxAsync(value = EXECUTOR_NAME, executorPoolSize = 2)
+  Future<Void> awaitRelease(CountDownLatch started, CountDownLatch release) throws InterruptedException {
+    started.countDown();
+    release.await();
+    return succeededFuture();
+  }
+
+  /**
+   * Tests whether the pool size of a shared worker executor can be changed
+   * and the one of the default Vert.x worker pool not.
+   */
+  @Test
+  void testSetPoolSize() {
+    executorManagement.setPoolSize(RESIZE_EXECUTOR_NAME, 4);
+    assertThat(executorManagement.executorStatus(RESIZE_EXECUTOR_NAME).getPoolSize()).isEqualTo(4);
+    executorManagement.setPoolSize(RESIZE_EXECUTOR_NAME, 1);
+    assertThat(executorManagement.executorStatus(RESIZE_EXECUTOR_NAME).getPoolSize()).isEqualTo(1);
+
+    assertThatThrownBy(() -> executorManagement.setPoolSize(VertxAsyncExecutor.VERTX_WORKER_POOL_NAME, 4)).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> executorManagement.setPoolSize("Unknown", 4)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @VertxAsync(value = RESIZE_EXECUTOR_NAME, executorPoolSize = 2)
+  void neverCalledMethod() {
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
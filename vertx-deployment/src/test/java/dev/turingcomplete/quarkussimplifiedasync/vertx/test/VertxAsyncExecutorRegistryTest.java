@@ -0,0 +1,68 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutorRegistry;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncMethodDescriptor;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncMethodIndex;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import javax.inject.Inject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the {@link VertxAsyncExecutorRegistry}.
+ */
+@QuarkusTest
+class VertxAsyncExecutorRegistryTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String CUSTOM_EXECUTOR_NAME     = "ExecutorRegistryTest";
+  private static final String CONFIGURED_EXECUTOR_NAME = "ConfiguredExecutorRegistryTest";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  @Inject
+  VertxAsyncExecutorRegistry executorRegistry;
+
+  @Inject
+  VertxAsyncMethodIndex methodIndex;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether the executors of all discovered @{@link VertxAsync} methods
+   * get created during the startup and get reused for all calls.
+   */
+  @Test
+  void testExecutorCreatedDuringStartup() throws NoSuchMethodException {
+    assertThat(executorRegistry.executorNames()).contains(CUSTOM_EXECUTOR_NAME);
+
+    VertxAsyncMethodDescriptor descriptor = methodIndex.get(VertxAsyncExecutorRegistryTest.class.getDeclaredMethod("neverCalledMethod"));
+    assertThat(executorRegistry.executor(descriptor)).isSameAs(executorRegistry.executor(descriptor));
+  }
+
+  @VertxAsync(CUSTOM_EXECUTOR_NAME)
+  void neverCalledMethod() {
+  }
+
+  /**
+   * Tests whether the configured executor attributes override the ones of
+   * the annotation.
+   */
+  @Test
+  void testExecutorAttributesOverriddenByConfiguration() throws NoSuchMethodException {
+    VertxAsyncMethodDescriptor descriptor = methodIndex.get(VertxAsyncExecutorRegistryTest.class.getDeclaredMethod("configuredMethod"));
+    assertThat(descriptor.getExecutorDescriptor().getMaxQueueSize()).isEqualTo(VertxAsync.UNBOUNDED_QUEUE_SIZE);
+    assertThat(executorRegistry.executor(descriptor).getMaxQueueSize()).isEqualTo(5);
+  }
+
+  @VertxAsync(value = CONFIGURED_EXECUTOR_NAME, executorPoolSize = 1)
+  void configuredMethod() {
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
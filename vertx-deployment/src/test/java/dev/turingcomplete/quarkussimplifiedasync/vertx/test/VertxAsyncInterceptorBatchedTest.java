@@ -0,0 +1,151 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.vertx.AsyncBatched;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncInterceptor;
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.core.Future;
+import org.jboss.logging.MDC;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the batching via {@link AsyncBatched}.
+ */
+@QuarkusTest
+class VertxAsyncInterceptorBatchedTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final int    FULL_BATCH_SIZE = 5;
+  private static final String MDC_KEY         = "BatchedTest";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final List<List<Integer>> fullBatches    = Collections.synchronizedList(new ArrayList<>());
+  private final List<List<Integer>> delayedBatches = Collections.synchronizedList(new ArrayList<>());
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} executes a full batch
+   * immediately and completes each call with its own result.
+   */
+  @Test
+  void testFullBatch() throws Exception {
+    var results = new ArrayList<CompletableFuture<String>>();
+    for (int i = 0; i < FULL_BATCH_SIZE; i++) {
+      results.add(batchedBySize(i).toCompletionStage().toCompletableFuture());
+    }
+
+    for (int i = 0; i < FULL_BATCH_SIZE; i++) {
+      assertThat(results.get(i).get(2, TimeUnit.SECONDS)).isEqualTo("Result-" + i);
+    }
+    assertThat(fullBatches).containsExactly(List.of(0, 1, 2, 3, 4));
+  }
+
+  @AsyncBatched(value = "bulkBySize", maxBatchSize = FULL_BATCH_SIZE, maxDelay = 1, maxDelayUnit = TimeUnit.MINUTES)
+  Future<String> batchedBySize(Integer argument) {
+    throw new IllegalStateException("Never executed");
+  }
+
+  List<String> bulkBySize(List<Integer> arguments) {
+    fullBatches.add(List.copyOf(arguments));
+    return arguments.stream().map(argument -> "Result-" + argument).collect(Collectors.toList());
+  }
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} executes a batch which is not
+   * full after the maximum delay.
+   */
+  @Test
+  void testDelayedBatch() throws Exception {
+    CompletableFuture<Integer> first = batchedByDelay(1);
+    CompletableFuture<Integer> second = batchedByDelay(2);
+
+    assertThat(first.get(2, TimeUnit.SECONDS)).isEqualTo(2);
+    assertThat(second.get(2, TimeUnit.SECONDS)).isEqualTo(4);
+    assertThat(delayedBatches).containsExactly(List.of(1, 2));
+  }
+
+  @AsyncBatched(value = "bulkByDelay", maxDelay = 50)
+  CompletableFuture<Integer> batchedByDelay(Integer argument) {
+    throw new IllegalStateException("Never executed");
+  }
+
+  List<Integer> bulkByDelay(List<Integer> arguments) {
+    delayedBatches.add(List.copyOf(arguments));
+    return arguments.stream().map(argument -> argument * 2).collect(Collectors.toList());
+  }
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} fails all calls of a batch if
+   * the bulk method fails.
+   */
+  @Test
+  void testFailedBatch() {
+    CompletableFuture<Void> first = batchedFailure("a");
+    CompletableFuture<Void> second = batchedFailure("b");
+
+    for (CompletableFuture<Void> result : List.of(first, second)) {
+      assertThatThrownBy(() -> result.get(2, TimeUnit.SECONDS))
+              .isInstanceOf(ExecutionException.class)
+              .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @AsyncBatched(value = "bulkFailure", maxBatchSize = 2)
+  CompletableFuture<Void> batchedFailure(String argument) {
+    throw new IllegalStateException("Never executed");
+  }
+
+  void bulkFailure(List<String> arguments) {
+    throw new IllegalArgumentException("FooBar");
+  }
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} executes the bulk method
+   * within the context of the first call of the batch, even if the batch gets
+   * executed by the timer, and whether a returned {@code Future} of the bulk
+   * method gets mapped to the calls.
+   */
+  @Test
+  void testPropagatesContextOfFirstCall() throws Exception {
+    CompletableFuture<String> first;
+    CompletableFuture<String> second;
+    try {
+      MDC.put(MDC_KEY, "First");
+      first = batchedWithContext("a");
+      MDC.put(MDC_KEY, "Second");
+      second = batchedWithContext("b");
+    }
+    finally {
+      MDC.remove(MDC_KEY);
+    }
+
+    assertThat(first.get(2, TimeUnit.SECONDS)).isEqualTo("a-First");
+    assertThat(second.get(2, TimeUnit.SECONDS)).isEqualTo("b-First");
+  }
+
+  @AsyncBatched(value = "bulkWithContext", maxDelay = 50)
+  CompletableFuture<String> batchedWithContext(String argument) {
+    throw new IllegalStateException("Never executed");
+  }
+
+  Future<List<String>> bulkWithContext(List<String> arguments) {
+    Object mdcValue = MDC.get(MDC_KEY);
+    return Future.succeededFuture(arguments.stream().map(argument -> argument + "-" + mdcValue).collect(Collectors.toList()));
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
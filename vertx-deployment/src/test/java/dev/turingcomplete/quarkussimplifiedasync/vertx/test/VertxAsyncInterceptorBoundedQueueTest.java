@@ -0,0 +1,208 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.testkit.AsyncAssertions;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.SaturationPolicy;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutor;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutorRegistry;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncInterceptor;
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import javax.inject.Inject;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for executors with a bounded queue via {@link VertxAsync#maxQueueSize()}.
+ */
+@QuarkusTest
+class VertxAsyncInterceptorBoundedQueueTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String REJECT_EXECUTOR_NAME      = "BoundedQueueRejectTest";
+  private static final String CALLER_RUNS_EXECUTOR_NAME = "BoundedQueueCallerRunsTest";
+  private static final String BLOCK_EXECUTOR_NAME       = "BoundedQueueBlockTest";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  @Inject
+  VertxAsyncExecutorRegistry executorRegistry;
+
+  @Inject
+  Vertx vertx;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} rejects a call with
+   * {@link SaturationPolicy#REJECT} if the single worker thread is busy and
+   * the queue is full.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testRejectWhenQueueIsFull() throws InterruptedException {
+    VertxAsyncExecutor executor = findExecutor(REJECT_EXECUTOR_NAME);
+    long rejectedTaskCount = executor.getRejectedTaskCount();
+
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    try {
+      // Occupies the single worker thread
+      Future<Void> running = rejectAfterQueueIsFull(started, release);
+      assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+
+      // Occupies the single queue slot
+      Future<Void> queued = rejectAfterQueueIsFull(new CountDownLatch(1), release);
+      assertThat(executor.getQueueSize()).isEqualTo(1);
+
+      Future<Void> rejected = rejectAfterQueueIsFull(new CountDownLatch(1), release);
+      assertThat(rejected.failed()).isTrue();
+      assertThat(rejected.cause()).isInstanceOf(RejectedExecutionException.class);
+      assertThat(executor.getRejectedTaskCount()).isEqualTo(rejectedTaskCount + 1);
+
+      release.countDown();
+      var completed = new CountDownLatch(2);
+      running.onSuccess(ignore -> completed.countDown());
+      queued.onSuccess(ignore -> completed.countDown());
+      assertThat(completed.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+    finally {
+      release.countDown();
+    }
+  }
+
+  @VertxAsync(value = REJECT_EXECUTOR_NAME, executorPoolSize = 1, maxQueueSize = 1, saturationPolicy = SaturationPolicy.REJECT)
+  Future<Void> rejectAfterQueueIsFull(CountDownLatch started, CountDownLatch release) throws InterruptedException {
+    started.countDown();
+    release.await();
+    return succeededFuture();
+  }
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} executes a call with
+   * {@link SaturationPolicy#CALLER_RUNS} in the calling thread if the single
+   * worker thread is busy and the queue is full.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testCallerRunsWhenQueueIsFull() throws InterruptedException {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    try {
+      callerRunsAfterQueueIsFull(started, release);
+      assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+      callerRunsAfterQueueIsFull(new CountDownLatch(1), release);
+
+      // Uses an already released latch, because it gets executed in this thread
+      Future<String> callerRuns = callerRunsAfterQueueIsFull(new CountDownLatch(1), new CountDownLatch(0));
+      assertThat(callerRuns.succeeded()).isTrue();
+      assertThat(callerRuns.result()).isEqualTo(Thread.currentThread().getName());
+    }
+    finally {
+      release.countDown();
+    }
+  }
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} rejects a call with
+   * {@link SaturationPolicy#CALLER_RUNS} instead of executing it, if the
+   * calling thread is an event loop thread.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testCallerRunsRejectsOnEventLoop() throws Exception {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    try {
+      callerRunsAfterQueueIsFull(started, release);
+      assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+      callerRunsAfterQueueIsFull(new CountDownLatch(1), release);
+
+      var onEventLoop = new CompletableFuture<Future<String>>();
+      vertx.runOnContext(ignore -> {
+        try {
+          onEventLoop.complete(callerRunsAfterQueueIsFull(new CountDownLatch(1), new CountDownLatch(0)));
+        }
+        catch (InterruptedException e) {
+          onEventLoop.completeExceptionally(e);
+        }
+      });
+      Future<String> rejected = onEventLoop.get(2, TimeUnit.SECONDS);
+      assertThat(rejected.failed()).isTrue();
+      assertThat(rejected.cause()).isInstanceOf(RejectedExecutionException.class);
+    }
+    finally {
+      release.countDown();
+    }
+  }
+
+  @VertxAsync(value = CALLER_RUNS_EXECUTOR_NAME, executorPoolSize = 1, maxQueueSize = 1, saturationPolicy = SaturationPolicy.CALLER_RUNS)
+  Future<String> callerRunsAfterQueueIsFull(CountDownLatch started, CountDownLatch release) throws InterruptedException {
+    started.countDown();
+    release.await();
+    return succeededFuture(Thread.currentThread().getName());
+  }
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} rejects a call with
+   * {@link SaturationPolicy#BLOCK} right away, instead of blocking for the
+   * maximum block time, if the calling thread is an event loop thread.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testBlockRejectsOnEventLoop() throws Exception {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    try {
+      blockAfterQueueIsFull(started, release);
+      assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+      blockAfterQueueIsFull(new CountDownLatch(1), release);
+
+      var onEventLoop = new CompletableFuture<Future<Void>>();
+      vertx.runOnContext(ignore -> {
+        try {
+          onEventLoop.complete(blockAfterQueueIsFull(new CountDownLatch(1), new CountDownLatch(0)));
+        }
+        catch (InterruptedException e) {
+          onEventLoop.completeExceptionally(e);
+        }
+      });
+      // Would only return after the maximum block time of one minute
+      Future<Void> rejected = onEventLoop.get(2, TimeUnit.SECONDS);
+      assertThat(rejected.failed()).isTrue();
+      assertThat(rejected.cause()).isInstanceOf(RejectedExecutionException.class);
+    }
+    finally {
+      release.countDown();
+    }
+  }
+
+  @VertxAsync(value = BLOCK_EXECUTOR_NAME, executorPoolSize = 1, maxQueueSize = 1, saturationPolicy = SaturationPolicy.BLOCK,
+              maxBlockTime = 1, maxBlockTimeUnit = TimeUnit.MINUTES)
+  Future<Void> blockAfterQueueIsFull(CountDownLatch started, CountDownLatch release) throws InterruptedException {
+    started.countDown();
+    release.await();
+    return succeededFuture();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private VertxAsyncExecutor findExecutor(String name) {
+    return executorRegistry.executors().stream()
+                           .filter(executor -> executor.getName().equals(name))
+                           .findFirst()
+                           .orElseThrow(() -> new AssertionError("No executor: " + name));
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
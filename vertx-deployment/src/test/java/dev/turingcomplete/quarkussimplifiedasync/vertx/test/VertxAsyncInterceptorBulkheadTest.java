@@ -0,0 +1,128 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.testkit.AsyncAssertions;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.AsyncBulkhead;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncBulkhead;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncBulkheadRegistry;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncInterceptor;
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import javax.inject.Inject;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the concurrency limits via {@link AsyncBulkhead}.
+ */
+@QuarkusTest
+class VertxAsyncInterceptorBulkheadTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String EXECUTOR_NAME          = "BulkheadTest";
+  private static final String BULKHEAD_NAME          = "BulkheadTest";
+  private static final String ADAPTIVE_BULKHEAD_NAME = "AdaptiveBulkheadTest";
+  private static final int    CALLS                  = 6;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  @Inject
+  VertxAsyncBulkheadRegistry bulkheadRegistry;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} does not execute more calls
+   * of the methods of a bulkhead concurrently than its limit, without
+   * blocking the caller.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testLimitsConcurrencyOfBulkhead() throws InterruptedException {
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+    var started = new CountDownLatch(2);
+    var release = new CountDownLatch(1);
+    var completed = new CountDownLatch(CALLS);
+    try {
+      // Both methods share the bulkhead
+      for (int i = 0; i < CALLS / 2; i++) {
+        limited1(running, maxRunning, started, release).onSuccess(ignore -> completed.countDown());
+        limited2(running, maxRunning, started, release).onSuccess(ignore -> completed.countDown());
+      }
+
+      assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+      VertxAsyncBulkhead bulkhead = findBulkhead(BULKHEAD_NAME);
+      assertThat(bulkhead.getRunning()).isEqualTo(2);
+      assertThat(bulkhead.getWaiting()).isEqualTo(CALLS - 2);
+
+      release.countDown();
+      assertThat(completed.await(2, TimeUnit.SECONDS)).isTrue();
+      assertThat(maxRunning).hasValue(2);
+    }
+    finally {
+      release.countDown();
+    }
+  }
+
+  @VertxAsync(value = EXECUTOR_NAME, executorPoolSize = 8)
+  @AsyncBulkhead(value = BULKHEAD_NAME, maxConcurrency = 2)
+  Future<Void> limited1(AtomicInteger running, AtomicInteger maxRunning, CountDownLatch started, CountDownLatch release) throws InterruptedException {
+    return awaitRelease(running, maxRunning, started, release);
+  }
+
+  @VertxAsync(value = EXECUTOR_NAME, executorPoolSize = 8)
+  @AsyncBulkhead(value = BULKHEAD_NAME, maxConcurrency = 2)
+  Future<Void> limited2(AtomicInteger running, AtomicInteger maxRunning, CountDownLatch started, CountDownLatch release) throws InterruptedException {
+    return awaitRelease(running, maxRunning, started, release);
+  }
+
+  /**
+   * Tests whether an adaptive bulkhead decreases its limit down to the
+   * minimum concurrency if the executions fail.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testAdaptiveLimitDecreasesOnFailures() throws InterruptedException {
+    for (int i = 0; i < 10; i++) {
+      var failed = new CountDownLatch(1);
+      failing().onFailure(ignore -> failed.countDown());
+      assertThat(failed.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    assertThat(findBulkhead(ADAPTIVE_BULKHEAD_NAME).getLimit()).isEqualTo(2);
+  }
+
+  @VertxAsync(value = EXECUTOR_NAME, executorPoolSize = 8)
+  @AsyncBulkhead(value = ADAPTIVE_BULKHEAD_NAME, maxConcurrency = 8, minConcurrency = 2, adaptive = true)
+  Future<Void> failing() {
+    return Future.failedFuture("Dependency is down");
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private Future<Void> awaitRelease(AtomicInteger running, AtomicInteger maxRunning, CountDownLatch started, CountDownLatch release) throws InterruptedException {
+    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+    started.countDown();
+    release.await();
+    running.decrementAndGet();
+    return succeededFuture();
+  }
+
+  private VertxAsyncBulkhead findBulkhead(String name) {
+    return bulkheadRegistry.bulkheads().stream()
+                           .filter(bulkhead -> bulkhead.getName().equals(name))
+                           .findFirst()
+                           .orElseThrow();
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,106 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import dev.turingcomplete.quarkussimplifiedasync.testkit.AsyncAssertions;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.AsyncCoalesced;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.CoalescingKey;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncInterceptor;
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the coalescing of identical calls of @{@link AsyncCoalesced}
+ * methods.
+ */
+@QuarkusTest
+class VertxAsyncInterceptorCoalescedTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} executes identical calls only
+   * once while the first call is in-flight, but calls with another key and
+   * later calls separately.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testCoalescesIdenticalInFlightCalls() throws Exception {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var executions = new AtomicInteger();
+
+    Future<Integer> first = refresh("a", started, release, executions);
+    assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+    Future<Integer> second = refresh("a", new CountDownLatch(1), release, executions);
+    Future<Integer> other = refresh("b", new CountDownLatch(1), release, executions);
+    release.countDown();
+
+    assertThat(first.toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS)).isEqualTo(1);
+    assertThat(second.toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS)).isEqualTo(1);
+    assertThat(other.toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS)).isEqualTo(2);
+
+    // The in-flight call was completed, so the next call gets executed again
+    assertThat(refresh("a", new CountDownLatch(1), release, executions).toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS)).isEqualTo(3);
+  }
+
+  @Async
+  @AsyncCoalesced
+  Future<Integer> refresh(@CoalescingKey String tenantId, CountDownLatch started, CountDownLatch release, AtomicInteger executions) {
+    int execution = executions.incrementAndGet();
+    started.countDown();
+    try {
+      release.await();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return succeededFuture(execution);
+  }
+
+  /**
+   * Tests whether the cancellation of a joined call does not affect the
+   * other callers.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testCancellationOfJoinedCallDoesNotAffectOthers() throws Exception {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+
+    CompletableFuture<String> first = load("a", started, release);
+    assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<String> second = load("a", started, release);
+    assertThat(second.cancel(false)).isTrue();
+    release.countDown();
+
+    assertThat(first.get(2, TimeUnit.SECONDS)).isEqualTo("a");
+  }
+
+  @Async
+  @AsyncCoalesced
+  CompletableFuture<String> load(String key, CountDownLatch started, CountDownLatch release) {
+    started.countDown();
+    try {
+      release.await();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return CompletableFuture.completedFuture(key);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
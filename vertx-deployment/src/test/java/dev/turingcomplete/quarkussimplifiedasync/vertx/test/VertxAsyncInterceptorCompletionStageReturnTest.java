@@ -0,0 +1,111 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import dev.turingcomplete.quarkussimplifiedasync.testkit.AsyncAssertions;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncInterceptor;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static dev.turingcomplete.quarkussimplifiedasync.testkit.AsyncAssertions.assertAsyncMethodExecutedInParallel;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for methods with a {@link CompletionStage} or
+ * {@link CompletableFuture} return type.
+ */
+@QuarkusTest
+class VertxAsyncInterceptorCompletionStageReturnTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String CUSTOM_EXECUTOR_NAME = "CompletionStageReturnTest";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} executes a method with a
+   * {@link CompletionStage} return type asynchronously in parallel.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testCompletionStageParallelExecution() throws InterruptedException {
+    assertAsyncMethodExecutedInParallel(this::completionStageNullReturn);
+  }
+
+  @Async
+  @SuppressWarnings("UnusedReturnValue")
+  CompletionStage<Void> completionStageNullReturn(Runnable runnable) {
+    runnable.run();
+    return null;
+  }
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} passes the result of a returned
+   * {@link CompletionStage} to the {@link CompletableFuture} of the original
+   * call, which gets executed on a worker thread.
+   */
+  @Test
+  void testCompletionStageResult() throws Exception {
+    CompletionStage<String> result = completionStageResult();
+
+    assertThat(result).isInstanceOf(CompletableFuture.class);
+    assertThat(result.toCompletableFuture().get(2, TimeUnit.SECONDS)).startsWith(CUSTOM_EXECUTOR_NAME);
+  }
+
+  @VertxAsync(CUSTOM_EXECUTOR_NAME)
+  CompletionStage<String> completionStageResult() {
+    return CompletableFuture.completedFuture(Thread.currentThread().getName());
+  }
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} passes the result of a returned
+   * {@link CompletableFuture}, which gets completed later, to the
+   * {@code CompletableFuture} of the original call.
+   */
+  @Test
+  void testCompletableFutureDelayedResult() throws Exception {
+    var delayedResult = new CompletableFuture<String>();
+
+    CompletableFuture<String> result = completableFutureDelayedResult(delayedResult);
+    assertThat(result).isNotSameAs(delayedResult);
+    assertThat(result).isNotDone();
+
+    delayedResult.complete("FooBar");
+    assertThat(result.get(2, TimeUnit.SECONDS)).isEqualTo("FooBar");
+  }
+
+  @Async
+  CompletableFuture<String> completableFutureDelayedResult(CompletableFuture<String> delayedResult) {
+    return delayedResult;
+  }
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} passes an exception thrown by
+   * the method to the {@link CompletableFuture} of the original call.
+   */
+  @Test
+  void testCompletableFutureThrownException() {
+    CompletableFuture<String> result = completableFutureThrownException();
+
+    assertThatThrownBy(() -> result.get(2, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @Async
+  CompletableFuture<String> completableFutureThrownException() {
+    throw new IllegalStateException("FooBar");
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,103 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import dev.turingcomplete.quarkussimplifiedasync.testkit.AsyncAssertions;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncContextPropagation;
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.core.Future;
+import org.jboss.logging.MDC;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.control.ActivateRequestContext;
+import javax.inject.Inject;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the propagation of the caller context via
+ * {@link VertxAsyncContextPropagation}.
+ */
+@QuarkusTest
+class VertxAsyncInterceptorContextPropagationTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String MDC_KEY = "ContextPropagationTest";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  @Inject
+  RequestData requestData;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether the MDC of the caller is visible in the async method and
+   * gets removed from the worker thread afterwards.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testPropagatesMdc() throws Exception {
+    MDC.put(MDC_KEY, "Foo");
+    try {
+      assertThat(readMdc().toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS)).isEqualTo("Foo");
+      assertThat(readMdcAsCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS)).isEqualTo("Foo");
+    }
+    finally {
+      MDC.remove(MDC_KEY);
+    }
+
+    assertThat(readMdc().toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS)).isNull();
+  }
+
+  @Async
+  Future<Object> readMdc() {
+    return succeededFuture(MDC.get(MDC_KEY));
+  }
+
+  @Async
+  CompletionStage<Object> readMdcAsCompletionStage() {
+    return CompletableFuture.completedFuture(MDC.get(MDC_KEY));
+  }
+
+  /**
+   * Tests whether the request context of the caller is active in the async
+   * method.
+   */
+  @Test
+  @ActivateRequestContext
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testPropagatesRequestContext() throws Exception {
+    requestData.setValue("Bar");
+
+    assertThat(readRequestData().toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS)).isEqualTo("Bar");
+  }
+
+  @Async
+  Future<String> readRequestData() {
+    return succeededFuture(requestData.getValue());
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  @RequestScoped
+  public static class RequestData {
+
+    private String value;
+
+    public String getValue() {
+      return value;
+    }
+
+    public void setValue(String value) {
+      this.value = value;
+    }
+  }
+}
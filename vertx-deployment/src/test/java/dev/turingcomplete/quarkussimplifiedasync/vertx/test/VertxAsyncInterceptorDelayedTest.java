@@ -0,0 +1,140 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import dev.turingcomplete.quarkussimplifiedasync.testkit.AsyncAssertions;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.AsyncDelayed;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.SaturationPolicy;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncCancellation;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncInterceptor;
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the delayed execution of @{@link AsyncDelayed} methods.
+ */
+@QuarkusTest
+class VertxAsyncInterceptorDelayedTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final long   DELAY_MILLIS              = 300;
+  private static final String CALLER_RUNS_EXECUTOR_NAME = "DelayedCallerRunsTest";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} executes a delayed method not
+   * before its delay has elapsed.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testExecutesAfterDelay() throws Exception {
+    long callNanos = System.nanoTime();
+    long futureExecutionNanos = delayedNanoTime().toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS);
+    assertThat(TimeUnit.NANOSECONDS.toMillis(futureExecutionNanos - callNanos)).isGreaterThanOrEqualTo(DELAY_MILLIS);
+
+    callNanos = System.nanoTime();
+    long completableFutureExecutionNanos = delayedNanoTimeAsCompletableFuture().get(2, TimeUnit.SECONDS);
+    assertThat(TimeUnit.NANOSECONDS.toMillis(completableFutureExecutionNanos - callNanos)).isGreaterThanOrEqualTo(DELAY_MILLIS);
+  }
+
+  @Async
+  @AsyncDelayed(DELAY_MILLIS)
+  Future<Long> delayedNanoTime() {
+    return succeededFuture(System.nanoTime());
+  }
+
+  @Async
+  @AsyncDelayed(DELAY_MILLIS)
+  CompletableFuture<Long> delayedNanoTimeAsCompletableFuture() {
+    return CompletableFuture.completedFuture(System.nanoTime());
+  }
+
+  /**
+   * Tests whether a call which was cancelled during its delay does not get
+   * executed.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testCancelledCallIsNotExecuted() throws Exception {
+    var executed = new AtomicBoolean();
+    assertThat(VertxAsyncCancellation.cancel(delayedExecution(executed))).isTrue();
+    assertThat(delayedExecutionAsCompletableFuture(executed).cancel(false)).isTrue();
+
+    // Gets executed after the cancelled calls would have been executed
+    var completed = new CountDownLatch(1);
+    delayedExecution(new AtomicBoolean()).onSuccess(ignore -> completed.countDown());
+    assertThat(completed.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(executed).isFalse();
+  }
+
+  @Async
+  @AsyncDelayed(DELAY_MILLIS)
+  Future<Void> delayedExecution(AtomicBoolean executed) {
+    executed.set(true);
+    return succeededFuture();
+  }
+
+  @Async
+  @AsyncDelayed(DELAY_MILLIS)
+  CompletableFuture<Void> delayedExecutionAsCompletableFuture(AtomicBoolean executed) {
+    executed.set(true);
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Tests whether a delayed call gets rejected instead of being executed on
+   * the thread of the timing wheel, if the queue of its
+   * {@link SaturationPolicy#CALLER_RUNS} executor is full.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testCallerRunsRejectsOnWheelThread() throws InterruptedException {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    try {
+      // Occupies the single worker thread and the single queue slot
+      occupyCallerRunsExecutor(started, release);
+      assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+      occupyCallerRunsExecutor(new CountDownLatch(1), release);
+
+      CompletableFuture<String> rejected = delayedCallerRuns();
+      assertThatThrownBy(() -> rejected.get(2, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                                                                  .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+    finally {
+      release.countDown();
+    }
+  }
+
+  @VertxAsync(value = CALLER_RUNS_EXECUTOR_NAME, executorPoolSize = 1, maxQueueSize = 1, saturationPolicy = SaturationPolicy.CALLER_RUNS)
+  CompletableFuture<Void> occupyCallerRunsExecutor(CountDownLatch started, CountDownLatch release) throws InterruptedException {
+    started.countDown();
+    release.await();
+    return CompletableFuture.completedFuture(null);
+  }
+
+  @VertxAsync(value = CALLER_RUNS_EXECUTOR_NAME, executorPoolSize = 1, maxQueueSize = 1, saturationPolicy = SaturationPolicy.CALLER_RUNS)
+  @AsyncDelayed(DELAY_MILLIS)
+  CompletableFuture<String> delayedCallerRuns() {
+    return CompletableFuture.completedFuture(Thread.currentThread().getName());
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
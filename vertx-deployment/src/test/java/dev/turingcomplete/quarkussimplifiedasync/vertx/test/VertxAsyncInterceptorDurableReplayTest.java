@@ -0,0 +1,91 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import dev.turingcomplete.quarkussimplifiedasync.testkit.AsyncAssertions;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.AsyncDurable;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncJournal;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncJournalSettings;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the replay of the unacknowledged calls of @{@link AsyncDurable}
+ * methods from a previous run, which get journaled before the application
+ * starts.
+ */
+@QuarkusTest
+@QuarkusTestResource(value = VertxAsyncInterceptorDurableReplayTest.PreviousRunJournal.class, restrictToAnnotatedClass = true)
+class VertxAsyncInterceptorDurableReplayTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String METHOD_ID = VertxAsyncInterceptorDurableReplayTest.class.getName() + "#sendReminder(java.lang.String)";
+
+  private static final Queue<String>  REPLAYED_ORDER_IDS = new ConcurrentLinkedQueue<>();
+  private static final CountDownLatch REPLAYED           = new CountDownLatch(2);
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether the unacknowledged calls of the previous run get executed
+   * after the startup.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testReplaysCallsOfPreviousRun() throws Exception {
+    assertThat(REPLAYED.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(REPLAYED_ORDER_IDS).containsExactlyInAnyOrder("order-1", "order-2");
+  }
+
+  @Async
+  @AsyncDurable
+  void sendReminder(String orderId) {
+    REPLAYED_ORDER_IDS.add(orderId);
+    REPLAYED.countDown();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  /**
+   * Journals the calls of a previous run, which never got acknowledged, into
+   * a separate journal directory.
+   */
+  public static class PreviousRunJournal implements QuarkusTestResourceLifecycleManager {
+
+    private static final int SEGMENT_SIZE = 64 * 1024;
+
+    @Override
+    public Map<String, String> start() {
+      try {
+        Path directory = Files.createTempDirectory("simplified-async-journal");
+        var journal = new VertxAsyncJournal(new VertxAsyncJournalSettings(directory, SEGMENT_SIZE));
+        journal.append(METHOD_ID, new Object[]{"order-1"}).get(2, TimeUnit.SECONDS);
+        journal.append(METHOD_ID, new Object[]{"order-2"}).get(2, TimeUnit.SECONDS);
+        journal.close();
+        return Map.of("quarkus.simplified-async.durable.directory", directory.toString());
+      }
+      catch (Exception e) {
+        throw new IllegalStateException("Failed to journal the calls of the previous run.", e);
+      }
+    }
+
+    @Override
+    public void stop() {
+    }
+  }
+}
@@ -0,0 +1,162 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import dev.turingcomplete.quarkussimplifiedasync.testkit.AsyncAssertions;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.AsyncDurable;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.SaturationPolicy;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutor;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutorRegistry;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncInterceptor;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncJournal;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncJournalSettings;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import javax.inject.Inject;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the journaled execution of @{@link AsyncDurable} methods.
+ */
+@QuarkusTest
+class VertxAsyncInterceptorDurableTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String SATURATED_EXECUTOR_NAME = "DurableSaturatedTest";
+  private static final String BLOCKING_ORDER_ID       = "blocking-order";
+
+  // The parameters of a durable method must be serializable
+  private static final Queue<String>  EXECUTED_ORDER_IDS = new ConcurrentLinkedQueue<>();
+  private static final CountDownLatch EXECUTED           = new CountDownLatch(2);
+  private static final CountDownLatch BLOCKING_STARTED   = new CountDownLatch(1);
+  private static final CountDownLatch BLOCKING_RELEASE   = new CountDownLatch(1);
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  @Inject
+  VertxAsyncExecutorRegistry executorRegistry;
+
+  @Inject
+  VertxAsyncJournalSettings journalSettings;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} executes the calls after
+   * they have been journaled.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testExecutesJournaledCalls() throws Exception {
+    sendInvoice("order-1");
+    sendInvoice("order-2");
+
+    assertThat(EXECUTED.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(EXECUTED_ORDER_IDS).containsExactlyInAnyOrder("order-1", "order-2");
+  }
+
+  @Async
+  @AsyncDurable
+  void sendInvoice(String orderId) {
+    EXECUTED_ORDER_IDS.add(orderId);
+    EXECUTED.countDown();
+  }
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} does not acknowledge a call
+   * which was rejected by the saturated executor, so that it survives a
+   * reopening of the journal.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testRejectedCallStaysInJournal() throws Exception {
+    VertxAsyncExecutor executor = findExecutor(SATURATED_EXECUTOR_NAME);
+    long rejectedTaskCount = executor.getRejectedTaskCount();
+    try {
+      // Occupies the single worker thread
+      sendInvoiceWhenSaturated(BLOCKING_ORDER_ID);
+      assertThat(BLOCKING_STARTED.await(2, TimeUnit.SECONDS)).isTrue();
+
+      // Occupies the single queue slot
+      sendInvoiceWhenSaturated("queued-order");
+      while (executor.getQueueSize() < 1) {
+        Thread.sleep(5);
+      }
+
+      sendInvoiceWhenSaturated("rejected-order");
+      while (executor.getRejectedTaskCount() == rejectedTaskCount) {
+        Thread.sleep(5);
+      }
+
+      // Before the release, so that no acknowledgement deletes a segment while it gets copied
+      assertThat(recoverFromCopiedJournal()).contains("rejected-order");
+    }
+    finally {
+      BLOCKING_RELEASE.countDown();
+    }
+  }
+
+  @VertxAsync(value = SATURATED_EXECUTOR_NAME, executorPoolSize = 1, maxQueueSize = 1, saturationPolicy = SaturationPolicy.REJECT)
+  @AsyncDurable
+  void sendInvoiceWhenSaturated(String orderId) throws InterruptedException {
+    // A replayed call after a restart must not block
+    if (orderId.equals(BLOCKING_ORDER_ID)) {
+      BLOCKING_STARTED.countDown();
+      BLOCKING_RELEASE.await(2, TimeUnit.SECONDS);
+    }
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private VertxAsyncExecutor findExecutor(String name) {
+    return executorRegistry.executors().stream()
+                           .filter(executor -> executor.getName().equals(name))
+                           .findFirst()
+                           .orElseThrow(() -> new AssertionError("No executor: " + name));
+  }
+
+  /**
+   * Reopens a copy of the journal, so that the journal of the running
+   * application does not get modified.
+   *
+   * @return the first parameter of all recovered calls.
+   */
+  private List<Object> recoverFromCopiedJournal() throws Exception {
+    Path copiedDirectory = Files.createTempDirectory("simplified-async-journal");
+    try (Stream<Path> segmentFiles = Files.list(journalSettings.getDirectory())) {
+      for (Path segmentFile : (Iterable<Path>) segmentFiles::iterator) {
+        Files.copy(segmentFile, copiedDirectory.resolve(segmentFile.getFileName()));
+      }
+    }
+
+    var journal = new VertxAsyncJournal(new VertxAsyncJournalSettings(copiedDirectory, journalSettings.getSegmentSize()));
+    try {
+      // Both journaled methods have a single `String` parameter
+      Method method = VertxAsyncInterceptorDurableTest.class.getDeclaredMethod("sendInvoice", String.class);
+      var firstParameters = new ArrayList<>();
+      for (VertxAsyncJournal.RecoveredCall call : journal.recover()) {
+        firstParameters.add(call.getParameters(method)[0]);
+      }
+      return firstParameters;
+    }
+    finally {
+      journal.close();
+    }
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,78 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.testkit.AsyncAssertions;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.ExecutorKind;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncInterceptor;
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the execution on executors of the kind
+ * {@link ExecutorKind#FORK_JOIN}.
+ */
+@QuarkusTest
+class VertxAsyncInterceptorForkJoinTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String EXECUTOR_NAME = "ForkJoinTest";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} executes the methods on a
+   * thread of the fork join pool of the executor.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testExecutesOnForkJoinPool() throws Exception {
+    assertThat(threadName().toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS)).startsWith(EXECUTOR_NAME + "-");
+    assertThat(isForkJoinWorkerThread().get(2, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @VertxAsync(value = EXECUTOR_NAME, executorKind = ExecutorKind.FORK_JOIN)
+  Future<String> threadName() {
+    return succeededFuture(Thread.currentThread().getName());
+  }
+
+  @VertxAsync(value = EXECUTOR_NAME, executorKind = ExecutorKind.FORK_JOIN)
+  CompletableFuture<Boolean> isForkJoinWorkerThread() {
+    return CompletableFuture.completedFuture(Thread.currentThread() instanceof ForkJoinWorkerThread);
+  }
+
+  /**
+   * Tests whether a nested call from a task of the executor gets executed on
+   * the same fork join pool.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testExecutesNestedCallOnSamePool() throws Exception {
+    assertThat(outer().toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @VertxAsync(value = EXECUTOR_NAME, executorKind = ExecutorKind.FORK_JOIN)
+  Future<Boolean> outer() {
+    var outerPool = ForkJoinTask.getPool();
+    return inner().map(innerPool -> outerPool != null && innerPool == outerPool);
+  }
+
+  @VertxAsync(value = EXECUTOR_NAME, executorKind = ExecutorKind.FORK_JOIN)
+  Future<Object> inner() {
+    return succeededFuture(ForkJoinTask.getPool());
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,99 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.MicrometerVertxAsyncMetrics;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+
+import javax.inject.Inject;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the {@link MicrometerVertxAsyncMetrics}.
+ */
+@QuarkusTest
+class VertxAsyncInterceptorMetricsTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String CUSTOM_EXECUTOR_NAME = "MetricsTest";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  @Inject
+  MeterRegistry meterRegistry;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether the meters of an @{@link Async} method get registered
+   * during the startup, before the method was called.
+   */
+  @Test
+  void testMetersRegisteredAtStartup() {
+    assertThat(findTimer(MicrometerVertxAsyncMetrics.QUEUE_WAIT_METER_NAME, "neverCalled").count()).isZero();
+    assertThat(meterRegistry.find(MicrometerVertxAsyncMetrics.IN_FLIGHT_METER_NAME)
+                            .tag("method", "neverCalled")
+                            .tag("executor", VertxAsyncExecutor.VERTX_WORKER_POOL_NAME)
+                            .gauge()).isNotNull();
+    assertThat(meterRegistry.find(MicrometerVertxAsyncMetrics.EXECUTOR_REJECTED_METER_NAME)
+                            .tag("executor", CUSTOM_EXECUTOR_NAME)
+                            .functionCounter()).isNotNull();
+  }
+
+  @Async
+  void neverCalled() {
+  }
+
+  /**
+   * Tests whether a succeeded and a failed call get recorded, including the
+   * result of the returned {@link Future}.
+   */
+  @Test
+  void testSucceededAndFailedExecutionsRecorded() throws InterruptedException {
+    Timer succeeded = findTimer(MicrometerVertxAsyncMetrics.EXECUTION_METER_NAME, "recorded", "success");
+    Timer failed = findTimer(MicrometerVertxAsyncMetrics.EXECUTION_METER_NAME, "recorded", "failure");
+    Timer queueWait = findTimer(MicrometerVertxAsyncMetrics.QUEUE_WAIT_METER_NAME, "recorded");
+    long succeededCount = succeeded.count();
+    long failedCount = failed.count();
+    long queueWaitCount = queueWait.count();
+
+    var countDownLatch = new CountDownLatch(2);
+    recorded(false).onSuccess(ignore -> countDownLatch.countDown());
+    recorded(true).onFailure(ignore -> countDownLatch.countDown());
+    assertThat(countDownLatch.await(2, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(succeeded.count()).isEqualTo(succeededCount + 1);
+    assertThat(failed.count()).isEqualTo(failedCount + 1);
+    assertThat(queueWait.count()).isEqualTo(queueWaitCount + 2);
+  }
+
+  @VertxAsync(CUSTOM_EXECUTOR_NAME)
+  Future<Void> recorded(boolean fail) {
+    return fail ? Future.failedFuture(new IllegalStateException()) : Future.succeededFuture();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private Timer findTimer(String name, String methodName) {
+    Timer timer = meterRegistry.find(name).tag("class", VertxAsyncInterceptorMetricsTest.class.getName()).tag("method", methodName).timer();
+    assertThat(timer).isNotNull();
+    return timer;
+  }
+
+  private Timer findTimer(String name, String methodName, String outcome) {
+    Timer timer = meterRegistry.find(name).tag("class", VertxAsyncInterceptorMetricsTest.class.getName()).tag("method", methodName).tag("outcome", outcome).timer();
+    assertThat(timer).isNotNull();
+    return timer;
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
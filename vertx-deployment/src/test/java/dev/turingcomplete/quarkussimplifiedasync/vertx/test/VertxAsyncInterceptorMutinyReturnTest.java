@@ -0,0 +1,106 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncInterceptor;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.subscription.Cancellable;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for methods with a Mutiny {@link Uni} or {@link Multi} return type.
+ */
+@QuarkusTest
+class VertxAsyncInterceptorMutinyReturnTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String CUSTOM_EXECUTOR_NAME = "MutinyReturnTest";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final AtomicInteger lazyUniExecutions = new AtomicInteger();
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} only executes a method with
+   * a {@link Uni} return type if the returned {@code Uni} gets subscribed.
+   */
+  @Test
+  void testUniIsLazy() {
+    Uni<String> result = lazyUni();
+    assertThat(lazyUniExecutions.get()).isZero();
+
+    String threadName = result.await().atMost(Duration.ofSeconds(2));
+    assertThat(threadName).startsWith(CUSTOM_EXECUTOR_NAME);
+    assertThat(lazyUniExecutions.get()).isEqualTo(1);
+  }
+
+  @VertxAsync(CUSTOM_EXECUTOR_NAME)
+  Uni<String> lazyUni() {
+    lazyUniExecutions.incrementAndGet();
+    return Uni.createFrom().item(Thread.currentThread().getName());
+  }
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} propagates the cancellation of
+   * the returned {@link Uni} to the actual returned {@code Uni}.
+   */
+  @Test
+  void testUniCancellation() throws InterruptedException {
+    var subscribed = new CountDownLatch(1);
+    var cancelled = new CountDownLatch(1);
+
+    Cancellable cancellable = neverCompletingUni(subscribed, cancelled).subscribe().with(item -> { });
+    assertThat(subscribed.await(2, TimeUnit.SECONDS)).isTrue();
+
+    cancellable.cancel();
+    assertThat(cancelled.await(2, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @VertxAsync(CUSTOM_EXECUTOR_NAME)
+  Uni<String> neverCompletingUni(CountDownLatch subscribed, CountDownLatch cancelled) {
+    return Uni.createFrom().<String>nothing()
+              .onSubscription().invoke(subscribed::countDown)
+              .onCancellation().invoke(cancelled::countDown);
+  }
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} passes the items of the actual
+   * returned {@link Multi}, which are produced on a worker thread, by respecting
+   * the requests of the subscriber.
+   */
+  @Test
+  void testMultiBackpressure() {
+    AssertSubscriber<String> subscriber = multi(10).subscribe().withSubscriber(AssertSubscriber.create(3));
+
+    List<String> firstItems = subscriber.awaitItems(3).getItems();
+    assertThat(firstItems).hasSize(3).allMatch(item -> item.startsWith(CUSTOM_EXECUTOR_NAME));
+
+    subscriber.request(Long.MAX_VALUE);
+    subscriber.awaitCompletion(Duration.ofSeconds(2));
+    assertThat(subscriber.getItems()).hasSize(10);
+  }
+
+  @VertxAsync(CUSTOM_EXECUTOR_NAME)
+  Multi<String> multi(int items) {
+    List<Integer> values = IntStream.range(0, items).boxed().collect(Collectors.toList());
+    return Multi.createFrom().iterable(values).map(value -> Thread.currentThread().getName());
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
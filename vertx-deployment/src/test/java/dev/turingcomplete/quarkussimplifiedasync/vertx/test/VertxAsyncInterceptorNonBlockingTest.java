@@ -0,0 +1,96 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.testkit.AsyncAssertions;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncInterceptor;
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import javax.inject.Inject;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the execution of {@link VertxAsync#nonBlocking()} methods on an
+ * event loop.
+ */
+@QuarkusTest
+class VertxAsyncInterceptorNonBlockingTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  @Inject
+  Vertx vertx;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} executes a non-blocking
+   * method on an event loop if the caller is not on a Vert.x context.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testExecutesOnEventLoop() throws Exception {
+    assertThat(Context.isOnEventLoopThread()).isFalse();
+
+    assertThat(nonBlocking().toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(nonBlockingCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS)).isTrue();
+  }
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} executes a non-blocking
+   * method on the event loop context of the caller.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testExecutesOnContextOfCaller() throws Exception {
+    Context callerContext = vertx.getOrCreateContext();
+    var executionContext = new CompletableFuture<Context>();
+    callerContext.runOnContext(ignore -> currentContext().onSuccess(executionContext::complete));
+
+    assertThat(executionContext.get(2, TimeUnit.SECONDS)).isSameAs(callerContext);
+  }
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} reuses the event loop context
+   * for all calls of a caller which is not on a Vert.x context.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testReusesContextOfCallingThread() throws Exception {
+    assertThat(Vertx.currentContext()).isNull();
+
+    Context firstExecutionContext = currentContext().toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS);
+    Context secondExecutionContext = currentContext().toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS);
+
+    assertThat(firstExecutionContext.isEventLoopContext()).isTrue();
+    assertThat(secondExecutionContext).isSameAs(firstExecutionContext);
+  }
+
+  @VertxAsync(nonBlocking = true)
+  Future<Boolean> nonBlocking() {
+    return succeededFuture(Context.isOnEventLoopThread());
+  }
+
+  @VertxAsync(nonBlocking = true)
+  CompletionStage<Boolean> nonBlockingCompletionStage() {
+    return CompletableFuture.completedFuture(Context.isOnEventLoopThread());
+  }
+
+  @VertxAsync(nonBlocking = true)
+  Future<Context> currentContext() {
+    return succeededFuture(Vertx.currentContext());
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
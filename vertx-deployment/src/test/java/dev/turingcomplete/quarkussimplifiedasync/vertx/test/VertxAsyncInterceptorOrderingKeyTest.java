@@ -0,0 +1,91 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.vertx.OrderingKey;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncInterceptor;
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the ordered execution via {@link OrderingKey}.
+ */
+@QuarkusTest
+class VertxAsyncInterceptorOrderingKeyTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String CUSTOM_EXECUTOR_NAME = "OrderingKeyTest";
+  private static final int    CALLS                = 50;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} executes calls with the same
+   * key serially in the order of the calls.
+   */
+  @Test
+  void testSameKeyExecutedSeriallyInOrder() throws InterruptedException {
+    List<Integer> executionOrder = Collections.synchronizedList(new ArrayList<>());
+    var concurrentExecution = new AtomicBoolean();
+    var running = new AtomicBoolean();
+    var completed = new CountDownLatch(CALLS);
+
+    for (int i = 0; i < CALLS; i++) {
+      ordered(1, i, executionOrder, running, concurrentExecution).onComplete(ignore -> completed.countDown());
+    }
+
+    assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(concurrentExecution).isFalse();
+    assertThat(executionOrder).containsExactlyElementsOf(IntStream.range(0, CALLS).boxed().collect(Collectors.toList()));
+  }
+
+  @VertxAsync(value = CUSTOM_EXECUTOR_NAME, executorPoolSize = 4)
+  Future<Void> ordered(@OrderingKey int key, int call, List<Integer> executionOrder, AtomicBoolean running, AtomicBoolean concurrentExecution) {
+    if (!running.compareAndSet(false, true)) {
+      concurrentExecution.set(true);
+    }
+    executionOrder.add(call);
+    running.set(false);
+    return succeededFuture();
+  }
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} executes calls with different
+   * keys in parallel.
+   */
+  @Test
+  void testDifferentKeysExecutedInParallel() throws InterruptedException {
+    var firstStarted = new CountDownLatch(1);
+    var secondStarted = new CountDownLatch(1);
+    var completed = new CountDownLatch(2);
+
+    // Each call waits for the other, which would never finish if serialized
+    awaitOther(0, firstStarted, secondStarted).onSuccess(ignore -> completed.countDown());
+    awaitOther(1, secondStarted, firstStarted).onSuccess(ignore -> completed.countDown());
+
+    assertThat(completed.await(2, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @VertxAsync(value = CUSTOM_EXECUTOR_NAME, executorPoolSize = 4)
+  Future<Void> awaitOther(@OrderingKey int key, CountDownLatch started, CountDownLatch otherStarted) throws InterruptedException {
+    started.countDown();
+    return otherStarted.await(1, TimeUnit.SECONDS) ? succeededFuture() : Future.failedFuture("Not executed in parallel");
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,158 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.testkit.AsyncAssertions;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.SaturationPolicy;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.TaskPriority;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncInterceptor;
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the prioritized execution of @{@link VertxAsync} methods with a
+ * {@link TaskPriority}.
+ */
+@QuarkusTest
+class VertxAsyncInterceptorPriorityTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String EXECUTOR_NAME         = "PriorityTest";
+  private static final String BOUNDED_EXECUTOR_NAME = "BoundedPriorityTest";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} executes a high-priority call
+   * before already queued low-priority calls, and still executes all of
+   * them.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testHighPriorityOvertakesQueuedLowPriority() throws Exception {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var executionOrder = new ConcurrentLinkedQueue<String>();
+
+    List<Future> executions = new ArrayList<>();
+    executions.add(awaitRelease(started, release));
+    assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+    // The only worker thread is busy, so the following calls get queued
+    for (int i = 0; i < 5; i++) {
+      executions.add(lowPriority("low-" + i, executionOrder));
+    }
+    executions.add(highPriority("high", executionOrder));
+    release.countDown();
+
+    CompositeFuture.all(executions).toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS);
+    assertThat(executionOrder).hasSize(6).first().isEqualTo("high");
+  }
+
+  @VertxAsync(value = EXECUTOR_NAME, executorPoolSize = 1, priority = TaskPriority.LOW)
+  Future<Void> awaitRelease(CountDownLatch started, CountDownLatch release) {
+    started.countDown();
+    try {
+      release.await();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return succeededFuture();
+  }
+
+  @VertxAsync(value = EXECUTOR_NAME, executorPoolSize = 1, priority = TaskPriority.LOW)
+  Future<Void> lowPriority(String name, Queue<String> executionOrder) {
+    executionOrder.add(name);
+    return succeededFuture();
+  }
+
+  @VertxAsync(value = EXECUTOR_NAME, executorPoolSize = 1, priority = TaskPriority.HIGH)
+  Future<Void> highPriority(String name, Queue<String> executionOrder) {
+    executionOrder.add(name);
+    return succeededFuture();
+  }
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} lets a high-priority call
+   * take over the place of the oldest low-priority call in a full queue,
+   * and whether {@link SaturationPolicy#DISCARD_OLDEST} never discards a
+   * high-priority call for a low-priority one.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testHighPriorityDisplacesLowPriorityInFullQueue() throws Exception {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    try {
+      boundedAwaitRelease(started, release);
+      assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+      // The only worker thread is busy, so the following calls get queued
+      Future<Void> firstLow = boundedLowPriority();
+      Future<Void> secondLow = boundedLowPriority();
+
+      Future<Void> firstHigh = boundedHighPriority();
+      assertThat(firstLow.failed()).isTrue();
+      assertThat(firstLow.cause()).isInstanceOf(RejectedExecutionException.class);
+      assertThat(secondLow.isComplete()).isFalse();
+
+      Future<Void> secondHigh = boundedHighPriority();
+      assertThat(secondLow.failed()).isTrue();
+
+      // The queue is full of high-priority calls
+      Future<Void> rejectedLow = boundedLowPriority();
+      assertThat(rejectedLow.failed()).isTrue();
+      assertThat(rejectedLow.cause()).isInstanceOf(RejectedExecutionException.class);
+      assertThat(firstHigh.isComplete()).isFalse();
+      assertThat(secondHigh.isComplete()).isFalse();
+
+      release.countDown();
+      CompositeFuture.all(firstHigh, secondHigh).toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS);
+    }
+    finally {
+      release.countDown();
+    }
+  }
+
+  @VertxAsync(value = BOUNDED_EXECUTOR_NAME, executorPoolSize = 1, maxQueueSize = 2, saturationPolicy = SaturationPolicy.DISCARD_OLDEST,
+              priority = TaskPriority.LOW)
+  Future<Void> boundedAwaitRelease(CountDownLatch started, CountDownLatch release) {
+    started.countDown();
+    try {
+      release.await();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return succeededFuture();
+  }
+
+  @VertxAsync(value = BOUNDED_EXECUTOR_NAME, executorPoolSize = 1, maxQueueSize = 2, saturationPolicy = SaturationPolicy.DISCARD_OLDEST,
+              priority = TaskPriority.LOW)
+  Future<Void> boundedLowPriority() {
+    return succeededFuture();
+  }
+
+  @VertxAsync(value = BOUNDED_EXECUTOR_NAME, executorPoolSize = 1, maxQueueSize = 2, saturationPolicy = SaturationPolicy.DISCARD_OLDEST,
+              priority = TaskPriority.HIGH)
+  Future<Void> boundedHighPriority() {
+    return succeededFuture();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
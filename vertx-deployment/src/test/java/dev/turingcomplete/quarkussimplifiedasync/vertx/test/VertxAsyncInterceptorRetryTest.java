@@ -0,0 +1,120 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import dev.turingcomplete.quarkussimplifiedasync.testkit.AsyncAssertions;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.AsyncRetry;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncInterceptor;
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the retries of @{@link AsyncRetry} methods.
+ */
+@QuarkusTest
+class VertxAsyncInterceptorRetryTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final int MAX_ATTEMPTS = 3;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} retries a failed execution
+   * until it succeeds.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testRetriesUntilSuccess() throws Exception {
+    var attempts = new AtomicInteger();
+    assertThat(failTwice(attempts).toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS)).isEqualTo(MAX_ATTEMPTS);
+    assertThat(attempts).hasValue(MAX_ATTEMPTS);
+
+    var completableFutureAttempts = new AtomicInteger();
+    assertThat(failTwiceAsCompletableFuture(completableFutureAttempts).get(2, TimeUnit.SECONDS)).isEqualTo(MAX_ATTEMPTS);
+    assertThat(completableFutureAttempts).hasValue(MAX_ATTEMPTS);
+  }
+
+  @Async
+  @AsyncRetry(maxAttempts = MAX_ATTEMPTS, delay = 10)
+  Future<Integer> failTwice(AtomicInteger attempts) {
+    int attempt = attempts.incrementAndGet();
+    return attempt < MAX_ATTEMPTS ? failedFuture(new IllegalStateException("Attempt " + attempt)) : succeededFuture(attempt);
+  }
+
+  @Async
+  @AsyncRetry(maxAttempts = MAX_ATTEMPTS, delay = 10)
+  CompletableFuture<Integer> failTwiceAsCompletableFuture(AtomicInteger attempts) {
+    int attempt = attempts.incrementAndGet();
+    return attempt < MAX_ATTEMPTS ? CompletableFuture.failedFuture(new IllegalStateException("Attempt " + attempt))
+                                  : CompletableFuture.completedFuture(attempt);
+  }
+
+  /**
+   * Tests whether the failure of the last attempt gets propagated.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testFailsAfterMaxAttempts() {
+    var attempts = new AtomicInteger();
+    assertThatThrownBy(() -> alwaysFail(attempts).toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasRootCauseMessage("Attempt " + MAX_ATTEMPTS);
+    assertThat(attempts).hasValue(MAX_ATTEMPTS);
+  }
+
+  @Async
+  @AsyncRetry(maxAttempts = MAX_ATTEMPTS, delay = 10)
+  Future<Void> alwaysFail(AtomicInteger attempts) {
+    return failedFuture(new IllegalStateException("Attempt " + attempts.incrementAndGet()));
+  }
+
+  /**
+   * Tests whether failures which are not retryable fail the call immediately.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testDoesNotRetryAbortingFailure() {
+    var attempts = new AtomicInteger();
+    assertThatThrownBy(() -> failWithAbortingFailure(attempts).toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasRootCauseInstanceOf(UnsupportedOperationException.class);
+    assertThat(attempts).hasValue(1);
+
+    var notRetryableAttempts = new AtomicInteger();
+    assertThatThrownBy(() -> failWithNotRetryableFailure(notRetryableAttempts).toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    assertThat(notRetryableAttempts).hasValue(1);
+  }
+
+  @Async
+  @AsyncRetry(maxAttempts = MAX_ATTEMPTS, delay = 10, abortOn = UnsupportedOperationException.class)
+  Future<Void> failWithAbortingFailure(AtomicInteger attempts) {
+    attempts.incrementAndGet();
+    return failedFuture(new UnsupportedOperationException());
+  }
+
+  @Async
+  @AsyncRetry(maxAttempts = MAX_ATTEMPTS, delay = 10, retryOn = IllegalStateException.class)
+  Future<Void> failWithNotRetryableFailure(AtomicInteger attempts) {
+    attempts.incrementAndGet();
+    return failedFuture(new IllegalArgumentException());
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,129 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.testkit.AsyncAssertions;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncCancellation;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncInterceptor;
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the enforcement of {@link VertxAsync#maxExecutionTime()} and the
+ * cancellation of pending calls via {@link VertxAsyncCancellation}.
+ */
+@QuarkusTest
+class VertxAsyncInterceptorTimeoutTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String TIMEOUT_EXECUTOR_NAME      = "TimeoutTest";
+  private static final String CANCELLATION_EXECUTOR_NAME = "CancellationTest";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} fails a call which exceeds the
+   * maximum execution time, interrupts its worker thread and reuses the
+   * worker thread for the next call.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testTimeoutInterruptsExecution() throws InterruptedException {
+    var interrupted = new CountDownLatch(1);
+    var failure = new AtomicReference<Throwable>();
+    var failed = new CountDownLatch(1);
+
+    runsForever(interrupted).onFailure(e -> {
+      failure.set(e);
+      failed.countDown();
+    });
+
+    assertThat(failed.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(failure.get()).isInstanceOf(TimeoutException.class);
+    assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+
+    // The single worker thread must be free again and not be interrupted
+    var nextInterrupted = new AtomicBoolean(true);
+    var completed = new CountDownLatch(1);
+    completesImmediately(nextInterrupted).onSuccess(ignore -> completed.countDown());
+    assertThat(completed.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(nextInterrupted).isFalse();
+  }
+
+  @VertxAsync(value = TIMEOUT_EXECUTOR_NAME, executorPoolSize = 1, maxExecutionTime = 200,
+              maxExecutionTimeUnit = TimeUnit.MILLISECONDS, enforceMaxExecutionTime = true)
+  Future<Void> runsForever(CountDownLatch interrupted) {
+    try {
+      Thread.sleep(Long.MAX_VALUE);
+    }
+    catch (InterruptedException e) {
+      interrupted.countDown();
+    }
+    return succeededFuture();
+  }
+
+  @VertxAsync(value = TIMEOUT_EXECUTOR_NAME, executorPoolSize = 1, maxExecutionTime = 200,
+              maxExecutionTimeUnit = TimeUnit.MILLISECONDS, enforceMaxExecutionTime = true)
+  Future<Void> completesImmediately(AtomicBoolean interrupted) {
+    interrupted.set(Thread.currentThread().isInterrupted());
+    return succeededFuture();
+  }
+
+  /**
+   * Tests whether {@link VertxAsyncInterceptor} does not execute a call which
+   * was cancelled while waiting for a worker thread.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testCancelledCallIsNotExecuted() throws InterruptedException {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    try {
+      // Occupies the single worker thread
+      Future<Void> running = awaitRelease(started, release, new AtomicBoolean());
+      assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+
+      var cancelledExecuted = new AtomicBoolean();
+      Future<Void> cancelled = awaitRelease(new CountDownLatch(1), release, cancelledExecuted);
+      assertThat(VertxAsyncCancellation.cancel(cancelled)).isTrue();
+      assertThat(cancelled.failed()).isTrue();
+      assertThat(cancelled.cause()).isInstanceOf(CancellationException.class);
+
+      release.countDown();
+      var completed = new CountDownLatch(2);
+      running.onSuccess(ignore -> completed.countDown());
+      // Gets executed after the cancelled call would have been executed
+      awaitRelease(new CountDownLatch(1), release, new AtomicBoolean()).onSuccess(ignore -> completed.countDown());
+      assertThat(completed.await(2, TimeUnit.SECONDS)).isTrue();
+      assertThat(cancelledExecuted).isFalse();
+      assertThat(VertxAsyncCancellation.cancel(running)).isFalse();
+    }
+    finally {
+      release.countDown();
+    }
+  }
+
+  @VertxAsync(value = CANCELLATION_EXECUTOR_NAME, executorPoolSize = 1)
+  Future<Void> awaitRelease(CountDownLatch started, CountDownLatch release, AtomicBoolean executed) throws InterruptedException {
+    executed.set(true);
+    started.countDown();
+    release.await();
+    return succeededFuture();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
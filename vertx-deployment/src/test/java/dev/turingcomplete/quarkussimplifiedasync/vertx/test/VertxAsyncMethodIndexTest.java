@@ -0,0 +1,88 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.SaturationPolicy;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutorDescriptor;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncMethodDescriptor;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncMethodIndex;
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+
+import javax.inject.Inject;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests whether the {@link VertxAsyncMethodIndex} contains the build-time
+ * computed {@link VertxAsyncMethodDescriptor}s.
+ */
+@QuarkusTest
+class VertxAsyncMethodIndexTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String CUSTOM_EXECUTOR_NAME = "MethodIndexTest";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  @Inject
+  VertxAsyncMethodIndex methodIndex;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether an @{@link Async} method was discovered during the build.
+   */
+  @Test
+  void testAsyncMethodDescriptor() {
+    VertxAsyncMethodDescriptor descriptor = findDescriptor("asyncMethod");
+
+    assertThat(descriptor.usesDefaultExecutor()).isTrue();
+    assertThat(descriptor.getParameterTypeNames()).containsExactly(String.class.getName(), int.class.getName());
+    assertThat(descriptor.getReturnType()).isEqualTo(VertxAsyncMethodDescriptor.ReturnType.OTHER);
+  }
+
+  @Async
+  void asyncMethod(String a, int b) {
+  }
+
+  /**
+   * Tests whether a @{@link VertxAsync} method was discovered during the build
+   * with its explicit and default attribute values.
+   */
+  @Test
+  void testVertxAsyncMethodDescriptor() {
+    VertxAsyncMethodDescriptor descriptor = findDescriptor("vertxAsyncMethod");
+
+    VertxAsyncExecutorDescriptor executorDescriptor = descriptor.getExecutorDescriptor();
+    assertThat(executorDescriptor.getName()).isEqualTo(CUSTOM_EXECUTOR_NAME);
+    assertThat(executorDescriptor.getPoolSize()).isEqualTo(3);
+    assertThat(executorDescriptor.getMaxExecutionTime()).isEqualTo(60 * 1000_000_000L);
+    assertThat(executorDescriptor.getMaxExecutionTimeUnit()).isEqualTo(TimeUnit.NANOSECONDS);
+    assertThat(executorDescriptor.getMaxQueueSize()).isEqualTo(2);
+    assertThat(executorDescriptor.getSaturationPolicy()).isEqualTo(SaturationPolicy.CALLER_RUNS);
+    assertThat(executorDescriptor.getMaxBlockTime()).isEqualTo(1);
+    assertThat(executorDescriptor.getMaxBlockTimeUnit()).isEqualTo(TimeUnit.SECONDS);
+    assertThat(descriptor.getReturnType()).isEqualTo(VertxAsyncMethodDescriptor.ReturnType.VERTX_FUTURE);
+  }
+
+  @VertxAsync(value = CUSTOM_EXECUTOR_NAME, executorPoolSize = 3, maxQueueSize = 2, saturationPolicy = SaturationPolicy.CALLER_RUNS)
+  Future<Void> vertxAsyncMethod() {
+    return null;
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private VertxAsyncMethodDescriptor findDescriptor(String methodName) {
+    return methodIndex.descriptors().stream()
+                      .filter(descriptor -> descriptor.getDeclaringClassName().equals(VertxAsyncMethodIndexTest.class.getName()))
+                      .filter(descriptor -> descriptor.getMethodName().equals(methodName))
+                      .findFirst()
+                      .orElseThrow(() -> new AssertionError("No descriptor for method: " + methodName));
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,99 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.testkit.AsyncAssertions;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncParallel;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import javax.inject.Inject;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the {@link VertxAsyncParallel}.
+ */
+@QuarkusTest
+class VertxAsyncParallelTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  @Inject
+  VertxAsyncParallel parallel;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether the results are in the order of the items.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testMapsAllItemsInOrder() throws Exception {
+    List<Integer> items = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+    List<Integer> results = parallel.map(items, item -> item * 2).toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS);
+    assertThat(results).isEqualTo(items.stream().map(item -> item * 2).collect(Collectors.toList()));
+
+    assertThat(parallel.map(List.of(), item -> item).toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS)).isEmpty();
+  }
+
+  /**
+   * Tests whether no more items than the max concurrency get mapped
+   * concurrently.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testRespectsMaxConcurrency() throws Exception {
+    var concurrency = new AtomicInteger();
+    var maxObservedConcurrency = new AtomicInteger();
+    parallel.map(IntStream.range(0, 100).boxed().collect(Collectors.toList()), 2, item -> {
+      maxObservedConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(1);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return concurrency.decrementAndGet();
+    }).toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS);
+
+    assertThat(maxObservedConcurrency.get()).isBetween(1, 2);
+  }
+
+  /**
+   * Tests whether the first failure fails the mapping and stops the mapping
+   * of the remaining items.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testFailsFast() {
+    var mappedItems = new AtomicInteger();
+    assertThatThrownBy(() -> parallel.map(IntStream.range(0, 1_000).boxed().collect(Collectors.toList()), 1, item -> {
+      mappedItems.incrementAndGet();
+      throw new IllegalStateException("Failed item " + item);
+    }).toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasRootCauseMessage("Failed item 0");
+
+    assertThat(mappedItems).hasValue(1);
+  }
+
+  /**
+   * Tests whether an unknown executor gets rejected.
+   */
+  @Test
+  void testRejectsUnknownExecutor() {
+    assertThatThrownBy(() -> parallel.map("UnknownParallelExecutor", List.of(1), 1, item -> item))
+            .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,30 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.management.deployment;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+/**
+ * The build time configuration of the <em>Simplified Async via Vert.x -
+ * Management</em> extension.
+ */
+@ConfigRoot(name = "simplified-async.management", phase = ConfigPhase.BUILD_TIME)
+public class SimplifiedAsyncVertxManagementBuildTimeConfig {
+
+    /**
+     * Whether the executors can be inspected via the HTTP endpoint
+     * {@code simplified-async/executors} below the non-application root
+     * path.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean enabled;
+
+    /**
+     * Whether the pool size of the executors can also be changed via the
+     * HTTP endpoint. The endpoint is not secured by the extension, so this
+     * should only be enabled if it's protected, e.g., by an HTTP security
+     * policy.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean resizeEnabled;
+}
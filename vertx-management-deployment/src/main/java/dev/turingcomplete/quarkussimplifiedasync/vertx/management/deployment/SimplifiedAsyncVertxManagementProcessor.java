@@ -0,0 +1,56 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.management.deployment;
+
+import dev.turingcomplete.quarkussimplifiedasync.vertx.management.SimplifiedAsyncVertxManagementRecorder;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.management.VertxAsyncManagementRoutes;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.vertx.http.deployment.NonApplicationRootPathBuildItem;
+import io.quarkus.vertx.http.deployment.RouteBuildItem;
+
+class SimplifiedAsyncVertxManagementProcessor {
+
+    private static final String FEATURE = "simplified-async-vertx-management";
+
+    @BuildStep
+    FeatureBuildItem feature() {
+        return new FeatureBuildItem(FEATURE);
+    }
+
+    /**
+     * Registers the {@link VertxAsyncManagementRoutes} below the
+     * non-application root path. The route which changes the pool size only
+     * gets registered if it was explicitly enabled.
+     */
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void managementRoutes(SimplifiedAsyncVertxManagementBuildTimeConfig config,
+                          SimplifiedAsyncVertxManagementRecorder recorder,
+                          NonApplicationRootPathBuildItem nonApplicationRootPath,
+                          BuildProducer<RouteBuildItem> routes) {
+
+        if (!config.enabled) {
+            if (config.resizeEnabled) {
+                throw new IllegalStateException("The resizing of the executors via HTTP requires the management endpoint to be enabled.");
+            }
+            return;
+        }
+
+        routes.produce(nonApplicationRootPath.routeBuilder()
+                                             .route(VertxAsyncManagementRoutes.EXECUTORS_PATH)
+                                             .handler(recorder.createExecutorsHandler())
+                                             .build());
+        routes.produce(nonApplicationRootPath.routeBuilder()
+                                             .route(VertxAsyncManagementRoutes.EXECUTOR_PATH)
+                                             .handler(recorder.createExecutorHandler())
+                                             .build());
+        if (config.resizeEnabled) {
+            routes.produce(nonApplicationRootPath.routeBuilder()
+                                                 .route(VertxAsyncManagementRoutes.POOL_SIZE_PATH)
+                                                 .handler(recorder.createPoolSizeHandler())
+                                                 .build());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.management.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutorManagement;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.management.VertxAsyncManagementRoutes;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the {@link VertxAsyncManagementRoutes} with enabled resizing.
+ */
+@QuarkusTest
+@TestProfile(VertxAsyncManagementRoutesResizeTest.ResizeEnabledProfile.class)
+class VertxAsyncManagementRoutesResizeTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String EXECUTOR_NAME = "ManagementRoutesResizeTest";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+
+  @TestHTTPResource("/q/" + VertxAsyncManagementRoutes.EXECUTORS_PATH)
+  URL executorsUrl;
+
+  @Inject
+  VertxAsyncExecutorManagement executorManagement;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether the pool size of an executor can be changed via HTTP.
+   */
+  @Test
+  void testSetPoolSize() throws Exception {
+    HttpResponse<String> response = send("PUT", executorsUrl + "/" + EXECUTOR_NAME + "/pool-size?value=4");
+    assertThat(response.statusCode()).isEqualTo(200);
+    assertThat(new JsonObject(response.body()).getInteger("poolSize")).isEqualTo(4);
+    assertThat(executorManagement.executorStatus(EXECUTOR_NAME).getPoolSize()).isEqualTo(4);
+
+    assertThat(send("PUT", executorsUrl + "/" + EXECUTOR_NAME + "/pool-size?value=four").statusCode()).isEqualTo(400);
+    assertThat(send("GET", executorsUrl + "/" + EXECUTOR_NAME + "/pool-size").statusCode()).isEqualTo(405);
+  }
+
+  @VertxAsync(value = EXECUTOR_NAME, executorPoolSize = 2)
+  void neverCalledMethod() {
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private HttpResponse<String> send(String method, String url) throws IOException, InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                                     .method(method, HttpRequest.BodyPublishers.noBody())
+                                     .build();
+    return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  public static class ResizeEnabledProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+      return Map.of("quarkus.simplified-async.management.resize-enabled", "true");
+    }
+  }
+}
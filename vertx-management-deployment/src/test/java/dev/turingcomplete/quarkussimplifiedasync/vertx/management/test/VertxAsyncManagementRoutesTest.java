@@ -0,0 +1,89 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.management.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsync;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutor;
+import dev.turingcomplete.quarkussimplifiedasync.vertx.management.VertxAsyncManagementRoutes;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the read-only {@link VertxAsyncManagementRoutes}.
+ */
+@QuarkusTest
+class VertxAsyncManagementRoutesTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String EXECUTOR_NAME = "ManagementRoutesTest";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+
+  @TestHTTPResource("/q/" + VertxAsyncManagementRoutes.EXECUTORS_PATH)
+  URL executorsUrl;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether the status of all executors is available below the
+   * non-application root path.
+   */
+  @Test
+  void testGetExecutors() throws Exception {
+    HttpResponse<String> response = send("GET", executorsUrl.toString());
+    assertThat(response.statusCode()).isEqualTo(200);
+    assertThat(new JsonArray(response.body()).stream().map(executor -> ((JsonObject) executor).getString("name")))
+            .contains(VertxAsyncExecutor.VERTX_WORKER_POOL_NAME);
+  }
+
+  /**
+   * Tests whether the status of a single executor is available and an
+   * unknown executor is reported as not found.
+   */
+  @Test
+  void testGetExecutor() throws Exception {
+    HttpResponse<String> response = send("GET", executorsUrl + "/" + EXECUTOR_NAME);
+    assertThat(response.statusCode()).isEqualTo(200);
+    assertThat(new JsonObject(response.body()).getInteger("poolSize")).isEqualTo(2);
+
+    assertThat(send("GET", executorsUrl + "/Unknown").statusCode()).isEqualTo(404);
+  }
+
+  /**
+   * Tests whether the endpoint is read-only if the resizing was not
+   * explicitly enabled.
+   */
+  @Test
+  void testIsReadOnly() throws Exception {
+    assertThat(send("PUT", executorsUrl + "/" + EXECUTOR_NAME).statusCode()).isEqualTo(405);
+    assertThat(send("PUT", executorsUrl + "/" + EXECUTOR_NAME + "/pool-size?value=4").statusCode()).isEqualTo(404);
+  }
+
+  @VertxAsync(value = EXECUTOR_NAME, executorPoolSize = 2)
+  void neverCalledMethod() {
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private HttpResponse<String> send(String method, String url) throws IOException, InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                                     .method(method, HttpRequest.BodyPublishers.noBody())
+                                     .build();
+    return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,32 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.management;
+
+import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * The recorder of the <em>Simplified Async via Vert.x - Management</em>
+ * extension.
+ */
+@Recorder
+public class SimplifiedAsyncVertxManagementRecorder {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  public Handler<RoutingContext> createExecutorsHandler() {
+    return VertxAsyncManagementRoutes.executorsHandler();
+  }
+
+  public Handler<RoutingContext> createExecutorHandler() {
+    return VertxAsyncManagementRoutes.executorHandler();
+  }
+
+  public Handler<RoutingContext> createPoolSizeHandler() {
+    return VertxAsyncManagementRoutes.poolSizeHandler();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,121 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx.management;
+
+import dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncExecutorManagement;
+import io.quarkus.arc.Arc;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonArray;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Exposes the {@link VertxAsyncExecutorManagement} via HTTP, relative to the
+ * non-application root path of Quarkus ({@code /q} by default):
+ *
+ * <ul>
+ *   <li>{@code GET simplified-async/executors}: the status of all executors.</li>
+ *   <li>{@code GET simplified-async/executors/<name>}: the status of a
+ *   single executor.</li>
+ *   <li>{@code PUT simplified-async/executors/<name>/pool-size?value=<size>}:
+ *   changes the pool size of an executor.</li>
+ * </ul>
+ *
+ * <p>The routes get registered unless
+ * {@code quarkus.simplified-async.management.enabled} is set to false. The
+ * endpoint is read-only, unless
+ * {@code quarkus.simplified-async.management.resize-enabled} is set.
+ */
+public final class VertxAsyncManagementRoutes {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  public static final String EXECUTORS_PATH = "simplified-async/executors";
+  public static final String EXECUTOR_PATH  = EXECUTORS_PATH + "/:name";
+  public static final String POOL_SIZE_PATH = EXECUTOR_PATH + "/pool-size";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private VertxAsyncManagementRoutes() {
+    throw new UnsupportedOperationException();
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * @return the handler of {@link #EXECUTORS_PATH}.
+   */
+  public static Handler<RoutingContext> executorsHandler() {
+    return onlyFor(HttpMethod.GET, VertxAsyncManagementRoutes::handleGetExecutors);
+  }
+
+  /**
+   * @return the handler of {@link #EXECUTOR_PATH}.
+   */
+  public static Handler<RoutingContext> executorHandler() {
+    return onlyFor(HttpMethod.GET, VertxAsyncManagementRoutes::handleGetExecutor);
+  }
+
+  /**
+   * @return the handler of {@link #POOL_SIZE_PATH}.
+   */
+  public static Handler<RoutingContext> poolSizeHandler() {
+    return onlyFor(HttpMethod.PUT, VertxAsyncManagementRoutes::handleSetPoolSize);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static Handler<RoutingContext> onlyFor(HttpMethod method, Handler<RoutingContext> handler) {
+    return routingContext -> {
+      if (!method.equals(routingContext.request().method())) {
+        routingContext.response().setStatusCode(405).putHeader("Allow", method.name()).end();
+        return;
+      }
+      handler.handle(routingContext);
+    };
+  }
+
+  private static void handleGetExecutors(RoutingContext routingContext) {
+    var executors = new JsonArray();
+    executorManagement().executorStatuses().forEach(status -> executors.add(status.toJson()));
+    routingContext.json(executors);
+  }
+
+  private static void handleGetExecutor(RoutingContext routingContext) {
+    try {
+      routingContext.json(executorManagement().executorStatus(routingContext.pathParam("name")).toJson());
+    }
+    catch (IllegalArgumentException e) {
+      routingContext.response().setStatusCode(404).end(e.getMessage());
+    }
+  }
+
+  private static void handleSetPoolSize(RoutingContext routingContext) {
+    String executorName = routingContext.pathParam("name");
+    int poolSize;
+    try {
+      poolSize = Integer.parseInt(routingContext.queryParams().get("value"));
+    }
+    catch (NumberFormatException e) {
+      routingContext.response().setStatusCode(400).end("The query parameter 'value' must be an integer.");
+      return;
+    }
+
+    VertxAsyncExecutorManagement executorManagement = executorManagement();
+    try {
+      executorManagement.setPoolSize(executorName, poolSize);
+      routingContext.json(executorManagement.executorStatus(executorName).toJson());
+    }
+    catch (IllegalArgumentException | IllegalStateException e) {
+      routingContext.response().setStatusCode(400).end(e.getMessage());
+    }
+  }
+
+  /**
+   * The bean gets looked up on each request, because the routes get
+   * registered before the runtime configured beans are available.
+   */
+  private static VertxAsyncExecutorManagement executorManagement() {
+    return Arc.container().instance(VertxAsyncExecutorManagement.class).get();
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,94 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+
+import javax.enterprise.util.Nonbinding;
+import javax.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An alternative to {@link Async} which collects the calls of a method with
+ * a single parameter into batches and executes each batch with a single call
+ * of a bulk method.
+ *
+ * <p>The bulk method must be declared in the same class and must have a
+ * single {@link List} parameter, which will contain the arguments of all
+ * calls of the batch in the order of the calls. It must not be an
+ * @{@link Async} method itself. For example:
+ * <pre>{@code
+ * @AsyncBatched("indexAll")
+ * Future<String> index(Document document) {
+ *   return null; // Never executed
+ * }
+ *
+ * List<String> indexAll(List<Document> documents) {
+ *   // Returns the ID of each document
+ * }
+ * }</pre>
+ *
+ * <p>The body of the annotated method never gets executed. A batch gets
+ * executed on a worker thread if it contains {@link #maxBatchSize()} calls or
+ * if the {@link #maxDelay()} since its first call has elapsed.
+ *
+ * <p>If the bulk method returns a {@link List} (or a {@code Future} or
+ * {@code CompletionStage} of a {@code List}), it must have one element per
+ * call, which will become the result of the corresponding call. Any other
+ * result, including {@code null}, completes all calls with {@code null}. A
+ * failure of the bulk method fails all calls of the batch. The bulk method
+ * runs within the propagated context of the first call of the batch.
+ *
+ * <p>The annotated method may return a Vert.x {@code Future}, a
+ * {@code CompletionStage}, a {@code CompletableFuture} or {@code void}. The
+ * executor can be customized by an additional @{@link VertxAsync} annotation.
+ */
+@Inherited
+@Async
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface AsyncBatched {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * The name of the bulk method.
+   *
+   * @return the bulk method name.
+   */
+  @Nonbinding String value();
+
+  /**
+   * The maximum number of calls in a batch. A full batch gets executed
+   * immediately.
+   *
+   * @return the maximum batch size.
+   */
+  @Nonbinding int maxBatchSize() default 100;
+
+  /**
+   * The maximum time the first call of a batch waits for further calls before
+   * the batch gets executed.
+   *
+   * <p>The {@link TimeUnit} of the value gets determined by
+   * {@link AsyncBatched#maxDelayUnit()}. The delay has a resolution of one
+   * millisecond.
+   *
+   * @return the maximum delay.
+   */
+  @Nonbinding long maxDelay() default 10;
+
+  /**
+   * Determines the {@link TimeUnit} of {@link #maxDelay()}.
+   *
+   * @return the {@link TimeUnit} of the maximum delay.
+   */
+  @Nonbinding TimeUnit maxDelayUnit() default TimeUnit.MILLISECONDS;
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,79 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits the number of concurrent executions of an @{@link Async} method, so
+ * that a slow dependency behind one method cannot occupy all worker threads
+ * of its executor. For example:
+ * <pre>{@code
+ * @Async
+ * @AsyncBulkhead(value = "inventory", maxConcurrency = 8)
+ * Future<Stock> fetchStock(String itemId) {
+ * }
+ * }</pre>
+ *
+ * <p>Calls exceeding the limit do not block the caller. They wait in a queue
+ * of the bulkhead, without occupying a worker thread or a place in the queue
+ * of the executor, until a running execution of the bulkhead has finished.
+ *
+ * <p>All methods with the same bulkhead name share one limit. Like the
+ * attributes of a shared worker executor, the attributes of a bulkhead are
+ * taken from the first method that uses its name.
+ *
+ * <p>If {@link #adaptive()} is enabled, the limit gets continuously adjusted
+ * between {@link #minConcurrency()} and {@link #maxConcurrency()} by the
+ * observed latencies of the executions.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface AsyncBulkhead {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * The name of the bulkhead.
+   *
+   * <p>The default value is an empty string, which creates a separate
+   * bulkhead for the method.
+   *
+   * @return the bulkhead name.
+   */
+  String value() default "";
+
+  /**
+   * The maximum number of concurrent executions.
+   *
+   * <p>If {@link #adaptive()} is enabled, this is the upper bound of the
+   * adjusted limit.
+   *
+   * @return the maximum concurrency.
+   */
+  int maxConcurrency() default 10;
+
+  /**
+   * The lower bound of the adjusted limit if {@link #adaptive()} is enabled.
+   *
+   * @return the minimum concurrency.
+   */
+  int minConcurrency() default 1;
+
+  /**
+   * Determines whether the limit gets adjusted by the observed latencies.
+   *
+   * <p>The limit follows an additive increase, multiplicative decrease
+   * (AIMD) scheme: it grows by one after a fast execution while the limit is
+   * utilized, and shrinks by 10% after an execution that failed or took more
+   * than twice as long as the fastest recently observed execution.
+   *
+   * @return whether the limit is adaptive.
+   */
+  boolean adaptive() default false;
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
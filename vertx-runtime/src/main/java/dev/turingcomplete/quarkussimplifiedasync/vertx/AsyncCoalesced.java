@@ -0,0 +1,37 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Coalesces identical calls of an @{@link Async} method of a single bean
+ * instance, which are made while a previous call is still queued or running.
+ * For example:
+ * <pre>{@code
+ * @Async
+ * @AsyncCoalesced
+ * Future<Void> refresh(String tenantId) {
+ * }
+ * }</pre>
+ *
+ * <p>Two calls are identical if the values of their {@link CoalescingKey}
+ * parameters are equal (based on {@link Object#equals(Object)} and
+ * {@link Object#hashCode()}). If the method has no {@code CoalescingKey}
+ * parameters, all parameters are compared. An identical call does not get
+ * executed, but gets the result of the in-flight call. Once the in-flight
+ * call has been completed, the next identical call gets executed again.
+ *
+ * <p>Since the execution is shared, it can't be cancelled by a single
+ * caller. The method can't have a {@code Multi} return type and can't be an
+ * @{@link AsyncBatched} method.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface AsyncCoalesced {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+}
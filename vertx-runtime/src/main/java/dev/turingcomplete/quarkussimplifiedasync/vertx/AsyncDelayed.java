@@ -0,0 +1,49 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delays the execution of an @{@link Async} method. For example:
+ * <pre>{@code
+ * @Async
+ * @AsyncDelayed(value = 30, unit = TimeUnit.SECONDS)
+ * void expireSession(String sessionId) {
+ * }
+ * }</pre>
+ *
+ * <p>The call returns immediately. The pending calls are held by the
+ * {@link VertxAsyncTimer} and get handed to the executor of the method once
+ * their delay has elapsed. A pending call can be cancelled via
+ * {@link VertxAsyncCancellation}.
+ *
+ * <p>The delay gets rounded up to the tick duration of the timer
+ * ({@value VertxAsyncTimer#TICK_DURATION_MILLIS} ms).
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface AsyncDelayed {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * The delay before the execution.
+   *
+   * @return the delay.
+   */
+  long value();
+
+  /**
+   * The time unit of the {@link #value()}.
+   *
+   * @return the {@link TimeUnit}.
+   */
+  TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,36 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+
+import java.io.Serializable;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Persists the calls of a fire-and-forget @{@link Async} method, so that
+ * they survive a restart of the application. For example:
+ * <pre>{@code
+ * @Async
+ * @AsyncDurable
+ * void sendInvoice(String orderId) {
+ * }
+ * }</pre>
+ *
+ * <p>A call gets appended to the {@link VertxAsyncJournal} before it gets
+ * dispatched, and acknowledged once its execution has been completed. Calls
+ * which were not acknowledged before the application stopped get executed
+ * again after the next startup. Therefore, a call gets executed at least
+ * once, and possibly more than once.
+ *
+ * <p>All parameters must be {@link Serializable}. The method must return
+ * {@code void} and can't be an @{@link AsyncBatched} or @{@link AsyncCoalesced}
+ * method.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface AsyncDurable {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,98 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import dev.turingcomplete.quarkussimplifiedasync.core.AsyncUncaughtExceptionHandler;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retries a failed execution of an @{@link Async} method with an exponential
+ * backoff. For example:
+ * <pre>{@code
+ * @Async
+ * @AsyncRetry(maxAttempts = 5, delay = 200, retryOn = IOException.class)
+ * Future<Void> sendNotification(Notification notification) {
+ * }
+ * }</pre>
+ *
+ * <p>An execution has failed if the method has thrown an exception or its
+ * returned {@code Future} or {@code CompletionStage} has failed. The call
+ * only fails, and only reaches the {@link AsyncUncaughtExceptionHandler},
+ * after the last attempt or a non-retryable failure.
+ *
+ * <p>During the backoff, the call is held by the {@link VertxAsyncTimer} and
+ * does not occupy a worker thread. Each attempt goes through the bulkhead and
+ * the queue of the executor again.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface AsyncRetry {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * The maximum number of executions, including the first one.
+   *
+   * @return the maximum number of attempts.
+   */
+  int maxAttempts() default 3;
+
+  /**
+   * The backoff before the first retry.
+   *
+   * @return the initial delay.
+   */
+  long delay() default 100;
+
+  /**
+   * The upper bound of the backoff.
+   *
+   * @return the maximum delay.
+   */
+  long maxDelay() default 10_000;
+
+  /**
+   * The time unit of the {@link #delay()} and {@link #maxDelay()}.
+   *
+   * @return the {@link TimeUnit}.
+   */
+  TimeUnit delayUnit() default TimeUnit.MILLISECONDS;
+
+  /**
+   * The factor by which the backoff grows after each retry.
+   *
+   * @return the multiplier.
+   */
+  double multiplier() default 2;
+
+  /**
+   * The maximum random deviation of each backoff as a fraction of it. For
+   * example, with a jitter of {@code 0.2}, a backoff of 1000 ms becomes a
+   * random value between 800 and 1200 ms. This prevents calls which failed
+   * at the same time from being retried at the same time.
+   *
+   * @return the jitter between 0 and 1.
+   */
+  double jitter() default 0.2;
+
+  /**
+   * The failures which get retried, including their subclasses.
+   *
+   * @return the retryable exception types.
+   */
+  Class<? extends Throwable>[] retryOn() default Exception.class;
+
+  /**
+   * The failures which never get retried, including their subclasses. Takes
+   * precedence over {@link #retryOn()}.
+   *
+   * @return the non-retryable exception types.
+   */
+  Class<? extends Throwable>[] abortOn() default {};
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
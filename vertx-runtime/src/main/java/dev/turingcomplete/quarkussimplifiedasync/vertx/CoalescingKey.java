@@ -0,0 +1,22 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the parameters of an @{@link AsyncCoalesced} method whose values
+ * determine whether two calls are identical. For example:
+ * <pre>{@code
+ * @Async
+ * @AsyncCoalesced
+ * Future<Void> refresh(@CoalescingKey String tenantId, Instant triggeredAt) {}
+ * }</pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface CoalescingKey {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+}
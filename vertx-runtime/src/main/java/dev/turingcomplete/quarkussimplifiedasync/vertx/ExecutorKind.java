@@ -0,0 +1,28 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Determines the kind of thread pool of a @{@link VertxAsync} executor.
+ *
+ * @see VertxAsync#executorKind()
+ */
+public enum ExecutorKind {
+  /**
+   * A Vert.x shared worker executor with {@link VertxAsync#executorPoolSize()}
+   * threads, which take the tasks from a single shared queue.
+   */
+  WORKER,
+
+  /**
+   * A work-stealing {@link ForkJoinPool} with one thread per available
+   * processor. Each thread has its own task queue, and idle threads steal
+   * tasks from the queues of busy threads. A call from a task of the same
+   * executor gets added to the queue of the calling thread.
+   *
+   * <p>This kind is intended for CPU-bound tasks. The
+   * {@link VertxAsync#executorPoolSize()} is ignored, and the tasks don't
+   * run on a Vert.x context.
+   */
+  FORK_JOIN
+}
@@ -0,0 +1,166 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.runtime.StartupEvent;
+
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link VertxAsyncMetrics} which records the metrics into a Micrometer
+ * {@link MeterRegistry}.
+ *
+ * <p>This bean gets only registered if the Quarkus Micrometer extension is
+ * present. The meters of all @{@link Async} methods from the
+ * {@link VertxAsyncMethodIndex} get registered during the startup. Therefore,
+ * the recording of an invocation only consists of a map lookup and updates of
+ * the meters.
+ *
+ * <p>Method meters are tagged with {@code class}, {@code method} and
+ * {@code executor}. Executor meters are tagged with {@code executor}.
+ */
+@Singleton
+public class MicrometerVertxAsyncMetrics implements VertxAsyncMetrics {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  public static final String QUEUE_WAIT_METER_NAME          = "simplified.async.queue.wait";
+  public static final String EXECUTION_METER_NAME           = "simplified.async.execution";
+  public static final String IN_FLIGHT_METER_NAME           = "simplified.async.in.flight";
+  public static final String RETRIES_METER_NAME             = "simplified.async.retries";
+  public static final String EXECUTOR_QUEUE_SIZE_METER_NAME = "simplified.async.executor.queue.size";
+  public static final String EXECUTOR_REJECTED_METER_NAME   = "simplified.async.executor.rejected";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final MeterRegistry                                            meterRegistry;
+  private final VertxAsyncExecutorRegistry                               executorRegistry;
+  private final ConcurrentMap<VertxAsyncMethodDescriptor, MethodMetrics> methodMetrics = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, VertxAsyncExecutor>                executors     = new ConcurrentHashMap<>();
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  @Inject
+  public MicrometerVertxAsyncMetrics(MeterRegistry meterRegistry, VertxAsyncExecutorRegistry executorRegistry) {
+    this.meterRegistry = meterRegistry;
+    this.executorRegistry = executorRegistry;
+  }
+
+  void registerMeters(@Observes StartupEvent startupEvent, VertxAsyncMethodIndex methodIndex) {
+    for (VertxAsyncMethodDescriptor descriptor : methodIndex.descriptors()) {
+      methodMetrics(descriptor);
+    }
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Override
+  public MethodMetrics methodMetrics(VertxAsyncMethodDescriptor descriptor) {
+    MethodMetrics metrics = methodMetrics.get(descriptor);
+    if (metrics == null) {
+      metrics = methodMetrics.computeIfAbsent(descriptor, this::createMethodMetrics);
+    }
+    return metrics;
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private MethodMetrics createMethodMetrics(VertxAsyncMethodDescriptor descriptor) {
+    registerExecutorMeters(descriptor);
+
+    Tags tags = Tags.of("class", descriptor.getDeclaringClassName(),
+                        "method", descriptor.getMethodName(),
+                        "executor", descriptor.getExecutorName());
+
+    Timer queueWait = Timer.builder(QUEUE_WAIT_METER_NAME)
+                           .description("The time a call of an @Async method waited for a worker thread")
+                           .tags(tags)
+                           .register(meterRegistry);
+    Timer succeededExecution = Timer.builder(EXECUTION_METER_NAME)
+                                    .description("The execution time of an @Async method")
+                                    .tags(tags)
+                                    .tag("outcome", "success")
+                                    .register(meterRegistry);
+    Timer failedExecution = Timer.builder(EXECUTION_METER_NAME)
+                                 .description("The execution time of an @Async method")
+                                 .tags(tags)
+                                 .tag("outcome", "failure")
+                                 .register(meterRegistry);
+    AtomicInteger inFlight = new AtomicInteger();
+    Gauge.builder(IN_FLIGHT_METER_NAME, inFlight, AtomicInteger::get)
+         .description("The number of currently executing calls of an @Async method")
+         .tags(tags)
+         .register(meterRegistry);
+    Counter retries = Counter.builder(RETRIES_METER_NAME)
+                             .description("The number of retried executions of an @Async method")
+                             .tags(tags)
+                             .register(meterRegistry);
+
+    return new MicrometerMethodMetrics(queueWait, succeededExecution, failedExecution, inFlight, retries);
+  }
+
+  private void registerExecutorMeters(VertxAsyncMethodDescriptor descriptor) {
+    if (descriptor.isNonBlocking()) {
+      return;
+    }
+
+    executors.computeIfAbsent(descriptor.getExecutorName(), executorName -> {
+      VertxAsyncExecutor executor = executorRegistry.executor(descriptor);
+      Gauge.builder(EXECUTOR_QUEUE_SIZE_METER_NAME, executor, VertxAsyncExecutor::getQueueSize)
+           .description("The number of tasks waiting for a worker thread of an executor")
+           .tag("executor", executorName)
+           .register(meterRegistry);
+      FunctionCounter.builder(EXECUTOR_REJECTED_METER_NAME, executor, VertxAsyncExecutor::getRejectedTaskCount)
+                     .description("The number of tasks rejected by an executor because its queue was full")
+                     .tag("executor", executorName)
+                     .register(meterRegistry);
+      return executor;
+    });
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private static class MicrometerMethodMetrics implements MethodMetrics {
+
+    private final Timer         queueWait;
+    private final Timer         succeededExecution;
+    private final Timer         failedExecution;
+    private final AtomicInteger inFlight;
+    private final Counter       retries;
+
+    private MicrometerMethodMetrics(Timer queueWait, Timer succeededExecution, Timer failedExecution, AtomicInteger inFlight, Counter retries) {
+      this.queueWait = queueWait;
+      this.succeededExecution = succeededExecution;
+      this.failedExecution = failedExecution;
+      this.inFlight = inFlight;
+      this.retries = retries;
+    }
+
+    @Override
+    public void taskStarted(long queueWaitNanos) {
+      inFlight.incrementAndGet();
+      queueWait.record(queueWaitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void taskCompleted(long executionNanos, boolean succeeded) {
+      inFlight.decrementAndGet();
+      (succeeded ? succeededExecution : failedExecution).record(executionNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void taskRetried() {
+      retries.increment();
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import io.quarkus.arc.DefaultBean;
+
+import javax.inject.Singleton;
+
+/**
+ * A {@link VertxAsyncMetrics} which does not record anything. It will be used
+ * if no other {@code VertxAsyncMetrics} bean is available.
+ */
+@Singleton
+@DefaultBean
+public class NoopVertxAsyncMetrics implements VertxAsyncMetrics {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Override
+  public MethodMetrics methodMetrics(VertxAsyncMethodDescriptor descriptor) {
+    return MethodMetrics.NOOP;
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,45 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the parameter of an @{@link Async} method whose value determines the
+ * execution order of the calls.
+ *
+ * <p>Calls with equal keys (based on {@link Object#equals(Object)} and
+ * {@link Object#hashCode()}) get executed one after the other in the order
+ * of the calls. Calls with different keys get executed in parallel. For
+ * example:
+ * <pre>{@code
+ * @VertxAsync("Accounts")
+ * void book(@OrderingKey String accountId, Booking booking) {}
+ * }</pre>
+ *
+ * <p>The keys get mapped by their hash code to a fixed number of serial
+ * queues per executor: eight per thread of its pool (at the time of its
+ * creation), but at least 64, rounded up to a power of two. Therefore, the
+ * memory does not grow with the number of distinct keys. Keys which share a
+ * queue get serialized, too: A call waits for the calls of all other keys in
+ * its queue, so a slow call delays them (head-of-line blocking). With
+ * {@code k} concurrently active keys and {@code n} queues, a key shares its
+ * queue with about {@code k / n} other active keys.
+ *
+ * <p>For methods with a {@code Future}, {@code CompletionStage} or
+ * {@code Uni} return type, the next call starts after the method of the
+ * previous call has returned, not after the returned value has been completed.
+ *
+ * <p>With a bounded queue (see {@link VertxAsync#maxQueueSize()}), ordered
+ * calls are rejected instead of {@link SaturationPolicy#CALLER_RUNS} and
+ * {@link SaturationPolicy#DISCARD_OLDEST}, since both would violate the order.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface OrderingKey {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,46 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Determines what happens with a new task if the queue of an executor with a
+ * bounded queue is full.
+ *
+ * @see VertxAsync#maxQueueSize()
+ */
+public enum SaturationPolicy {
+  /**
+   * The new task gets rejected. The returned {@code Future} of the method call
+   * gets failed with a {@link RejectedExecutionException}.
+   */
+  REJECT,
+
+  /**
+   * The new task gets synchronously executed in the thread of the caller.
+   *
+   * <p>If the caller runs on a Vert.x event loop thread, the new task gets
+   * rejected like with {@link #REJECT} instead, because a blocking task
+   * must not run on an event loop. The same applies to the thread of the
+   * {@link VertxAsyncTimer}, which dispatches delayed calls and retries.
+   */
+  CALLER_RUNS,
+
+  /**
+   * The oldest task in the queue gets dropped to make room for the new task.
+   * The {@code Future} of the dropped task gets failed with a
+   * {@link RejectedExecutionException}.
+   */
+  DISCARD_OLDEST,
+
+  /**
+   * The caller gets blocked until there is room in the queue, but at most
+   * for the time of {@link VertxAsync#maxBlockTime()}. Afterwards, the new
+   * task gets rejected like with {@link #REJECT}.
+   *
+   * <p>If the caller runs on a Vert.x event loop thread, the new task gets
+   * rejected like with {@link #REJECT} right away, because an event loop
+   * must never be blocked. The same applies to the thread of the
+   * {@link VertxAsyncTimer}.
+   */
+  BLOCK
+}
@@ -0,0 +1,101 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
+import io.quarkus.runtime.annotations.ConfigDocSection;
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * The runtime configuration of the <em>Simplified Async via Vert.x</em>
+ * extension.
+ */
+@ConfigRoot(name = "simplified-async", phase = ConfigPhase.RUN_TIME)
+public class SimplifiedAsyncVertxConfig {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Overrides the attributes of the @{@link VertxAsync} executor with the
+   * given name. Attributes which are not configured are taken from the
+   * annotation.
+   */
+  @ConfigItem
+  @ConfigDocSection
+  @ConfigDocMapKey("executor-name")
+  public Map<String, ExecutorConfig> executors;
+
+  /**
+   * The maximum time to wait during the shutdown for the queued and running
+   * tasks of all executors, which no longer accept new tasks. Tasks which
+   * are still pending afterwards get abandoned.
+   */
+  @ConfigItem(defaultValue = "10S")
+  public Duration shutdownTimeout;
+
+  /**
+   * The journal of the @{@link AsyncDurable} methods.
+   */
+  @ConfigItem
+  public DurableConfig durable;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  @ConfigGroup
+  public static class ExecutorConfig {
+
+    /**
+     * Overrides {@link VertxAsync#executorPoolSize()}.
+     */
+    @ConfigItem
+    public OptionalInt poolSize;
+
+    /**
+     * Overrides {@link VertxAsync#maxQueueSize()}. The value must be
+     * positive, or {@code -1} to make the queue unbounded.
+     */
+    @ConfigItem
+    public OptionalInt maxQueueSize;
+
+    /**
+     * Overrides {@link VertxAsync#maxExecutionTime()} and its unit.
+     */
+    @ConfigItem
+    public Optional<Duration> maxExecutionTime;
+
+    /**
+     * Overrides {@link VertxAsync#executorKind()}.
+     */
+    @ConfigItem
+    public Optional<ExecutorKind> kind;
+  }
+
+  @ConfigGroup
+  public static class DurableConfig {
+
+    /**
+     * The directory of the journal files. It must not be shared by multiple
+     * application instances.
+     */
+    @ConfigItem(defaultValue = "simplified-async-journal")
+    public Path directory;
+
+    /**
+     * The size of a journal file. A single call, including its serialized
+     * parameters, must fit into one file.
+     */
+    @ConfigItem(defaultValue = "16M")
+    public MemorySize segmentSize;
+  }
+}
@@ -0,0 +1,36 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+
+import java.util.List;
+
+/**
+ * The recorder of the <em>Simplified Async via Vert.x</em> extension.
+ */
+@Recorder
+public class SimplifiedAsyncVertxRecorder {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  public RuntimeValue<VertxAsyncMethodIndex> createMethodIndex(List<VertxAsyncMethodDescriptor> descriptors) {
+    return new RuntimeValue<>(VertxAsyncMethodIndex.create(descriptors));
+  }
+
+  public RuntimeValue<VertxAsyncExecutorOverrides> createExecutorOverrides(SimplifiedAsyncVertxConfig config) {
+    return new RuntimeValue<>(VertxAsyncExecutorOverrides.create(config.executors));
+  }
+
+  public RuntimeValue<VertxAsyncJournalSettings> createJournalSettings(SimplifiedAsyncVertxConfig config) {
+    return new RuntimeValue<>(VertxAsyncJournalSettings.create(config.durable));
+  }
+
+  public RuntimeValue<VertxAsyncShutdownSettings> createShutdownSettings(SimplifiedAsyncVertxConfig config) {
+    return new RuntimeValue<>(VertxAsyncShutdownSettings.create(config.shutdownTimeout));
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,109 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import dev.turingcomplete.quarkussimplifiedasync.core.AsyncUncaughtExceptionHandler;
+import dev.turingcomplete.quarkussimplifiedasync.core.DefaultAsyncUncaughtExceptionHandler;
+import io.vertx.core.Vertx;
+import org.eclipse.microprofile.context.ThreadContext;
+
+import javax.interceptor.InvocationContext;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link VertxAsyncInterceptor} together with all of its dependencies,
+ * wired without CDI. This allows tests and benchmarks outside of a Quarkus
+ * application to call the interceptor directly with their own
+ * {@link InvocationContext}s.
+ *
+ * <p>The @{@link Async} methods get described by reflectively reading their
+ * annotations. The metrics are disabled, uncaught exceptions get logged by a
+ * {@link DefaultAsyncUncaughtExceptionHandler}, and the calls of
+ * @{@link AsyncDurable} methods get journaled into the given directory.
+ */
+public final class StandaloneVertxAsyncInterceptor implements AutoCloseable {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final int JOURNAL_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final VertxAsyncExecutorRegistry executorRegistry;
+  private final VertxAsyncTimer            timer;
+  private final VertxAsyncJournal          journal;
+  private final VertxAsyncInterceptor      interceptor;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private StandaloneVertxAsyncInterceptor(Vertx vertx,
+                                          VertxAsyncMethodIndex methodIndex,
+                                          AsyncUncaughtExceptionHandler asyncUncaughtExceptionHandler,
+                                          VertxAsyncContextPropagation contextPropagation,
+                                          VertxAsyncJournalSettings journalSettings) {
+
+    executorRegistry = new VertxAsyncExecutorRegistry(vertx);
+    // Creates the executors upfront, like during the startup
+    methodIndex.descriptors().forEach(executorRegistry::executor);
+    timer = new VertxAsyncTimer();
+    journal = new VertxAsyncJournal(journalSettings);
+
+    interceptor = new VertxAsyncInterceptor();
+    interceptor.vertx = vertx;
+    interceptor.asyncUncaughtExceptionHandler = asyncUncaughtExceptionHandler;
+    interceptor.methodIndex = methodIndex;
+    interceptor.executorRegistry = executorRegistry;
+    interceptor.bulkheadRegistry = new VertxAsyncBulkheadRegistry();
+    interceptor.contextPropagation = contextPropagation;
+    interceptor.metrics = new NoopVertxAsyncMetrics();
+    interceptor.timer = timer;
+    interceptor.journal = journal;
+  }
+
+  /**
+   * @param methods          the @{@link Async} methods which can be
+   *                         intercepted.
+   * @param threadContext    the {@link ThreadContext} whose context types get
+   *                         propagated to the executing thread or null, if
+   *                         only the logging MDC should be propagated.
+   * @param journalDirectory the directory of the journal, which only gets
+   *                         created by the first call of an
+   *                         @{@link AsyncDurable} method.
+   */
+  public static StandaloneVertxAsyncInterceptor create(Vertx vertx,
+                                                       Collection<Method> methods,
+                                                       ThreadContext threadContext,
+                                                       Path journalDirectory) {
+
+    var methodIndex = VertxAsyncMethodIndex.create(methods.stream()
+                                                          .map(VertxAsyncMethodDescriptor::fromMethod)
+                                                          .collect(Collectors.toList()));
+    return new StandaloneVertxAsyncInterceptor(vertx, methodIndex, new DefaultAsyncUncaughtExceptionHandler(),
+                                               new VertxAsyncContextPropagation(threadContext),
+                                               new VertxAsyncJournalSettings(journalDirectory, JOURNAL_SEGMENT_SIZE));
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * @see VertxAsyncInterceptor#intercept(InvocationContext)
+   */
+  public Object intercept(InvocationContext context) throws Exception {
+    return interceptor.intercept(context);
+  }
+
+  /**
+   * Closes the executors, the timer and the journal. The given {@link Vertx}
+   * instance stays open.
+   */
+  @Override
+  public void close() {
+    executorRegistry.close();
+    timer.close();
+    journal.close();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
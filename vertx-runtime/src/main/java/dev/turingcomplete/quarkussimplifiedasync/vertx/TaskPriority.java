@@ -0,0 +1,49 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+/**
+ * Determines the priority of the calls of a @{@link VertxAsync} method on a
+ * shared executor.
+ *
+ * <p>The calls of each priority are queued in their own lane. If multiple
+ * lanes have waiting calls, a free worker thread takes the next call from
+ * the lanes in proportion to their weights. Therefore, the calls of a lower
+ * priority are delayed, but never starved.
+ *
+ * <p>If the bounded queue of the executor is full, a call takes over the
+ * place of the oldest queued call with a lower priority, which gets
+ * rejected. A queued call never gets discarded for a call with a lower
+ * priority.
+ *
+ * @see VertxAsync#priority()
+ */
+public enum TaskPriority {
+  /**
+   * For latency-sensitive calls, e.g., user-facing notifications.
+   */
+  HIGH(16),
+
+  /**
+   * The default priority.
+   */
+  NORMAL(4),
+
+  /**
+   * For bulk background calls, e.g., nightly jobs.
+   */
+  LOW(1);
+
+  private final int weight;
+
+  TaskPriority(int weight) {
+    this.weight = weight;
+  }
+
+  /**
+   * @return the share of the worker threads, relative to the other
+   * priorities, which the lane of this priority gets if all lanes have
+   * waiting calls.
+   */
+  public int getWeight() {
+    return weight;
+  }
+}
@@ -38,6 +38,8 @@ public @interface VertxAsync {
 
   String DEFAULT_EXECUTOR_NAME = "VertxAsync-DefaultExecutor";
 
+  int UNBOUNDED_QUEUE_SIZE = -1;
+
   // -- Exposed Methods --------------------------------------------------------------------------------------------- //
 
   /**
@@ -50,6 +52,38 @@ public @interface VertxAsync {
    */
   @Nonbinding String value() default DEFAULT_EXECUTOR_NAME;
 
+  /**
+   * Determines whether the method is non-blocking and should be executed on
+   * a Vert.x event loop instead of a worker thread.
+   *
+   * <p>A non-blocking method gets executed on the Vert.x context of the
+   * caller or, if the caller is not on an event loop, on an event loop which
+   * gets assigned to the calling thread in a round-robin manner. This avoids the handoff to the worker pool for
+   * methods which only compose other asynchronous operations. The method must
+   * never block, since it would block the event loop.
+   *
+   * <p>All attributes of the executor are ignored for a non-blocking method.
+   * It can't have an {@link OrderingKey} parameter and can't be an
+   * @{@link AsyncBatched} method.
+   *
+   * @return whether the method is non-blocking.
+   */
+  @Nonbinding boolean nonBlocking() default false;
+
+  /**
+   * The priority of the calls of the method on its executor.
+   *
+   * <p>If any method of an executor has a priority other than
+   * {@link TaskPriority#NORMAL}, the executor serves the calls from one lane
+   * per priority with weighted fair scheduling (see {@link TaskPriority}).
+   * Otherwise, all calls get executed in the order of their submission. A
+   * method with a priority can't have an {@link OrderingKey} parameter and
+   * can't be non-blocking.
+   *
+   * @return the {@link TaskPriority}.
+   */
+  @Nonbinding TaskPriority priority() default TaskPriority.NORMAL;
+
   /**
    * The pool size of the shared worker executor, which specifies how many tasks
    * can be executed in parallel.
@@ -65,10 +99,23 @@ public @interface VertxAsync {
    */
   @Nonbinding int executorPoolSize() default VertxOptions.DEFAULT_WORKER_POOL_SIZE;
 
+  /**
+   * The kind of thread pool of the executor.
+   *
+   * <p>Like the {@link #executorPoolSize()}, the kind is taken into account
+   * only during the initialization of the executor.
+   *
+   * @return the {@link ExecutorKind}.
+   */
+  @Nonbinding ExecutorKind executorKind() default ExecutorKind.WORKER;
+
   /**
    * Determines the maximum execution time of an asynchronous method before
    * Vert.x will log a warning.
    *
+   * <p>If {@link #enforceMaxExecutionTime()} is enabled, the execution
+   * gets aborted after this time.
+   *
    * <p>The {@link TimeUnit} of the value gets determined by
    * {@link VertxAsync#maxExecutionTimeUnit()}.
    *
@@ -89,5 +136,66 @@ public @interface VertxAsync {
    */
   @Nonbinding TimeUnit maxExecutionTimeUnit() default TimeUnit.NANOSECONDS;
 
+  /**
+   * Determines whether the {@link #maxExecutionTime()} should be enforced.
+   *
+   * <p>If enabled, the returned {@code Future} of a method call gets failed
+   * with a {@link java.util.concurrent.TimeoutException} once the maximum
+   * execution time has passed, and the worker thread which is still executing
+   * the method gets interrupted. The method should therefore react to
+   * interruptions, so that the worker thread becomes free again.
+   *
+   * <p>Like the {@link #executorPoolSize()}, this value is taken into account
+   * only during the initialization of the shared worker executor.
+   *
+   * @return whether the maximum execution time should be enforced.
+   */
+  @Nonbinding boolean enforceMaxExecutionTime() default false;
+
+  /**
+   * The maximum number of tasks which can be queued in the shared worker
+   * executor, waiting for a free worker thread.
+   *
+   * <p>If the queue is full, the {@link #saturationPolicy()} determines what
+   * happens with a new task.
+   *
+   * <p>The size must be positive or {@link #UNBOUNDED_QUEUE_SIZE}, which is
+   * the default value.
+   *
+   * <p>Like the {@link #executorPoolSize()}, the size is taken into account
+   * only during the initialization of the shared worker executor.
+   *
+   * @return the maximum queue size.
+   */
+  @Nonbinding int maxQueueSize() default UNBOUNDED_QUEUE_SIZE;
+
+  /**
+   * Determines what happens with a new task if the queue of the shared worker
+   * executor is full.
+   *
+   * <p>Only relevant if {@link #maxQueueSize()} is bounded.
+   *
+   * @return the {@link SaturationPolicy}.
+   */
+  @Nonbinding SaturationPolicy saturationPolicy() default SaturationPolicy.REJECT;
+
+  /**
+   * Determines the maximum time a caller gets blocked by the
+   * {@link SaturationPolicy#BLOCK} policy.
+   *
+   * <p>The {@link TimeUnit} of the value gets determined by
+   * {@link VertxAsync#maxBlockTimeUnit()}.
+   *
+   * @return the maximum block time.
+   */
+  @Nonbinding long maxBlockTime() default 1;
+
+  /**
+   * Determines the {@link TimeUnit} of {@link #maxBlockTime()}.
+   *
+   * @return the {@link TimeUnit} of the maximum block time.
+   */
+  @Nonbinding TimeUnit maxBlockTimeUnit() default TimeUnit.SECONDS;
+
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
@@ -0,0 +1,56 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import io.quarkus.runtime.annotations.RecordableConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A compact description of the batching of an @{@link AsyncBatched} method.
+ */
+public final class VertxAsyncBatchDescriptor {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final String   bulkMethodName;
+  private final int      maxBatchSize;
+  private final long     maxDelay;
+  private final TimeUnit maxDelayUnit;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  @RecordableConstructor
+  public VertxAsyncBatchDescriptor(String bulkMethodName, int maxBatchSize, long maxDelay, TimeUnit maxDelayUnit) {
+    this.bulkMethodName = bulkMethodName;
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelay = maxDelay;
+    this.maxDelayUnit = maxDelayUnit;
+  }
+
+  static VertxAsyncBatchDescriptor fromAnnotation(AsyncBatched asyncBatchedAnnotation) {
+    return new VertxAsyncBatchDescriptor(asyncBatchedAnnotation.value(),
+                                         asyncBatchedAnnotation.maxBatchSize(),
+                                         asyncBatchedAnnotation.maxDelay(),
+                                         asyncBatchedAnnotation.maxDelayUnit());
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  public String getBulkMethodName() {
+    return bulkMethodName;
+  }
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public long getMaxDelay() {
+    return maxDelay;
+  }
+
+  public TimeUnit getMaxDelayUnit() {
+    return maxDelayUnit;
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
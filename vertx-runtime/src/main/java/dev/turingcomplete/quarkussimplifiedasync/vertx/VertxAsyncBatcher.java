@@ -0,0 +1,205 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+
+/**
+ * Collects the calls of an @{@link AsyncBatched} method of a single bean
+ * instance into batches and executes each batch via the bulk method.
+ *
+ * <p>The first call of a batch starts a Vert.x timer with the maximum delay.
+ * The batch gets executed if it is full or if the timer fires, whatever
+ * happens first.
+ *
+ * <p>The context of the first call of a batch gets propagated to the bulk
+ * method. A batch gets executed like any other call, by the task which the
+ * interceptor creates for the bulk method invocation.
+ */
+final class VertxAsyncBatcher {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final long NO_TIMER = -1;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final Vertx                                                             vertx;
+  private final VertxAsyncExecutor                                                executor;
+  private final VertxAsyncContextPropagation                                      contextPropagation;
+  private final BiFunction<Callable<Object>, CompletableFuture<Object>, Runnable> taskFactory;
+  private final Object                                                            target;
+  private final Method                                                            bulkMethod;
+  private final int                                                               maxBatchSize;
+  private final long                                                              maxDelayMillis;
+
+  private List<BatchedCall> batch;
+  private Callable<Object>  batchInvocation;
+  private long              timerId = NO_TIMER;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  /**
+   * @param taskFactory creates the task which executes the given invocation
+   *                    of the bulk method and completes the given
+   *                    {@code CompletableFuture} with its result.
+   * @param target      the bean instance on which the bulk method gets
+   *                    invoked.
+   */
+  VertxAsyncBatcher(Vertx vertx,
+                    VertxAsyncExecutor executor,
+                    VertxAsyncContextPropagation contextPropagation,
+                    BiFunction<Callable<Object>, CompletableFuture<Object>, Runnable> taskFactory,
+                    Object target,
+                    Class<?> declaringClass,
+                    VertxAsyncBatchDescriptor batchDescriptor) {
+
+    this.vertx = vertx;
+    this.executor = executor;
+    this.contextPropagation = contextPropagation;
+    this.taskFactory = taskFactory;
+    this.target = target;
+    this.bulkMethod = resolveBulkMethod(declaringClass, batchDescriptor.getBulkMethodName());
+    this.maxBatchSize = Math.max(1, batchDescriptor.getMaxBatchSize());
+    this.maxDelayMillis = Math.max(1, batchDescriptor.getMaxDelayUnit().toMillis(batchDescriptor.getMaxDelay()));
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Adds the given argument to the current batch.
+   *
+   * @param result gets completed with the result of the argument from the
+   *               bulk method.
+   */
+  void add(Object argument, CompletableFuture<Object> result) {
+    List<BatchedCall> fullBatch = null;
+    Callable<Object> fullBatchInvocation = null;
+    synchronized (this) {
+      if (batch == null) {
+        List<BatchedCall> calls = new ArrayList<>(Math.min(maxBatchSize, 1024));
+        batch = calls;
+        batchInvocation = contextPropagation.contextual(() -> invokeBulkMethod(calls));
+      }
+      batch.add(new BatchedCall(argument, result));
+
+      if (batch.size() >= maxBatchSize) {
+        fullBatch = batch;
+        fullBatchInvocation = batchInvocation;
+        batch = null;
+        batchInvocation = null;
+        if (timerId != NO_TIMER) {
+          vertx.cancelTimer(timerId);
+          timerId = NO_TIMER;
+        }
+      }
+      else if (batch.size() == 1) {
+        timerId = vertx.setTimer(maxDelayMillis, this::flush);
+      }
+    }
+
+    if (fullBatch != null) {
+      execute(fullBatch, fullBatchInvocation);
+    }
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private void flush(long firedTimerId) {
+    List<BatchedCall> delayedBatch;
+    Callable<Object> delayedBatchInvocation;
+    synchronized (this) {
+      // The batch may already have been executed because it became full
+      if (timerId != firedTimerId || batch == null) {
+        return;
+      }
+      delayedBatch = batch;
+      delayedBatchInvocation = batchInvocation;
+      batch = null;
+      batchInvocation = null;
+      timerId = NO_TIMER;
+    }
+
+    execute(delayedBatch, delayedBatchInvocation);
+  }
+
+  private void execute(List<BatchedCall> calls, Callable<Object> invocation) {
+    var batchResult = new CompletableFuture<Object>();
+    executor.execute(taskFactory.apply(invocation, batchResult), batchResult);
+    batchResult.whenComplete((result, error) -> complete(calls, result, error));
+  }
+
+  /**
+   * @return the result of the bulk method, with a returned {@code Future}
+   * converted into a {@code CompletionStage}.
+   */
+  private Object invokeBulkMethod(List<BatchedCall> calls) throws Exception {
+    var arguments = new ArrayList<>(calls.size());
+    for (BatchedCall call : calls) {
+      arguments.add(call.argument);
+    }
+
+    try {
+      Object result = bulkMethod.invoke(target, arguments);
+      return result instanceof Future ? ((Future<?>) result).toCompletionStage() : result;
+    }
+    catch (InvocationTargetException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw (Exception) cause;
+    }
+  }
+
+  private void complete(List<BatchedCall> calls, Object result, Throwable error) {
+    if (error == null && result instanceof List && ((List<?>) result).size() != calls.size()) {
+      error = new IllegalStateException("The bulk method '" + bulkMethod + "' returned " + ((List<?>) result).size() +
+                                        " results for " + calls.size() + " arguments.");
+    }
+
+    for (int i = 0; i < calls.size(); i++) {
+      CompletableFuture<Object> callResult = calls.get(i).result;
+      if (error != null) {
+        callResult.completeExceptionally(error);
+      }
+      else if (result instanceof List) {
+        callResult.complete(((List<?>) result).get(i));
+      }
+      else {
+        callResult.complete(null);
+      }
+    }
+  }
+
+  private static Method resolveBulkMethod(Class<?> declaringClass, String bulkMethodName) {
+    try {
+      Method bulkMethod = declaringClass.getDeclaredMethod(bulkMethodName, List.class);
+      bulkMethod.setAccessible(true);
+      return bulkMethod;
+    }
+    catch (NoSuchMethodException e) {
+      throw new IllegalStateException("The bulk method '" + bulkMethodName + "(java.util.List)' does not exist in: " +
+                                      declaringClass.getName(), e);
+    }
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private static class BatchedCall {
+
+    private final Object                    argument;
+    private final CompletableFuture<Object> result;
+
+    private BatchedCall(Object argument, CompletableFuture<Object> result) {
+      this.argument = argument;
+      this.result = result;
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits the concurrent executions of the @{@link AsyncBulkhead} methods
+ * with the same bulkhead name.
+ *
+ * <p>A call which exceeds the limit gets added to a queue of waiting calls,
+ * instead of blocking its caller. Each completed execution lets the next
+ * waiting calls proceed. Only one thread at a time runs the waiting calls,
+ * so that a call which gets released while it runs, e.g. because its
+ * dispatch failed synchronously, does not recurse into the next one.
+ *
+ * <p>If the bulkhead is adaptive, each completed execution adjusts the limit
+ * by its latency with an AIMD (additive increase, multiplicative decrease)
+ * scheme. The fastest observed latency serves as the latency of an unloaded
+ * dependency and gets periodically reset to adapt to changes of the
+ * dependency.
+ */
+public class VertxAsyncBulkhead {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  /**
+   * The latency to {@link #release} a call which was not executed.
+   */
+  static final long NOT_EXECUTED = -1;
+
+  private static final double DECREASE_RATIO             = 0.9;
+  private static final double LATENCY_TOLERANCE          = 2.0;
+  private static final int    MIN_LATENCY_RESET_INTERVAL = 1000;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final String  name;
+  private final int     maxConcurrency;
+  private final int     minConcurrency;
+  private final boolean adaptive;
+
+  private final Queue<Runnable> waitingCalls     = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger   waitingCallCount = new AtomicInteger();
+  private final AtomicInteger   running          = new AtomicInteger();
+  private final AtomicInteger   drainRequests    = new AtomicInteger();
+
+  private volatile int limit;
+
+  // Only accessed in `adjustLimit()`
+  private long minLatencyNanos = Long.MAX_VALUE;
+  private int  samplesSinceMinLatencyReset;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  VertxAsyncBulkhead(VertxAsyncBulkheadDescriptor descriptor) {
+    this.name = descriptor.getName();
+    this.maxConcurrency = descriptor.getMaxConcurrency();
+    this.minConcurrency = descriptor.getMinConcurrency();
+    this.adaptive = descriptor.isAdaptive();
+    this.limit = adaptive ? Math.max(minConcurrency, maxConcurrency / 2) : maxConcurrency;
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Runs the given call as soon as the limit allows it, which may be
+   * immediately in the calling thread. Each call must be followed by exactly
+   * one {@link #release} once its execution has finished.
+   */
+  void execute(Runnable call) {
+    waitingCallCount.incrementAndGet();
+    waitingCalls.offer(call);
+    drain();
+  }
+
+  /**
+   * @param latencyNanos the latency of the execution or {@link #NOT_EXECUTED}.
+   */
+  void release(long latencyNanos, boolean succeeded) {
+    if (adaptive && latencyNanos != NOT_EXECUTED) {
+      adjustLimit(latencyNanos, succeeded);
+    }
+    running.decrementAndGet();
+    drain();
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return the current limit of concurrent executions.
+   */
+  public int getLimit() {
+    return limit;
+  }
+
+  /**
+   * @return the number of currently running executions.
+   */
+  public int getRunning() {
+    return running.get();
+  }
+
+  /**
+   * @return the number of calls waiting for the limit.
+   */
+  public int getWaiting() {
+    return waitingCallCount.get();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Only the thread which increments the {@code drainRequests} from zero runs
+   * the waiting calls. Other threads, and a nested call from a running call,
+   * only increment them, which lets the draining thread loop again.
+   */
+  private void drain() {
+    if (drainRequests.getAndIncrement() != 0) {
+      return;
+    }
+
+    int missedRequests = 1;
+    do {
+      drainWaitingCalls();
+      missedRequests = drainRequests.addAndGet(-missedRequests);
+    } while (missedRequests != 0);
+  }
+
+  private void drainWaitingCalls() {
+    // Both `execute()` and `release()` drain after changing the state, so no
+    // waiting call can be missed. Only the draining thread increments
+    // `running` and polls the waiting calls.
+    while (!waitingCalls.isEmpty() && running.get() < limit) {
+      running.incrementAndGet();
+      waitingCallCount.decrementAndGet();
+      waitingCalls.poll().run();
+    }
+  }
+
+  private synchronized void adjustLimit(long latencyNanos, boolean succeeded) {
+    if (++samplesSinceMinLatencyReset >= MIN_LATENCY_RESET_INTERVAL) {
+      samplesSinceMinLatencyReset = 0;
+      minLatencyNanos = latencyNanos;
+    }
+    else {
+      minLatencyNanos = Math.min(minLatencyNanos, latencyNanos);
+    }
+
+    if (!succeeded || latencyNanos > minLatencyNanos * LATENCY_TOLERANCE) {
+      limit = Math.max(minConcurrency, (int) (limit * DECREASE_RATIO));
+    }
+    else if (running.get() * 2 >= limit) {
+      // Only grow a limit which is actually utilized
+      limit = Math.min(maxConcurrency, limit + 1);
+    }
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,76 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import io.quarkus.runtime.annotations.RecordableConstructor;
+
+import java.lang.reflect.Method;
+
+/**
+ * A compact description of the bulkhead of an @{@link AsyncBulkhead} method.
+ */
+public final class VertxAsyncBulkheadDescriptor {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final String  name;
+  private final int     maxConcurrency;
+  private final int     minConcurrency;
+  private final boolean adaptive;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  /**
+   * @param name the name of the bulkhead, which is never empty. See
+   *             {@link #defaultName(String, String)}.
+   */
+  @RecordableConstructor
+  public VertxAsyncBulkheadDescriptor(String name, int maxConcurrency, int minConcurrency, boolean adaptive) {
+    this.name = name;
+    this.maxConcurrency = maxConcurrency;
+    this.minConcurrency = minConcurrency;
+    this.adaptive = adaptive;
+  }
+
+  static VertxAsyncBulkheadDescriptor fromAnnotation(AsyncBulkhead asyncBulkheadAnnotation, Method method) {
+    String name = asyncBulkheadAnnotation.value().isEmpty()
+                  ? defaultName(method.getDeclaringClass().getName(), method.getName())
+                  : asyncBulkheadAnnotation.value();
+    return new VertxAsyncBulkheadDescriptor(name,
+                                            asyncBulkheadAnnotation.maxConcurrency(),
+                                            asyncBulkheadAnnotation.minConcurrency(),
+                                            asyncBulkheadAnnotation.adaptive());
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * @return the name of the separate bulkhead of a method, which was
+   * annotated without a bulkhead name.
+   */
+  public static String defaultName(String declaringClassName, String methodName) {
+    return declaringClassName + "#" + methodName;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  public int getMinConcurrency() {
+    return minConcurrency;
+  }
+
+  public boolean isAdaptive() {
+    return adaptive;
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,59 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import org.jboss.logging.Logger;
+
+import javax.inject.Singleton;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A registry of the {@link VertxAsyncBulkhead}s used by @{@link AsyncBulkhead}
+ * methods.
+ *
+ * <p>The attributes of a bulkhead are taken from the first
+ * {@link VertxAsyncBulkheadDescriptor} which uses its name.
+ */
+@Singleton
+public class VertxAsyncBulkheadRegistry {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final Logger LOGGER = Logger.getLogger(VertxAsyncBulkheadRegistry.class);
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final ConcurrentMap<String, VertxAsyncBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Gets the {@link VertxAsyncBulkhead} of the given descriptor or creates it,
+   * if it does not exist yet.
+   */
+  public VertxAsyncBulkhead bulkhead(VertxAsyncBulkheadDescriptor descriptor) {
+    VertxAsyncBulkhead bulkhead = bulkheads.get(descriptor.getName());
+    if (bulkhead == null) {
+      bulkhead = bulkheads.computeIfAbsent(descriptor.getName(), bulkheadName -> createBulkhead(descriptor));
+    }
+    return bulkhead;
+  }
+
+  /**
+   * @return all created bulkheads.
+   */
+  public Collection<VertxAsyncBulkhead> bulkheads() {
+    return Collections.unmodifiableCollection(bulkheads.values());
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private VertxAsyncBulkhead createBulkhead(VertxAsyncBulkheadDescriptor descriptor) {
+    LOGGER.debugf("Creating bulkhead '%s' with maximum concurrency %d (adaptive: %s)",
+                  descriptor.getName(), descriptor.getMaxConcurrency(), descriptor.isAdaptive());
+    return new VertxAsyncBulkhead(descriptor);
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
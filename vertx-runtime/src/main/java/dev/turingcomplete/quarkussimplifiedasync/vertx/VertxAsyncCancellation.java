@@ -0,0 +1,181 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.future.FutureInternal;
+import io.vertx.core.impl.future.Listener;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Cancels calls of @{@link Async} methods, which are still waiting for a
+ * worker thread.
+ *
+ * <p>A cancelled call gets failed with a {@link CancellationException} and
+ * will not be executed. If the executor has a bounded queue, the call also
+ * immediately frees its place in the queue. A call whose execution has
+ * already started does not get interrupted.
+ *
+ * <p>Calls of methods with a {@link CompletableFuture} return type can also
+ * be cancelled via {@link CompletableFuture#cancel(boolean)}, and the
+ * execution of methods with a Mutiny {@code Uni} return type via the
+ * cancellation of its subscription.
+ *
+ * <p>Only the {@link Future}s which were created by this extension for a
+ * pending call can be cancelled. Each of them holds the {@link Promise} of
+ * its call. Any other {@code Future} is left untouched.
+ */
+public final class VertxAsyncCancellation {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private VertxAsyncCancellation() {
+    throw new UnsupportedOperationException();
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Cancels the call which has returned the given {@link Future}.
+   *
+   * @return true, if the {@code Future} was failed by this cancellation;
+   * false, if it was already completed or was not returned by an
+   * @{@link Async} method.
+   */
+  public static boolean cancel(Future<?> future) {
+    return future instanceof CancellableFuture && ((CancellableFuture<?>) future).cancel();
+  }
+
+  /**
+   * @return a cancellable view of the {@link Future} of the given
+   * {@link Promise}.
+   */
+  static <T> Future<T> cancellable(Promise<T> promise) {
+    return new CancellableFuture<>(promise);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  /**
+   * Delegates to the {@link Future} of its {@link Promise}, which it fails on
+   * a cancellation.
+   *
+   * <p>Implements {@link FutureInternal}, because Vert.x expects it from a
+   * {@code Future} returned by a {@code compose()} function.
+   */
+  private static final class CancellableFuture<T> implements FutureInternal<T> {
+
+    private final Promise<T>        promise;
+    private final FutureInternal<T> future;
+
+    private CancellableFuture(Promise<T> promise) {
+      this.promise = promise;
+      this.future = (FutureInternal<T>) promise.future();
+    }
+
+    private boolean cancel() {
+      return promise.tryFail(new CancellationException("The call was cancelled."));
+    }
+
+    @Override
+    public ContextInternal context() {
+      return future.context();
+    }
+
+    @Override
+    public void addListener(Listener<T> listener) {
+      future.addListener(listener);
+    }
+
+    @Override
+    public boolean isComplete() {
+      return future.isComplete();
+    }
+
+    @Override
+    public Future<T> onComplete(Handler<AsyncResult<T>> handler) {
+      future.onComplete(handler);
+      return this;
+    }
+
+    @Override
+    public Future<T> onSuccess(Handler<T> handler) {
+      future.onSuccess(handler);
+      return this;
+    }
+
+    @Override
+    public Future<T> onFailure(Handler<Throwable> handler) {
+      future.onFailure(handler);
+      return this;
+    }
+
+    @Override
+    public T result() {
+      return future.result();
+    }
+
+    @Override
+    public Throwable cause() {
+      return future.cause();
+    }
+
+    @Override
+    public boolean succeeded() {
+      return future.succeeded();
+    }
+
+    @Override
+    public boolean failed() {
+      return future.failed();
+    }
+
+    @Override
+    public <U> Future<U> compose(Function<T, Future<U>> successMapper, Function<Throwable, Future<U>> failureMapper) {
+      return future.compose(successMapper, failureMapper);
+    }
+
+    @Override
+    public <U> Future<U> transform(Function<AsyncResult<T>, Future<U>> mapper) {
+      return future.transform(mapper);
+    }
+
+    @Override
+    public <U> Future<T> eventually(Function<Void, Future<U>> mapper) {
+      return future.eventually(mapper);
+    }
+
+    @Override
+    public <U> Future<U> map(Function<T, U> mapper) {
+      return future.map(mapper);
+    }
+
+    @Override
+    public <V> Future<V> map(V value) {
+      return future.map(value);
+    }
+
+    @Override
+    public Future<T> otherwise(Function<Throwable, T> mapper) {
+      return future.otherwise(mapper);
+    }
+
+    @Override
+    public Future<T> otherwise(T value) {
+      return future.otherwise(value);
+    }
+
+    @Override
+    public String toString() {
+      return future.toString();
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces the identical calls of the @{@link AsyncCoalesced} methods of a
+ * single bean instance. The returned {@link Future}s and
+ * {@link CompletableFuture}s are shared by all identical calls and must not
+ * be directly handed out to the callers.
+ *
+ * <p>The in-flight calls are held in a {@link ConcurrentHashMap}, so that
+ * calls with different keys don't contend with each other. The first call of
+ * a key puts a placeholder, which the following identical calls join, before
+ * it dispatches the execution. This way, the map is never locked during a
+ * dispatch. Once the execution has been completed, the call removes its own
+ * entry again, before the placeholder gets completed. Therefore, the map only
+ * contains the in-flight calls.
+ */
+final class VertxAsyncCoalescer {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final ConcurrentMap<CallKey, Object> inFlightCalls = new ConcurrentHashMap<>();
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * @return the {@link Future} of the in-flight identical call, or of the
+   * given execution, which will be started if there is no such call.
+   */
+  @SuppressWarnings("unchecked")
+  Future<Object> coalesce(VertxAsyncMethodDescriptor descriptor, Object[] parameters, Supplier<Future<Object>> execution) {
+    var callKey = new CallKey(descriptor, parameters);
+    Promise<Object> promise = Promise.promise();
+    Object inFlightCall = inFlightCalls.putIfAbsent(callKey, promise);
+    if (inFlightCall != null) {
+      return ((Promise<Object>) inFlightCall).future();
+    }
+
+    try {
+      execution.get().onComplete(asyncResult -> {
+        inFlightCalls.remove(callKey, promise);
+        promise.handle(asyncResult);
+      });
+    }
+    catch (RuntimeException e) {
+      inFlightCalls.remove(callKey, promise);
+      promise.fail(e);
+    }
+    return promise.future();
+  }
+
+  /**
+   * @see #coalesce(VertxAsyncMethodDescriptor, Object[], Supplier)
+   */
+  @SuppressWarnings("unchecked")
+  CompletableFuture<Object> coalesceCompletableFuture(VertxAsyncMethodDescriptor descriptor,
+                                                     Object[] parameters,
+                                                     Supplier<CompletableFuture<Object>> execution) {
+
+    var callKey = new CallKey(descriptor, parameters);
+    var completableFuture = new CompletableFuture<Object>();
+    Object inFlightCall = inFlightCalls.putIfAbsent(callKey, completableFuture);
+    if (inFlightCall != null) {
+      return (CompletableFuture<Object>) inFlightCall;
+    }
+
+    try {
+      execution.get().whenComplete((result, error) -> {
+        inFlightCalls.remove(callKey, completableFuture);
+        if (error == null) {
+          completableFuture.complete(result);
+        }
+        else {
+          completableFuture.completeExceptionally(error);
+        }
+      });
+    }
+    catch (RuntimeException e) {
+      inFlightCalls.remove(callKey, completableFuture);
+      completableFuture.completeExceptionally(e);
+    }
+    return completableFuture;
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private static final class CallKey {
+
+    private final VertxAsyncMethodDescriptor descriptor;
+    private final Object[]                   keyValues;
+    private final int                        hashCode;
+
+    private CallKey(VertxAsyncMethodDescriptor descriptor, Object[] parameters) {
+      this.descriptor = descriptor;
+      int[] keyParameterIndices = descriptor.getCoalescingKeyParameterIndices();
+      this.keyValues = new Object[keyParameterIndices.length];
+      for (int i = 0; i < keyParameterIndices.length; i++) {
+        keyValues[i] = parameters[keyParameterIndices[i]];
+      }
+      this.hashCode = 31 * descriptor.hashCode() + Arrays.deepHashCode(keyValues);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      CallKey that = (CallKey) o;
+      return hashCode == that.hashCode && descriptor.equals(that.descriptor) && Arrays.deepEquals(keyValues, that.keyValues);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import org.eclipse.microprofile.context.ThreadContext;
+import org.jboss.logging.MDC;
+
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Propagates the context of the caller of an @{@link Async} method to the
+ * worker thread which executes it.
+ *
+ * <p>If a MicroProfile {@link ThreadContext} bean is available (which
+ * SmallRye Context Propagation provides), all of its context types get
+ * propagated. Depending on the present extensions, this includes the CDI
+ * request context and the current tracing span. Additionally, the logging
+ * {@link MDC} gets propagated.
+ *
+ * <p>The context gets captured once per call into the returned
+ * {@link Callable}, which restores it only for the time of its execution.
+ */
+@Singleton
+public class VertxAsyncContextPropagation {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final ThreadContext threadContext;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  @Inject
+  public VertxAsyncContextPropagation(Instance<ThreadContext> threadContext) {
+    this(threadContext.isResolvable() ? threadContext.get() : null);
+  }
+
+  /**
+   * @param threadContext the {@link ThreadContext} or null, if only the
+   *                      {@link MDC} should be propagated.
+   */
+  VertxAsyncContextPropagation(ThreadContext threadContext) {
+    this.threadContext = threadContext;
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Captures the context of the current thread.
+   *
+   * @return a {@link Callable} which executes the given one within the
+   * captured context.
+   */
+  public <T> Callable<T> contextual(Callable<T> callable) {
+    Callable<T> contextualCallable = threadContext != null ? threadContext.contextualCallable(callable) : callable;
+
+    Map<String, Object> mdc = MDC.getMap();
+    if (mdc == null || mdc.isEmpty()) {
+      return contextualCallable;
+    }
+
+    return () -> {
+      Map<String, Object> previousMdc = MDC.getMap();
+      MDC.clear();
+      mdc.forEach(MDC::put);
+      try {
+        return contextualCallable.call();
+      }
+      finally {
+        MDC.clear();
+        if (previousMdc != null) {
+          previousMdc.forEach(MDC::put);
+        }
+      }
+    };
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,1230 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.impl.WorkerExecutorInternal;
+import org.jboss.threads.EnhancedQueueExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Executes the tasks of @{@link VertxAsync} methods on a shared worker
+ * executor or on the default Vert.x worker pool.
+ *
+ * <p>The internal queue of a Vert.x worker pool is unbounded. If the
+ * executor has a bounded queue (see {@link VertxAsync#maxQueueSize()}), the
+ * tasks will first be added to a queue of this executor. Placeholders, at
+ * most one per thread of the pool, get submitted to the worker pool. Once a
+ * placeholder gets picked up by a worker thread, it executes the next task
+ * in the queue and resubmits itself while the queue is not empty. Therefore,
+ * the number of tasks in memory is bounded by the queue size, a discarded or
+ * cancelled task leaves nothing behind in the queue of the worker pool, and
+ * a {@link SaturationPolicy} decides what happens with tasks exceeding it.
+ *
+ * <p>If the executor is prioritized, the tasks also go through a queue of
+ * this executor, which has one lane per {@link TaskPriority}. A placeholder
+ * takes the next task from the lanes by smooth weighted round-robin: Each
+ * non-empty lane earns credits by its weight, and the lane with the most
+ * credits gets served and pays the sum of the weights of the non-empty
+ * lanes. Therefore, a high-priority task only waits for the next free worker
+ * thread instead of all queued low-priority tasks, while low-priority tasks
+ * still get their share of the worker threads. If the bounded queue is full,
+ * a new task discards the oldest queued task with a lower priority.
+ *
+ * <p>Tasks which complete a {@link CompletableFuture} get directly submitted
+ * to the thread pool of the worker executor, without going through
+ * {@link WorkerExecutor#executeBlocking} and its Vert.x {@link Promise}.
+ *
+ * <p>A task whose {@code Future} or {@code CompletableFuture} was already
+ * completed before it got picked up by a worker thread (e.g., by
+ * {@link VertxAsyncCancellation#cancel}) does not get executed. If the
+ * executor enforces its maximum execution time (see
+ * {@link VertxAsync#enforceMaxExecutionTime()}), a Vert.x timer fails the
+ * task after that time and interrupts the worker thread if it is still
+ * executing the task.
+ *
+ * <p>An executor of the kind {@link ExecutorKind#FORK_JOIN} executes all
+ * tasks on its own {@link ForkJoinPool}. A task submitted from a thread of
+ * this pool gets forked into the local queue of that thread, instead of
+ * going through the shared submission queues of the pool.
+ *
+ * <p>The executor keeps track of the currently running tasks for the
+ * introspection via the {@link VertxAsyncExecutorManagement}. Each thread
+ * which executes tasks of the executor gets a slot, which gets reused for
+ * all of its tasks. Therefore, the start of a task only writes to a slot of
+ * its own thread, and the running tasks get determined on demand.
+ *
+ * <p>Once the executor has been shut down, it rejects all new tasks, while
+ * the already queued and running tasks get executed until the executor gets
+ * closed.
+ */
+public class VertxAsyncExecutor {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  /**
+   * The name of the executor which represents the default Vert.x worker pool.
+   */
+  public static final String VERTX_WORKER_POOL_NAME = "vert.x-worker-thread";
+
+  /**
+   * The name which represents the Vert.x event loops, on which
+   * {@link VertxAsync#nonBlocking()} methods get executed.
+   */
+  public static final String VERTX_EVENT_LOOP_NAME = "vert.x-eventloop-thread";
+
+  /**
+   * The number of serial queues for calls with an {@link OrderingKey} per
+   * thread of the pool, and the bounds of their total number, which gets
+   * rounded up to a power of two.
+   */
+  private static final int ORDERED_STRIPES_PER_THREAD = 8;
+  private static final int MIN_ORDERED_STRIPES        = 64;
+  private static final int MAX_ORDERED_STRIPES        = 1 << 16;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final String         name;
+  private final VertxInternal  vertx;
+  private final WorkerExecutor workerExecutor;
+  private final ForkJoinPool   forkJoinPool;
+  private final Executor       poolExecutor;
+  private final long           maxExecutionTimeMillis;
+
+  private final int               maxQueueSize;
+  private final SaturationPolicy  saturationPolicy;
+  private final long              maxBlockTimeNanos;
+  private final TaskQueue         queue;
+  private final Semaphore         queuePermits;
+
+  private final AtomicInteger                        queueSize          = new AtomicInteger();
+  private final AtomicInteger                        placeholderCount   = new AtomicInteger();
+  private final LongAdder                            rejectedTaskCount  = new LongAdder();
+  private final LongAdder                            completedTaskCount = new LongAdder();
+  private final AtomicInteger                        activeTaskCount    = new AtomicInteger();
+  private final ThreadLocal<ThreadSlot>              threadSlot         = new ThreadLocal<>();
+  private final Set<ThreadSlot>                      threadSlots        = ConcurrentHashMap.newKeySet();
+  private final AtomicReferenceArray<OrderedStripe> orderedStripes;
+
+  private final CompletableFuture<Void> drained = new CompletableFuture<>();
+
+  private volatile boolean shutdown;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  /**
+   * @param workerExecutor the shared worker executor or null, if the tasks
+   *                       should be executed on the default Vert.x worker pool.
+   * @param descriptor     the descriptor of the shared worker executor or null,
+   *                       if the tasks should be executed on the default Vert.x
+   *                       worker pool. If the kind of the descriptor is
+   *                       {@link ExecutorKind#FORK_JOIN}, the worker executor
+   *                       must be null.
+   * @param prioritized    whether the tasks should be served by their
+   *                       {@link TaskPriority}.
+   */
+  VertxAsyncExecutor(String name, Vertx vertx, WorkerExecutor workerExecutor, VertxAsyncExecutorDescriptor descriptor, boolean prioritized) {
+    this.name = name;
+    this.vertx = (VertxInternal) vertx;
+    this.workerExecutor = workerExecutor;
+    if (descriptor != null && descriptor.getExecutorKind() == ExecutorKind.FORK_JOIN) {
+      this.forkJoinPool = createForkJoinPool(name);
+      this.poolExecutor = forkJoinPool;
+    }
+    else {
+      this.forkJoinPool = null;
+      this.poolExecutor = workerExecutor != null ? ((WorkerExecutorInternal) workerExecutor).getPool().executor() : this.vertx.getWorkerPool();
+    }
+    this.maxExecutionTimeMillis = descriptor != null && descriptor.isEnforceMaxExecutionTime()
+                                  ? Math.max(1, descriptor.getMaxExecutionTimeUnit().toMillis(descriptor.getMaxExecutionTime()))
+                                  : 0;
+
+    if (descriptor != null && descriptor.hasBoundedQueue()) {
+      maxQueueSize = descriptor.getMaxQueueSize();
+      saturationPolicy = descriptor.getSaturationPolicy();
+      maxBlockTimeNanos = descriptor.getMaxBlockTimeUnit().toNanos(descriptor.getMaxBlockTime());
+      queue = new TaskQueue(prioritized);
+      queuePermits = new Semaphore(maxQueueSize);
+    }
+    else {
+      maxQueueSize = VertxAsync.UNBOUNDED_QUEUE_SIZE;
+      saturationPolicy = null;
+      maxBlockTimeNanos = 0;
+      queue = prioritized ? new TaskQueue(true) : null;
+      queuePermits = null;
+    }
+
+    // Not adjusted by `setPoolSize()`, which would break the order of the queued tasks
+    orderedStripes = new AtomicReferenceArray<>(orderedStripeCount(getPoolSize()));
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Executes the given task on a worker thread.
+   *
+   * @return a {@link Future} which gets completed by the given task, or a
+   * failed {@code Future} with a {@link RejectedExecutionException} if the
+   * task was rejected.
+   */
+  public Future<Object> execute(Handler<Promise<Object>> task) {
+    return execute(TaskPriority.NORMAL, task);
+  }
+
+  /**
+   * Executes the given task on a worker thread. The priority only matters if
+   * the executor is prioritized.
+   *
+   * @see #execute(Handler)
+   */
+  public Future<Object> execute(TaskPriority priority, Handler<Promise<Object>> task) {
+    if (shutdown) {
+      return Future.failedFuture(createShutdownException());
+    }
+
+    if (queue == null) {
+      // The promise of `executeBlocking()` only serves as a placeholder, so
+      // that the returned `Future` can be cancelled
+      Promise<Object> promise = vertx.getOrCreateContext().promise();
+      queueSize.incrementAndGet();
+      executeBlocking(() -> runTask(task, promise, true), e -> {
+        queueSize.decrementAndGet();
+        promise.tryFail(e);
+        completeDrainedIfIdle();
+      });
+      return VertxAsyncCancellation.cancellable(promise);
+    }
+
+    if (!acquireQueuePermit(priority)) {
+      if (callerRuns()) {
+        Promise<Object> promise = vertx.getOrCreateContext().promise();
+        runTask(task, promise, false);
+        return VertxAsyncCancellation.cancellable(promise);
+      }
+      else {
+        rejectedTaskCount.increment();
+        return Future.failedFuture(createRejectedExecutionException());
+      }
+    }
+
+    var queuedTask = new PromiseQueuedTask(task, vertx.getOrCreateContext().promise());
+    queueSize.incrementAndGet();
+    queue.offer(queuedTask, priority);
+    schedulePlaceholder();
+    queuedTask.promise.future().onFailure(e -> {
+      if (e instanceof CancellationException) {
+        removeQueuedTask(queuedTask);
+      }
+    });
+    return VertxAsyncCancellation.cancellable(queuedTask.promise);
+  }
+
+  /**
+   * Executes the given task on a worker thread. The task itself is responsible
+   * for completing the given {@link CompletableFuture}.
+   *
+   * <p>If the task was rejected, the {@code CompletableFuture} gets
+   * completed exceptionally with a {@link RejectedExecutionException}.
+   */
+  public void execute(Runnable task, CompletableFuture<?> completableFuture) {
+    execute(TaskPriority.NORMAL, task, completableFuture);
+  }
+
+  /**
+   * Executes the given task on a worker thread. The priority only matters if
+   * the executor is prioritized.
+   *
+   * @see #execute(Runnable, CompletableFuture)
+   */
+  public void execute(TaskPriority priority, Runnable task, CompletableFuture<?> completableFuture) {
+    if (shutdown) {
+      completableFuture.completeExceptionally(createShutdownException());
+      return;
+    }
+
+    if (queue == null) {
+      queueSize.incrementAndGet();
+      executeOnPool(() -> runTask(task, completableFuture, true), e -> {
+        queueSize.decrementAndGet();
+        completableFuture.completeExceptionally(e);
+      });
+      return;
+    }
+
+    if (!acquireQueuePermit(priority)) {
+      if (callerRuns()) {
+        runTask(task, completableFuture, false);
+      }
+      else {
+        rejectedTaskCount.increment();
+        completableFuture.completeExceptionally(createRejectedExecutionException());
+      }
+      return;
+    }
+
+    var queuedTask = new CompletableFutureQueuedTask(task, completableFuture);
+    queueSize.incrementAndGet();
+    queue.offer(queuedTask, priority);
+    schedulePlaceholder();
+    completableFuture.whenComplete((result, error) -> {
+      if (completableFuture.isCancelled()) {
+        removeQueuedTask(queuedTask);
+      }
+    });
+  }
+
+  /**
+   * Executes the given task on a worker thread after all previous tasks with
+   * an equal ordering key (see {@link OrderingKey}).
+   *
+   * @see #execute(Handler)
+   */
+  public Future<Object> executeOrdered(Object orderingKey, Handler<Promise<Object>> task) {
+    if (shutdown) {
+      return Future.failedFuture(createShutdownException());
+    }
+
+    if (!acquireOrderedQueuePermit()) {
+      rejectedTaskCount.increment();
+      return Future.failedFuture(createRejectedExecutionException());
+    }
+
+    var queuedTask = new PromiseQueuedTask(task, vertx.getOrCreateContext().promise());
+    queueSize.incrementAndGet();
+    orderedStripe(orderingKey).offer(queuedTask);
+    return VertxAsyncCancellation.cancellable(queuedTask.promise);
+  }
+
+  /**
+   * Executes the given task on a worker thread after all previous tasks with
+   * an equal ordering key (see {@link OrderingKey}).
+   *
+   * @see #execute(Runnable, CompletableFuture)
+   */
+  public void executeOrdered(Object orderingKey, Runnable task, CompletableFuture<?> completableFuture) {
+    if (shutdown) {
+      completableFuture.completeExceptionally(createShutdownException());
+      return;
+    }
+
+    if (!acquireOrderedQueuePermit()) {
+      rejectedTaskCount.increment();
+      completableFuture.completeExceptionally(createRejectedExecutionException());
+      return;
+    }
+
+    queueSize.incrementAndGet();
+    orderedStripe(orderingKey).offer(new CompletableFutureQueuedTask(task, completableFuture));
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return the number of tasks waiting for a worker thread.
+   */
+  public int getQueueSize() {
+    return queueSize.get();
+  }
+
+  /**
+   * @return the maximum queue size or {@link VertxAsync#UNBOUNDED_QUEUE_SIZE}.
+   */
+  public int getMaxQueueSize() {
+    return maxQueueSize;
+  }
+
+  /**
+   * @return the number of tasks that were not executed because the queue was
+   * full.
+   */
+  public long getRejectedTaskCount() {
+    return rejectedTaskCount.sum();
+  }
+
+  /**
+   * @return the number of tasks which are currently executed by a thread.
+   */
+  public int getActiveTaskCount() {
+    return activeTaskCount.get();
+  }
+
+  /**
+   * @return the number of tasks whose execution by a thread has finished.
+   * The asynchronous result of a task may still be pending.
+   */
+  public long getCompletedTaskCount() {
+    return completedTaskCount.sum();
+  }
+
+  /**
+   * @return the number of queued and running tasks. A task which gets picked
+   * up by a worker thread is counted as running before it stops being
+   * counted as queued, so this number never drops to zero in between.
+   */
+  public int getPendingTaskCount() {
+    return queueSize.get() + activeTaskCount.get();
+  }
+
+  /**
+   * @return the task which is executed by a thread for the longest time, or
+   * an empty {@code Optional} if no task is currently executed.
+   */
+  public Optional<RunningTask> getLongestRunningTask() {
+    ThreadSlot longestRunningSlot = null;
+    long longestStartNanos = 0;
+    for (ThreadSlot slot : threadSlots) {
+      if (!slot.running) {
+        continue;
+      }
+
+      long startNanos = slot.startNanos;
+      if (longestRunningSlot == null || startNanos - longestStartNanos < 0) {
+        longestRunningSlot = slot;
+        longestStartNanos = startNanos;
+      }
+    }
+    return longestRunningSlot != null ? Optional.of(new RunningTask(longestRunningSlot.thread, longestStartNanos)) : Optional.empty();
+  }
+
+  public ExecutorKind getExecutorKind() {
+    return forkJoinPool != null ? ExecutorKind.FORK_JOIN : ExecutorKind.WORKER;
+  }
+
+  /**
+   * @return the maximum number of threads of the thread pool.
+   */
+  public int getPoolSize() {
+    if (forkJoinPool != null) {
+      return forkJoinPool.getParallelism();
+    }
+    else if (poolExecutor instanceof EnhancedQueueExecutor) {
+      return ((EnhancedQueueExecutor) poolExecutor).getMaximumPoolSize();
+    }
+    else if (poolExecutor instanceof ThreadPoolExecutor) {
+      return ((ThreadPoolExecutor) poolExecutor).getMaximumPoolSize();
+    }
+    return -1;
+  }
+
+  /**
+   * Changes the maximum number of threads of the thread pool of a shared
+   * worker executor. If the pool gets shrunk, running tasks are not affected
+   * and the surplus threads terminate once they become idle.
+   *
+   * @throws IllegalStateException if the thread pool can't be resized, which
+   *                               is the case for the default Vert.x worker
+   *                               pool and fork join executors.
+   */
+  public void setPoolSize(int poolSize) {
+    if (poolSize < 1) {
+      throw new IllegalArgumentException("The pool size must be positive.");
+    }
+    if (workerExecutor == null) {
+      throw new IllegalStateException("The pool size of the executor '" + name + "' can't be changed at runtime.");
+    }
+
+    ExecutorService pool = ((WorkerExecutorInternal) workerExecutor).getPool().executor();
+    if (pool instanceof EnhancedQueueExecutor) {
+      var enhancedQueueExecutor = (EnhancedQueueExecutor) pool;
+      // The core pool size must never exceed the maximum pool size
+      if (poolSize < enhancedQueueExecutor.getCorePoolSize()) {
+        enhancedQueueExecutor.setCorePoolSize(poolSize);
+      }
+      enhancedQueueExecutor.setMaximumPoolSize(poolSize);
+    }
+    else if (pool instanceof ThreadPoolExecutor) {
+      var threadPoolExecutor = (ThreadPoolExecutor) pool;
+      // The core pool size must never exceed the maximum pool size
+      if (poolSize > threadPoolExecutor.getMaximumPoolSize()) {
+        threadPoolExecutor.setMaximumPoolSize(poolSize);
+        threadPoolExecutor.setCorePoolSize(poolSize);
+      }
+      else {
+        threadPoolExecutor.setCorePoolSize(poolSize);
+        threadPoolExecutor.setMaximumPoolSize(poolSize);
+      }
+    }
+    else {
+      throw new IllegalStateException("The thread pool of the executor '" + name + "' can't be resized: " + pool.getClass().getName());
+    }
+  }
+
+  /**
+   * @return the thread pool of the worker executor. Tasks submitted to it
+   * bypass the queue of this executor.
+   */
+  Executor threadPool() {
+    return poolExecutor;
+  }
+
+  /**
+   * Stops accepting new tasks, which will be rejected with a
+   * {@link RejectedExecutionException}. The already queued and running tasks
+   * are not affected.
+   *
+   * @return a {@link CompletableFuture}, which gets completed once no task is
+   * queued or running anymore.
+   */
+  public CompletableFuture<Void> shutdown() {
+    shutdown = true;
+    completeDrainedIfIdle();
+    return drained;
+  }
+
+  public boolean isShutdown() {
+    return shutdown;
+  }
+
+  public Future<Void> close() {
+    if (forkJoinPool != null) {
+      forkJoinPool.shutdown();
+    }
+    return workerExecutor != null ? workerExecutor.close() : Future.succeededFuture();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Executes the given task on the worker pool via
+   * {@link WorkerExecutor#executeBlocking}, so that it runs on the context of
+   * the caller, or directly on a fork join pool.
+   *
+   * @param onRejected gets called if the pool was already closed.
+   */
+  private void executeBlocking(Runnable task, Consumer<Throwable> onRejected) {
+    if (forkJoinPool != null) {
+      executeOnPool(task, onRejected);
+      return;
+    }
+
+    Handler<Promise<Object>> handler = promise -> {
+      task.run();
+      promise.complete();
+    };
+    try {
+      if (workerExecutor != null) {
+        workerExecutor.executeBlocking(handler, false);
+      }
+      else {
+        vertx.executeBlocking(handler, false);
+      }
+    }
+    catch (RejectedExecutionException e) {
+      // The pool was already closed
+      onRejected.accept(e);
+    }
+    catch (IllegalStateException e) {
+      // The worker executor was already closed
+      onRejected.accept(new RejectedExecutionException(e.getMessage(), e));
+    }
+  }
+
+  private void executeOnPool(Runnable task, Consumer<Throwable> onRejected) {
+    try {
+      if (forkJoinPool != null && ForkJoinTask.getPool() == forkJoinPool) {
+        // A nested call from a task of this pool, which can be executed by
+        // the current worker thread or get stolen by an idle one
+        ForkJoinTask.adapt(task).fork();
+      }
+      else {
+        poolExecutor.execute(task);
+      }
+    }
+    catch (RejectedExecutionException e) {
+      // The pool was already closed
+      onRejected.accept(e);
+    }
+  }
+
+  /**
+   * @param dequeued whether the task has been counted as queued until now.
+   */
+  private void runTask(Handler<Promise<Object>> task, Promise<Object> promise, boolean dequeued) {
+    if (promise.future().isComplete()) {
+      // Was cancelled before the execution started
+      taskSkipped(dequeued);
+      return;
+    }
+
+    ThreadSlot slot = taskStarted(dequeued);
+    try {
+      if (maxExecutionTimeMillis == 0) {
+        task.handle(promise);
+        return;
+      }
+
+      var deadline = new Deadline(promise::tryFail);
+      promise.future().onComplete(ignore -> deadline.cancel());
+      try {
+        task.handle(promise);
+      }
+      finally {
+        deadline.executionFinished();
+      }
+    }
+    catch (Throwable e) {
+      // Would otherwise get lost in the placeholder
+      promise.tryFail(e);
+    }
+    finally {
+      taskFinished(slot);
+    }
+  }
+
+  private void runTask(Runnable task, CompletableFuture<?> completableFuture, boolean dequeued) {
+    if (completableFuture.isDone()) {
+      // Was cancelled before the execution started
+      taskSkipped(dequeued);
+      return;
+    }
+
+    ThreadSlot slot = taskStarted(dequeued);
+    try {
+      if (maxExecutionTimeMillis == 0) {
+        task.run();
+        return;
+      }
+
+      var deadline = new Deadline(completableFuture::completeExceptionally);
+      completableFuture.whenComplete((result, error) -> deadline.cancel());
+      try {
+        task.run();
+      }
+      finally {
+        deadline.executionFinished();
+      }
+    }
+    catch (Throwable e) {
+      // Would otherwise get lost in the placeholder
+      completableFuture.completeExceptionally(e);
+    }
+    finally {
+      taskFinished(slot);
+    }
+  }
+
+  /**
+   * The task gets counted as running before it stops being counted as
+   * queued, so that the draining can't observe an idle executor in between.
+   */
+  private ThreadSlot taskStarted(boolean dequeued) {
+    ThreadSlot slot = threadSlot();
+    // A task may run another task of this executor on the same thread (e.g.,
+    // with the `CALLER_RUNS` policy), which then belongs to the outer one
+    if (slot.depth++ == 0) {
+      slot.startNanos = System.nanoTime();
+      slot.running = true;
+    }
+    activeTaskCount.incrementAndGet();
+    if (dequeued) {
+      queueSize.decrementAndGet();
+    }
+    return slot;
+  }
+
+  private ThreadSlot threadSlot() {
+    ThreadSlot slot = threadSlot.get();
+    if (slot == null) {
+      // Threads which have ever executed a task may have terminated since
+      threadSlots.removeIf(existingSlot -> !existingSlot.thread.isAlive());
+      slot = new ThreadSlot();
+      threadSlot.set(slot);
+      threadSlots.add(slot);
+    }
+    return slot;
+  }
+
+  private void taskSkipped(boolean dequeued) {
+    if (dequeued) {
+      queueSize.decrementAndGet();
+      completeDrainedIfIdle();
+    }
+  }
+
+  private void taskFinished(ThreadSlot slot) {
+    if (--slot.depth == 0) {
+      slot.running = false;
+    }
+    activeTaskCount.decrementAndGet();
+    completedTaskCount.increment();
+    completeDrainedIfIdle();
+  }
+
+  private void completeDrainedIfIdle() {
+    if (shutdown && getPendingTaskCount() == 0) {
+      drained.complete(null);
+    }
+  }
+
+  /**
+   * Removes a cancelled task from the bounded queue, so that it immediately
+   * frees its place.
+   */
+  private void removeQueuedTask(QueuedTask queuedTask) {
+    if (queue.remove(queuedTask)) {
+      queueSize.decrementAndGet();
+      releaseQueuePermit();
+      completeDrainedIfIdle();
+    }
+  }
+
+  /**
+   * Submits a new placeholder for a newly queued task, unless there are
+   * already as many placeholders as threads in the pool. In that case, the
+   * task gets executed by one of the existing placeholders.
+   */
+  private void schedulePlaceholder() {
+    int maxPlaceholderCount = getPoolSize();
+    while (true) {
+      int count = placeholderCount.get();
+      if (maxPlaceholderCount > 0 && count >= maxPlaceholderCount) {
+        return;
+      }
+      if (placeholderCount.compareAndSet(count, count + 1)) {
+        executeBlocking(this::runPlaceholder, this::placeholderRejected);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Executes the next queued task and resubmits the placeholder while there
+   * are queued tasks left. Each placeholder executes only one task per run,
+   * so that a busy executor does not occupy a thread of the pool permanently.
+   */
+  private void runPlaceholder() {
+    try {
+      QueuedTask queuedTask = queue.poll();
+      if (queuedTask != null) {
+        // The task stops being counted as queued once it runs
+        releaseQueuePermit();
+        queuedTask.run();
+      }
+    }
+    finally {
+      if (!queue.isEmpty()) {
+        executeBlocking(this::runPlaceholder, this::placeholderRejected);
+      }
+      else {
+        placeholderCount.decrementAndGet();
+        // A task may have been queued before the count was decremented
+        if (!queue.isEmpty()) {
+          schedulePlaceholder();
+        }
+      }
+    }
+  }
+
+  /**
+   * The pool was already closed, so none of the queued tasks will ever be
+   * executed.
+   */
+  private void placeholderRejected(Throwable e) {
+    placeholderCount.decrementAndGet();
+    var rejectedExecutionException = e instanceof RejectedExecutionException
+                                      ? (RejectedExecutionException) e
+                                      : new RejectedExecutionException(e);
+    QueuedTask queuedTask;
+    while ((queuedTask = queue.poll()) != null) {
+      queueSize.decrementAndGet();
+      releaseQueuePermit();
+      queuedTask.reject(rejectedExecutionException);
+    }
+    completeDrainedIfIdle();
+  }
+
+  /**
+   * A prioritized executor without a bounded queue has no permits.
+   *
+   * <p>If the queue is full, a new task takes over the place of the oldest
+   * queued task with a lower priority, regardless of the saturation policy.
+   * A queued task with a higher priority than the new task never gets
+   * discarded.
+   */
+  private boolean acquireQueuePermit(TaskPriority priority) {
+    if (queuePermits == null || queuePermits.tryAcquire()) {
+      return true;
+    }
+
+    if (discard(queue.pollOldestOfLowerPriority(priority))) {
+      return true;
+    }
+
+    switch (saturationPolicy) {
+      case BLOCK:
+        return awaitQueuePermit();
+
+      case DISCARD_OLDEST:
+        if (discard(queue.pollOldestOfPriority(priority))) {
+          return true;
+        }
+        // All permits belong to tasks which are just being queued or
+        // dequeued, or to tasks with a higher priority. A last attempt
+        // instead of spinning until one is released.
+        return queuePermits.tryAcquire();
+
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Rejects the given queued task, whose permit gets taken over by the
+   * caller.
+   *
+   * @return false, if there was no task to discard.
+   */
+  private boolean discard(QueuedTask queuedTask) {
+    if (queuedTask == null) {
+      return false;
+    }
+
+    queueSize.decrementAndGet();
+    rejectedTaskCount.increment();
+    queuedTask.reject(createRejectedExecutionException());
+    completeDrainedIfIdle();
+    return true;
+  }
+
+  /**
+   * A task must never block an event loop thread, so it gets rejected
+   * instead.
+   */
+  private boolean callerRuns() {
+    return saturationPolicy == SaturationPolicy.CALLER_RUNS && !isOnNonBlockingThread();
+  }
+
+  /**
+   * The thread of the {@link VertxAsyncTimer} dispatches delayed calls and
+   * retries, so it must not be blocked either.
+   */
+  private static boolean isOnNonBlockingThread() {
+    return Context.isOnEventLoopThread() || VertxAsyncTimer.isOnWheelThread();
+  }
+
+  /**
+   * Ordered tasks can only be blocked or rejected, because running them in
+   * the calling thread or discarding older tasks would violate the order.
+   */
+  private boolean acquireOrderedQueuePermit() {
+    if (queuePermits == null || queuePermits.tryAcquire()) {
+      return true;
+    }
+
+    return saturationPolicy == SaturationPolicy.BLOCK && awaitQueuePermit();
+  }
+
+  /**
+   * Waits at most for the maximum block time until a permit gets released.
+   * An event loop thread must never be blocked, so the task gets rejected
+   * instead.
+   */
+  private boolean awaitQueuePermit() {
+    if (isOnNonBlockingThread()) {
+      return false;
+    }
+
+    try {
+      return queuePermits.tryAcquire(maxBlockTimeNanos, TimeUnit.NANOSECONDS);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void releaseQueuePermit() {
+    if (queuePermits != null) {
+      queuePermits.release();
+    }
+  }
+
+  private OrderedStripe orderedStripe(Object orderingKey) {
+    int hash = Objects.hashCode(orderingKey);
+    int index = (hash ^ (hash >>> 16)) & (orderedStripes.length() - 1);
+    OrderedStripe orderedStripe = orderedStripes.get(index);
+    if (orderedStripe == null) {
+      orderedStripes.compareAndSet(index, null, new OrderedStripe());
+      orderedStripe = orderedStripes.get(index);
+    }
+    return orderedStripe;
+  }
+
+  /**
+   * @param poolSize the maximum number of threads or -1, if it's unknown.
+   * @return the number of serial queues for calls with an
+   * {@link OrderingKey}, which is a power of two.
+   */
+  private static int orderedStripeCount(int poolSize) {
+    long stripes = poolSize > 0 ? (long) poolSize * ORDERED_STRIPES_PER_THREAD : MIN_ORDERED_STRIPES;
+    stripes = Math.max(MIN_ORDERED_STRIPES, Math.min(MAX_ORDERED_STRIPES, stripes));
+    return Integer.highestOneBit((int) stripes - 1) << 1;
+  }
+
+  /**
+   * Creates a work-stealing pool with one thread per available processor. The
+   * pool works in FIFO mode, because its tasks never get joined. The threads
+   * use the context class loader of the caller, which is the class loader of
+   * the application during the initialization of the executors.
+   */
+  private static ForkJoinPool createForkJoinPool(String name) {
+    ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    return new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+      ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      thread.setName(name + "-" + thread.getPoolIndex());
+      thread.setContextClassLoader(contextClassLoader);
+      return thread;
+    }, null, true);
+  }
+
+  private RejectedExecutionException createRejectedExecutionException() {
+    return new RejectedExecutionException("The queue of the executor '" + name + "' is full (" + maxQueueSize + " tasks).");
+  }
+
+  private RejectedExecutionException createShutdownException() {
+    return new RejectedExecutionException("The executor '" + name + "' has been shut down.");
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  /**
+   * A task which is currently executed by a thread of the executor.
+   */
+  public static final class RunningTask {
+
+    private final Thread thread;
+    private final long   startNanos;
+
+    private RunningTask(Thread thread, long startNanos) {
+      this.thread = thread;
+      this.startNanos = startNanos;
+    }
+
+    /**
+     * @return the thread which executes the task.
+     */
+    public Thread getThread() {
+      return thread;
+    }
+
+    /**
+     * @return the time since the thread has started the execution.
+     */
+    public long getRunningTimeNanos() {
+      return System.nanoTime() - startNanos;
+    }
+  }
+
+  /**
+   * The execution state of a thread which executes tasks of the executor.
+   * Only the thread itself writes to its slot.
+   */
+  private static class ThreadSlot {
+
+    private final Thread thread = Thread.currentThread();
+
+    private int              depth;
+    private volatile long    startNanos;
+    private volatile boolean running;
+  }
+
+  /**
+   * A serial queue of ordered tasks. At most one task of a stripe gets
+   * executed at the same time. After each task, the stripe gets resubmitted
+   * to the thread pool, so that a busy stripe does not occupy a worker thread
+   * permanently.
+   */
+  private class OrderedStripe implements Runnable {
+
+    private final Queue<QueuedTask> tasks     = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean     scheduled = new AtomicBoolean();
+
+    void offer(QueuedTask task) {
+      tasks.offer(task);
+      schedule();
+    }
+
+    @Override
+    public void run() {
+      try {
+        QueuedTask task = tasks.poll();
+        if (task != null) {
+          // The task stops being counted as queued once it runs
+          if (queuePermits != null) {
+            queuePermits.release();
+          }
+          task.run();
+        }
+      }
+      finally {
+        scheduled.set(false);
+        // A task may have been offered before `scheduled` was reset
+        schedule();
+      }
+    }
+
+    private void schedule() {
+      if (tasks.isEmpty() || !scheduled.compareAndSet(false, true)) {
+        return;
+      }
+
+      try {
+        poolExecutor.execute(this);
+      }
+      catch (RejectedExecutionException e) {
+        // The pool was already closed
+        QueuedTask task;
+        while ((task = tasks.poll()) != null) {
+          queueSize.decrementAndGet();
+          if (queuePermits != null) {
+            queuePermits.release();
+          }
+          task.reject(e);
+        }
+        scheduled.set(false);
+        completeDrainedIfIdle();
+      }
+    }
+  }
+
+  /**
+   * The queue of the tasks which are waiting for a placeholder. Without
+   * prioritization, it consists of a single lane, which gets served in FIFO
+   * order without any locking.
+   */
+  private static final class TaskQueue {
+
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private final List<Queue<QueuedTask>> lanes;
+    private final int[]                   credits;
+
+    private TaskQueue(boolean prioritized) {
+      int laneCount = prioritized ? PRIORITIES.length : 1;
+      lanes = new ArrayList<>(laneCount);
+      for (int i = 0; i < laneCount; i++) {
+        lanes.add(new ConcurrentLinkedQueue<>());
+      }
+      credits = new int[laneCount];
+    }
+
+    void offer(QueuedTask task, TaskPriority priority) {
+      lanes.get(lanes.size() == 1 ? 0 : priority.ordinal()).offer(task);
+    }
+
+    QueuedTask poll() {
+      return lanes.size() == 1 ? lanes.get(0).poll() : pollWeighted();
+    }
+
+    /**
+     * Smooth weighted round-robin over the non-empty lanes. The credits of an
+     * empty lane get reset, so that a lane can't save up credits while it is
+     * idle.
+     */
+    private synchronized QueuedTask pollWeighted() {
+      while (true) {
+        int selectedLane = -1;
+        int totalWeight = 0;
+        for (int i = 0; i < lanes.size(); i++) {
+          if (lanes.get(i).isEmpty()) {
+            credits[i] = 0;
+            continue;
+          }
+
+          int weight = PRIORITIES[i].getWeight();
+          credits[i] += weight;
+          totalWeight += weight;
+          if (selectedLane == -1 || credits[i] > credits[selectedLane]) {
+            selectedLane = i;
+          }
+        }
+
+        if (selectedLane == -1) {
+          return null;
+        }
+
+        credits[selectedLane] -= totalWeight;
+        QueuedTask task = lanes.get(selectedLane).poll();
+        if (task != null) {
+          return task;
+        }
+        // The task was concurrently removed or discarded
+      }
+    }
+
+    /**
+     * @return the oldest task of the lowest priority which is lower than the
+     * given one, or null if there is none.
+     */
+    QueuedTask pollOldestOfLowerPriority(TaskPriority priority) {
+      // All tasks of an executor without priorities are equally important
+      return lanes.size() == 1 ? null : pollOldest(priority.ordinal() + 1);
+    }
+
+    /**
+     * @return the oldest task of the lowest priority which is not higher than
+     * the given one, or null if there is none.
+     */
+    QueuedTask pollOldestOfPriority(TaskPriority priority) {
+      return pollOldest(lanes.size() == 1 ? 0 : priority.ordinal());
+    }
+
+    /**
+     * The most important tasks are the last to be discarded.
+     */
+    private QueuedTask pollOldest(int highestPriorityLane) {
+      for (int i = lanes.size() - 1; i >= highestPriorityLane; i--) {
+        QueuedTask task = lanes.get(i).poll();
+        if (task != null) {
+          return task;
+        }
+      }
+      return null;
+    }
+
+    boolean isEmpty() {
+      for (Queue<QueuedTask> lane : lanes) {
+        if (!lane.isEmpty()) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    boolean remove(QueuedTask task) {
+      for (Queue<QueuedTask> lane : lanes) {
+        if (lane.remove(task)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private interface QueuedTask {
+
+    void run();
+
+    void reject(RejectedExecutionException e);
+  }
+
+  private class PromiseQueuedTask implements QueuedTask {
+
+    private final Handler<Promise<Object>> task;
+    private final Promise<Object>          promise;
+
+    private PromiseQueuedTask(Handler<Promise<Object>> task, Promise<Object> promise) {
+      this.task = task;
+      this.promise = promise;
+    }
+
+    @Override
+    public void run() {
+      runTask(task, promise, true);
+    }
+
+    @Override
+    public void reject(RejectedExecutionException e) {
+      promise.tryFail(e);
+    }
+  }
+
+  private class CompletableFutureQueuedTask implements QueuedTask {
+
+    private final Runnable             task;
+    private final CompletableFuture<?> completableFuture;
+
+    private CompletableFutureQueuedTask(Runnable task, CompletableFuture<?> completableFuture) {
+      this.task = task;
+      this.completableFuture = completableFuture;
+    }
+
+    @Override
+    public void run() {
+      runTask(task, completableFuture, true);
+    }
+
+    @Override
+    public void reject(RejectedExecutionException e) {
+      completableFuture.completeExceptionally(e);
+    }
+  }
+
+  /**
+   * Enforces the maximum execution time of a single task execution.
+   *
+   * <p>The worker thread only gets interrupted while it is still executing
+   * the task, and the interrupt flag gets cleared afterwards. Therefore, an
+   * interrupt never leaks into the next task of the worker thread.
+   */
+  private class Deadline implements Handler<Long> {
+
+    private final Thread              thread = Thread.currentThread();
+    private final Consumer<Throwable> fail;
+    private final long                timerId;
+
+    private boolean executing = true;
+    private boolean interrupted;
+
+    private Deadline(Consumer<Throwable> fail) {
+      this.fail = fail;
+      this.timerId = vertx.setTimer(maxExecutionTimeMillis, this);
+    }
+
+    @Override
+    public void handle(Long timerId) {
+      fail.accept(new TimeoutException("The execution on the executor '" + name + "' exceeded the maximum execution time of " + maxExecutionTimeMillis + " ms."));
+      synchronized (this) {
+        if (executing) {
+          interrupted = true;
+          thread.interrupt();
+        }
+      }
+    }
+
+    void cancel() {
+      vertx.cancelTimer(timerId);
+    }
+
+    void executionFinished() {
+      synchronized (this) {
+        executing = false;
+        if (interrupted) {
+          // Clears the interrupt flag, if the task did not react to it
+          Thread.interrupted();
+        }
+      }
+    }
+  }
+}
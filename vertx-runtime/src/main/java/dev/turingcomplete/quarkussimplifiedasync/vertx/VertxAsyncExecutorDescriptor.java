@@ -0,0 +1,148 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import io.quarkus.runtime.annotations.RecordableConstructor;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A compact description of a shared worker executor, which was defined by
+ * the attributes of a @{@link VertxAsync} annotation.
+ */
+public final class VertxAsyncExecutorDescriptor {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final String           name;
+  private final int              poolSize;
+  private final long             maxExecutionTime;
+  private final TimeUnit         maxExecutionTimeUnit;
+  private final boolean          enforceMaxExecutionTime;
+  private final int              maxQueueSize;
+  private final SaturationPolicy saturationPolicy;
+  private final long             maxBlockTime;
+  private final TimeUnit         maxBlockTimeUnit;
+  private final ExecutorKind     executorKind;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  @RecordableConstructor
+  public VertxAsyncExecutorDescriptor(String name,
+                                      int poolSize,
+                                      long maxExecutionTime,
+                                      TimeUnit maxExecutionTimeUnit,
+                                      boolean enforceMaxExecutionTime,
+                                      int maxQueueSize,
+                                      SaturationPolicy saturationPolicy,
+                                      long maxBlockTime,
+                                      TimeUnit maxBlockTimeUnit,
+                                      ExecutorKind executorKind) {
+
+    this.name = name;
+    this.poolSize = poolSize;
+    this.maxExecutionTime = maxExecutionTime;
+    this.maxExecutionTimeUnit = maxExecutionTimeUnit;
+    this.enforceMaxExecutionTime = enforceMaxExecutionTime;
+    this.maxQueueSize = maxQueueSize;
+    this.saturationPolicy = saturationPolicy;
+    this.maxBlockTime = maxBlockTime;
+    this.maxBlockTimeUnit = maxBlockTimeUnit;
+    this.executorKind = executorKind;
+  }
+
+  static VertxAsyncExecutorDescriptor fromAnnotation(VertxAsync vertxAsyncAnnotation) {
+    return new VertxAsyncExecutorDescriptor(vertxAsyncAnnotation.value(),
+                                            vertxAsyncAnnotation.executorPoolSize(),
+                                            vertxAsyncAnnotation.maxExecutionTime(),
+                                            vertxAsyncAnnotation.maxExecutionTimeUnit(),
+                                            vertxAsyncAnnotation.enforceMaxExecutionTime(),
+                                            vertxAsyncAnnotation.maxQueueSize(),
+                                            vertxAsyncAnnotation.saturationPolicy(),
+                                            vertxAsyncAnnotation.maxBlockTime(),
+                                            vertxAsyncAnnotation.maxBlockTimeUnit(),
+                                            vertxAsyncAnnotation.executorKind());
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  public String getName() {
+    return name;
+  }
+
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  public long getMaxExecutionTime() {
+    return maxExecutionTime;
+  }
+
+  public TimeUnit getMaxExecutionTimeUnit() {
+    return maxExecutionTimeUnit;
+  }
+
+  public boolean isEnforceMaxExecutionTime() {
+    return enforceMaxExecutionTime;
+  }
+
+  /**
+   * @return the maximum queue size or {@link VertxAsync#UNBOUNDED_QUEUE_SIZE}.
+   */
+  public int getMaxQueueSize() {
+    return maxQueueSize;
+  }
+
+  public SaturationPolicy getSaturationPolicy() {
+    return saturationPolicy;
+  }
+
+  public long getMaxBlockTime() {
+    return maxBlockTime;
+  }
+
+  public TimeUnit getMaxBlockTimeUnit() {
+    return maxBlockTimeUnit;
+  }
+
+  public ExecutorKind getExecutorKind() {
+    return executorKind;
+  }
+
+  public boolean hasBoundedQueue() {
+    return maxQueueSize > 0;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    VertxAsyncExecutorDescriptor that = (VertxAsyncExecutorDescriptor) o;
+    return poolSize == that.poolSize &&
+           maxExecutionTime == that.maxExecutionTime &&
+           enforceMaxExecutionTime == that.enforceMaxExecutionTime &&
+           maxQueueSize == that.maxQueueSize &&
+           maxBlockTime == that.maxBlockTime &&
+           name.equals(that.name) &&
+           maxExecutionTimeUnit == that.maxExecutionTimeUnit &&
+           saturationPolicy == that.saturationPolicy &&
+           maxBlockTimeUnit == that.maxBlockTimeUnit &&
+           executorKind == that.executorKind;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, poolSize, maxExecutionTime, maxExecutionTimeUnit, enforceMaxExecutionTime, maxQueueSize, saturationPolicy, maxBlockTime, maxBlockTimeUnit, executorKind);
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
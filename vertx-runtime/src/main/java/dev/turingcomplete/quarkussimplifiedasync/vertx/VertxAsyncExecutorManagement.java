@@ -0,0 +1,118 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import org.jboss.logging.Logger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Provides the state of all {@link VertxAsyncExecutor}s and allows to resize
+ * their thread pools at runtime.
+ *
+ * <p>The method of the longest running task of an executor is determined on
+ * demand from the stack trace of its thread. Therefore, the execution of a
+ * task does not have to record its method. The result is best effort,
+ * because the thread may already execute another task at that time.
+ */
+@Singleton
+public class VertxAsyncExecutorManagement {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final Logger LOGGER = Logger.getLogger(VertxAsyncExecutorManagement.class);
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final VertxAsyncExecutorRegistry executorRegistry;
+  private final Set<String>                methodNames;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  @Inject
+  public VertxAsyncExecutorManagement(VertxAsyncExecutorRegistry executorRegistry, VertxAsyncMethodIndex methodIndex) {
+    this.executorRegistry = executorRegistry;
+    this.methodNames = methodIndex.descriptors().stream()
+                                  .map(descriptor -> methodName(descriptor.getDeclaringClassName(), descriptor.getMethodName()))
+                                  .collect(Collectors.toUnmodifiableSet());
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * @return the status of all executors, including the one of the default
+   * Vert.x worker pool.
+   */
+  public List<VertxAsyncExecutorStatus> executorStatuses() {
+    return executorRegistry.executors().stream().map(this::createStatus).collect(Collectors.toList());
+  }
+
+  /**
+   * @throws IllegalArgumentException if the executor does not exist.
+   */
+  public VertxAsyncExecutorStatus executorStatus(String executorName) {
+    return createStatus(findExecutor(executorName));
+  }
+
+  /**
+   * Changes the maximum number of threads of the given executor.
+   *
+   * @throws IllegalArgumentException if the executor does not exist or the
+   *                                  pool size is not positive.
+   * @throws IllegalStateException    if the thread pool of the executor can't
+   *                                  be resized.
+   * @see VertxAsyncExecutor#setPoolSize(int)
+   */
+  public void setPoolSize(String executorName, int poolSize) {
+    VertxAsyncExecutor executor = findExecutor(executorName);
+    int previousPoolSize = executor.getPoolSize();
+    executor.setPoolSize(poolSize);
+    LOGGER.infof("Changed the pool size of the executor '%s' from %d to %d", executorName, previousPoolSize, poolSize);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private VertxAsyncExecutor findExecutor(String executorName) {
+    return executorRegistry.executor(executorName)
+                           .orElseThrow(() -> new IllegalArgumentException("The executor '" + executorName + "' does not exist."));
+  }
+
+  private VertxAsyncExecutorStatus createStatus(VertxAsyncExecutor executor) {
+    VertxAsyncExecutor.RunningTask longestRunningTask = executor.getLongestRunningTask().orElse(null);
+    return new VertxAsyncExecutorStatus(executor.getName(),
+                                        executor.getExecutorKind(),
+                                        executor.getPoolSize(),
+                                        executor.getActiveTaskCount(),
+                                        executor.getQueueSize(),
+                                        executor.getMaxQueueSize(),
+                                        executor.getCompletedTaskCount(),
+                                        executor.getRejectedTaskCount(),
+                                        longestRunningTask != null ? findRunningMethod(longestRunningTask.getThread()) : null,
+                                        longestRunningTask != null ? longestRunningTask.getThread().getName() : null,
+                                        longestRunningTask != null ? Duration.ofNanos(longestRunningTask.getRunningTimeNanos()) : null);
+  }
+
+  /**
+   * The outermost frame of an @{@link VertxAsync} method is the one which was
+   * called by the executor. The frames of the intercepted subclass have
+   * another class name and don't match.
+   */
+  private String findRunningMethod(Thread thread) {
+    StackTraceElement[] stackTrace = thread.getStackTrace();
+    for (int i = stackTrace.length - 1; i >= 0; i--) {
+      String methodName = methodName(stackTrace[i].getClassName(), stackTrace[i].getMethodName());
+      if (methodNames.contains(methodName)) {
+        return methodName;
+      }
+    }
+    return null;
+  }
+
+  private static String methodName(String className, String methodName) {
+    return className + "#" + methodName;
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
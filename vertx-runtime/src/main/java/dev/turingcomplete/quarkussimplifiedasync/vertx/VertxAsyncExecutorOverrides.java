@@ -0,0 +1,86 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The executor attributes from the {@link SimplifiedAsyncVertxConfig}, which
+ * override the ones of the @{@link VertxAsync} annotations.
+ *
+ * <p>The overrides get applied once by the {@link VertxAsyncExecutorRegistry}
+ * during the creation of an executor.
+ */
+public final class VertxAsyncExecutorOverrides {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final VertxAsyncExecutorOverrides NONE = new VertxAsyncExecutorOverrides(Collections.emptyMap());
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final Map<String, SimplifiedAsyncVertxConfig.ExecutorConfig> executorConfigs;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private VertxAsyncExecutorOverrides(Map<String, SimplifiedAsyncVertxConfig.ExecutorConfig> executorConfigs) {
+    this.executorConfigs = executorConfigs;
+  }
+
+  /**
+   * @throws IllegalStateException if a configured value is invalid.
+   */
+  static VertxAsyncExecutorOverrides create(Map<String, SimplifiedAsyncVertxConfig.ExecutorConfig> executorConfigs) {
+    executorConfigs.forEach((executorName, executorConfig) -> {
+      if (executorConfig.poolSize.isPresent() && executorConfig.poolSize.getAsInt() < 1) {
+        throw new IllegalStateException("The configured pool size of the executor '" + executorName + "' must be positive.");
+      }
+      if (executorConfig.maxQueueSize.isPresent() && executorConfig.maxQueueSize.getAsInt() < 1 && executorConfig.maxQueueSize.getAsInt() != VertxAsync.UNBOUNDED_QUEUE_SIZE) {
+        throw new IllegalStateException("The configured maximum queue size of the executor '" + executorName + "' must be positive or " + VertxAsync.UNBOUNDED_QUEUE_SIZE + ".");
+      }
+      if (executorConfig.maxExecutionTime.isPresent() && executorConfig.maxExecutionTime.get().isNegative()) {
+        throw new IllegalStateException("The configured maximum execution time of the executor '" + executorName + "' must not be negative.");
+      }
+    });
+    return executorConfigs.isEmpty() ? NONE : new VertxAsyncExecutorOverrides(Map.copyOf(executorConfigs));
+  }
+
+  public static VertxAsyncExecutorOverrides none() {
+    return NONE;
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * @return the given {@link VertxAsyncExecutorDescriptor} with the
+   * configured attributes of its executor, or the given descriptor itself if
+   * nothing is configured for it.
+   */
+  public VertxAsyncExecutorDescriptor apply(VertxAsyncExecutorDescriptor descriptor) {
+    SimplifiedAsyncVertxConfig.ExecutorConfig executorConfig = executorConfigs.get(descriptor.getName());
+    if (executorConfig == null) {
+      return descriptor;
+    }
+
+    return new VertxAsyncExecutorDescriptor(descriptor.getName(),
+                                            executorConfig.poolSize.orElse(descriptor.getPoolSize()),
+                                            executorConfig.maxExecutionTime.map(maxExecutionTime -> maxExecutionTime.toMillis()).orElse(descriptor.getMaxExecutionTime()),
+                                            executorConfig.maxExecutionTime.isPresent() ? TimeUnit.MILLISECONDS : descriptor.getMaxExecutionTimeUnit(),
+                                            descriptor.isEnforceMaxExecutionTime(),
+                                            executorConfig.maxQueueSize.orElse(descriptor.getMaxQueueSize()),
+                                            descriptor.getSaturationPolicy(),
+                                            descriptor.getMaxBlockTime(),
+                                            descriptor.getMaxBlockTimeUnit(),
+                                            executorConfig.kind.orElse(descriptor.getExecutorKind()));
+  }
+
+  /**
+   * @return the names of all configured executors.
+   */
+  public Set<String> executorNames() {
+    return executorConfigs.keySet();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
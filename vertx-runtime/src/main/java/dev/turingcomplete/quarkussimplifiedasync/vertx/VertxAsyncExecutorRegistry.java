@@ -0,0 +1,309 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.vertx.core.Vertx;
+import org.jboss.logging.Logger;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * A registry of the {@link VertxAsyncExecutor}s used by @{@link Async} and
+ * @{@link VertxAsync} methods.
+ *
+ * <p>Each call to {@link Vertx#createSharedWorkerExecutor} acquires a global
+ * lock in Vert.x and increments the reference count of the shared pool. This
+ * registry creates the executor for each name only once and caches it for all
+ * subsequent calls. The executors of all methods from the
+ * {@link VertxAsyncMethodIndex} get already created during the startup.
+ *
+ * <p>The attributes of an executor are taken from the first
+ * {@link VertxAsyncMethodDescriptor} which uses its name, and can be
+ * overridden by the configuration (see {@link VertxAsyncExecutorOverrides}).
+ *
+ * <p>An executor is prioritized (see {@link TaskPriority}) if any of its
+ * methods from the {@link VertxAsyncMethodIndex} has a priority other than
+ * {@link TaskPriority#NORMAL}. This includes the default Vert.x worker pool.
+ *
+ * <p>During the shutdown, all executors stop accepting new tasks and get
+ * drained: The registry waits until their queued and running tasks have been
+ * executed, but at most for the configured shutdown timeout (see
+ * {@link VertxAsyncShutdownSettings}). Afterwards, it reports per executor
+ * how many tasks were completed and how many were abandoned, and how many
+ * calls have not reached an executor yet, because they were still waiting
+ * in a {@link VertxAsyncBulkhead} or in the {@link VertxAsyncTimer} (for
+ * their delay or retry backoff). Those calls get dropped, too. Calls in an
+ * open batch of an @{@link AsyncBatched} method and calls of
+ * {@link VertxAsync#nonBlocking()} methods, which wait for their event loop,
+ * are not tracked and get dropped without being reported.
+ *
+ * <p>All executors get closed if this registry gets destroyed during the
+ * shutdown.
+ */
+@Singleton
+public class VertxAsyncExecutorRegistry {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final Logger LOGGER = Logger.getLogger(VertxAsyncExecutorRegistry.class);
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final Vertx                                      vertx;
+  private final VertxAsyncExecutorOverrides                overrides;
+  private final Set<String>                                prioritizedExecutorNames;
+  private final VertxAsyncExecutor                         defaultExecutor;
+  private final ConcurrentMap<String, VertxAsyncExecutor> executors = new ConcurrentHashMap<>();
+
+  private volatile boolean shutdown;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  public VertxAsyncExecutorRegistry(Vertx vertx) {
+    this(vertx, VertxAsyncExecutorOverrides.none(), Set.of());
+  }
+
+  @Inject
+  public VertxAsyncExecutorRegistry(Vertx vertx, VertxAsyncExecutorOverrides overrides, VertxAsyncMethodIndex methodIndex) {
+    this(vertx, overrides, prioritizedExecutorNames(methodIndex));
+  }
+
+  /**
+   * @param prioritizedExecutorNames the names of the executors, which should
+   *                                 serve the tasks by their
+   *                                 {@link TaskPriority}.
+   */
+  public VertxAsyncExecutorRegistry(Vertx vertx, VertxAsyncExecutorOverrides overrides, Set<String> prioritizedExecutorNames) {
+    this.vertx = vertx;
+    this.overrides = overrides;
+    this.prioritizedExecutorNames = prioritizedExecutorNames;
+    this.defaultExecutor = new VertxAsyncExecutor(VertxAsyncExecutor.VERTX_WORKER_POOL_NAME, vertx, null, null,
+                                                  prioritizedExecutorNames.contains(VertxAsyncExecutor.VERTX_WORKER_POOL_NAME));
+  }
+
+  void initializeExecutors(@Observes StartupEvent startupEvent, VertxAsyncMethodIndex methodIndex) {
+    for (VertxAsyncMethodDescriptor descriptor : methodIndex.descriptors()) {
+      // Non-blocking methods get executed on an event loop
+      if (!descriptor.isNonBlocking()) {
+        executor(descriptor);
+      }
+    }
+
+    for (String executorName : overrides.executorNames()) {
+      if (!executors.containsKey(executorName)) {
+        LOGGER.warnf("The configured executor '%s' is not used by any @VertxAsync method.", executorName);
+      }
+    }
+  }
+
+  void drainExecutors(@Observes ShutdownEvent shutdownEvent,
+                      VertxAsyncShutdownSettings settings,
+                      VertxAsyncBulkheadRegistry bulkheadRegistry,
+                      VertxAsyncTimer timer) {
+
+    for (DrainResult drainResult : drain(settings.getTimeout())) {
+      if (drainResult.getAbandonedTaskCount() > 0) {
+        LOGGER.warnf("Abandoned %d pending tasks of the executor '%s' after the shutdown timeout of %d ms. %d tasks were completed during the shutdown.",
+                     drainResult.getAbandonedTaskCount(), drainResult.getExecutorName(), settings.getTimeout().toMillis(),
+                     drainResult.getCompletedTaskCount());
+      }
+      else if (drainResult.getCompletedTaskCount() > 0) {
+        LOGGER.infof("Completed %d pending tasks of the executor '%s' during the shutdown.",
+                     drainResult.getCompletedTaskCount(), drainResult.getExecutorName());
+      }
+    }
+
+    // The executors reject these calls once they are dispatched
+    int waitingInBulkheads = bulkheadRegistry.bulkheads().stream().mapToInt(VertxAsyncBulkhead::getWaiting).sum();
+    int waitingInTimer = timer.getPendingCount();
+    if (waitingInBulkheads > 0 || waitingInTimer > 0) {
+      LOGGER.warnf("Dropped %d calls waiting in a bulkhead and %d calls waiting for their delay or retry backoff during the shutdown.",
+                   waitingInBulkheads, waitingInTimer);
+    }
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Shuts down all executors, so that they reject new tasks, and waits until
+   * their queued and running tasks have been executed, but at most for the
+   * given timeout.
+   *
+   * @return the {@link DrainResult} of each executor.
+   */
+  public List<DrainResult> drain(Duration timeout) {
+    shutdown = true;
+    Map<VertxAsyncExecutor, Long> initialCompletedTaskCounts = new HashMap<>();
+    List<CompletableFuture<Void>> drained = new ArrayList<>();
+    for (VertxAsyncExecutor executor : executors()) {
+      initialCompletedTaskCounts.put(executor, executor.getCompletedTaskCount());
+      drained.add(executor.shutdown());
+    }
+
+    try {
+      CompletableFuture.allOf(drained.toArray(new CompletableFuture<?>[0])).get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+    catch (TimeoutException e) {
+      // The pending tasks get reported as abandoned
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    catch (ExecutionException e) {
+      // The futures of the executors never fail
+      throw new IllegalStateException(e.getCause());
+    }
+
+    return initialCompletedTaskCounts.entrySet().stream()
+                                     .map(entry -> new DrainResult(entry.getKey().getName(),
+                                                                   entry.getKey().getCompletedTaskCount() - entry.getValue(),
+                                                                   entry.getKey().getPendingTaskCount()))
+                                     .collect(Collectors.toList());
+  }
+
+  /**
+   * Gets the {@link VertxAsyncExecutor} of the given @{@link Async} method
+   * or creates it, if it does not exist yet.
+   */
+  public VertxAsyncExecutor executor(VertxAsyncMethodDescriptor descriptor) {
+    if (descriptor.usesDefaultExecutor()) {
+      return defaultExecutor;
+    }
+
+    VertxAsyncExecutorDescriptor executorDescriptor = descriptor.getExecutorDescriptor();
+    VertxAsyncExecutor executor = executors.get(executorDescriptor.getName());
+    if (executor == null) {
+      executor = executors.computeIfAbsent(executorDescriptor.getName(), executorName -> createExecutor(executorDescriptor));
+      if (shutdown) {
+        // Was created during the draining
+        executor.shutdown();
+      }
+    }
+    return executor;
+  }
+
+  /**
+   * Gets an already created {@link VertxAsyncExecutor} by its name. The
+   * executor of the default Vert.x worker pool has the name
+   * {@link VertxAsyncExecutor#VERTX_WORKER_POOL_NAME}.
+   */
+  public Optional<VertxAsyncExecutor> executor(String executorName) {
+    if (VertxAsyncExecutor.VERTX_WORKER_POOL_NAME.equals(executorName)) {
+      return Optional.of(defaultExecutor);
+    }
+    return Optional.ofNullable(executors.get(executorName));
+  }
+
+  /**
+   * @return the {@link VertxAsyncExecutor} of the default Vert.x worker pool.
+   */
+  public VertxAsyncExecutor defaultExecutor() {
+    return defaultExecutor;
+  }
+
+  /**
+   * @return all created executors, including the one of the default Vert.x
+   * worker pool.
+   */
+  public Collection<VertxAsyncExecutor> executors() {
+    List<VertxAsyncExecutor> allExecutors = new ArrayList<>(executors.size() + 1);
+    allExecutors.add(defaultExecutor);
+    allExecutors.addAll(executors.values());
+    return allExecutors;
+  }
+
+  /**
+   * @return the names of all created shared worker executors.
+   */
+  public Set<String> executorNames() {
+    return Collections.unmodifiableSet(executors.keySet());
+  }
+
+  @PreDestroy
+  public void close() {
+    executors.forEach((executorName, executor) -> executor.close().onFailure(e -> LOGGER.warnf(e, "Failed to close executor: %s", executorName)));
+    executors.clear();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static Set<String> prioritizedExecutorNames(VertxAsyncMethodIndex methodIndex) {
+    return methodIndex.descriptors().stream()
+                      .filter(descriptor -> descriptor.getPriority() != TaskPriority.NORMAL)
+                      .map(VertxAsyncMethodDescriptor::getExecutorName)
+                      .collect(Collectors.toUnmodifiableSet());
+  }
+
+  private VertxAsyncExecutor createExecutor(VertxAsyncExecutorDescriptor annotationExecutorDescriptor) {
+    VertxAsyncExecutorDescriptor executorDescriptor = overrides.apply(annotationExecutorDescriptor);
+    boolean prioritized = prioritizedExecutorNames.contains(executorDescriptor.getName());
+    if (executorDescriptor.getExecutorKind() == ExecutorKind.FORK_JOIN) {
+      LOGGER.debugf("Creating fork join executor '%s'", executorDescriptor.getName());
+      return new VertxAsyncExecutor(executorDescriptor.getName(), vertx, null, executorDescriptor, prioritized);
+    }
+
+    LOGGER.debugf("Creating executor '%s' with pool size %d", executorDescriptor.getName(), executorDescriptor.getPoolSize());
+    var workerExecutor = vertx.createSharedWorkerExecutor(executorDescriptor.getName(),
+                                                          executorDescriptor.getPoolSize(),
+                                                          executorDescriptor.getMaxExecutionTime(),
+                                                          executorDescriptor.getMaxExecutionTimeUnit());
+    return new VertxAsyncExecutor(executorDescriptor.getName(), vertx, workerExecutor, executorDescriptor, prioritized);
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  /**
+   * The outcome of the draining of a single executor.
+   */
+  public static final class DrainResult {
+
+    private final String executorName;
+    private final long   completedTaskCount;
+    private final int    abandonedTaskCount;
+
+    private DrainResult(String executorName, long completedTaskCount, int abandonedTaskCount) {
+      this.executorName = executorName;
+      this.completedTaskCount = completedTaskCount;
+      this.abandonedTaskCount = abandonedTaskCount;
+    }
+
+    public String getExecutorName() {
+      return executorName;
+    }
+
+    /**
+     * @return the number of tasks whose execution by a thread has finished
+     * during the draining.
+     */
+    public long getCompletedTaskCount() {
+      return completedTaskCount;
+    }
+
+    /**
+     * @return the number of tasks which were still queued or running after
+     * the timeout.
+     */
+    public int getAbandonedTaskCount() {
+      return abandonedTaskCount;
+    }
+  }
+}
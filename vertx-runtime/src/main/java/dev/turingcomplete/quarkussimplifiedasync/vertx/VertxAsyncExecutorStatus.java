@@ -0,0 +1,146 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import io.vertx.core.json.JsonObject;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the state of a {@link VertxAsyncExecutor}.
+ *
+ * @see VertxAsyncExecutorManagement
+ */
+public final class VertxAsyncExecutorStatus {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final String       name;
+  private final ExecutorKind executorKind;
+  private final int          poolSize;
+  private final int          activeTaskCount;
+  private final int          queueSize;
+  private final int          maxQueueSize;
+  private final long         completedTaskCount;
+  private final long         rejectedTaskCount;
+  private final String       longestRunningMethod;
+  private final String       longestRunningThreadName;
+  private final Duration     longestRunningTime;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  VertxAsyncExecutorStatus(String name,
+                           ExecutorKind executorKind,
+                           int poolSize,
+                           int activeTaskCount,
+                           int queueSize,
+                           int maxQueueSize,
+                           long completedTaskCount,
+                           long rejectedTaskCount,
+                           String longestRunningMethod,
+                           String longestRunningThreadName,
+                           Duration longestRunningTime) {
+
+    this.name = name;
+    this.executorKind = executorKind;
+    this.poolSize = poolSize;
+    this.activeTaskCount = activeTaskCount;
+    this.queueSize = queueSize;
+    this.maxQueueSize = maxQueueSize;
+    this.completedTaskCount = completedTaskCount;
+    this.rejectedTaskCount = rejectedTaskCount;
+    this.longestRunningMethod = longestRunningMethod;
+    this.longestRunningThreadName = longestRunningThreadName;
+    this.longestRunningTime = longestRunningTime;
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  public String getName() {
+    return name;
+  }
+
+  public ExecutorKind getExecutorKind() {
+    return executorKind;
+  }
+
+  /**
+   * @return the maximum number of threads or {@code -1}, if unknown.
+   */
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  /**
+   * @return the number of tasks which are currently executed by a thread.
+   */
+  public int getActiveTaskCount() {
+    return activeTaskCount;
+  }
+
+  public int getQueueSize() {
+    return queueSize;
+  }
+
+  /**
+   * @return the maximum queue size or {@link VertxAsync#UNBOUNDED_QUEUE_SIZE}.
+   */
+  public int getMaxQueueSize() {
+    return maxQueueSize;
+  }
+
+  public long getCompletedTaskCount() {
+    return completedTaskCount;
+  }
+
+  public long getRejectedTaskCount() {
+    return rejectedTaskCount;
+  }
+
+  /**
+   * @return the method ({@code class#method}) of the longest running task, or
+   * null if no task is running or its method could not be determined.
+   */
+  public String getLongestRunningMethod() {
+    return longestRunningMethod;
+  }
+
+  /**
+   * @return the name of the thread of the longest running task, or null if
+   * no task is running.
+   */
+  public String getLongestRunningThreadName() {
+    return longestRunningThreadName;
+  }
+
+  /**
+   * @return the running time of the longest running task, or null if no task
+   * is running.
+   */
+  public Duration getLongestRunningTime() {
+    return longestRunningTime;
+  }
+
+  public JsonObject toJson() {
+    var json = new JsonObject().put("name", name)
+                               .put("kind", executorKind.name())
+                               .put("poolSize", poolSize)
+                               .put("activeTaskCount", activeTaskCount)
+                               .put("queueSize", queueSize)
+                               .put("maxQueueSize", maxQueueSize)
+                               .put("completedTaskCount", completedTaskCount)
+                               .put("rejectedTaskCount", rejectedTaskCount);
+    if (longestRunningTime != null) {
+      json.put("longestRunningTask", new JsonObject().put("method", longestRunningMethod)
+                                                     .put("thread", longestRunningThreadName)
+                                                     .put("runningTimeMillis", longestRunningTime.toMillis()));
+    }
+    return json;
+  }
+
+  @Override
+  public String toString() {
+    return toJson().encode();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
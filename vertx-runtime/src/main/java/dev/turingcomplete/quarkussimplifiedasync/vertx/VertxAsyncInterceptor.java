@@ -2,18 +2,33 @@ package dev.turingcomplete.quarkussimplifiedasync.vertx;
 
 import dev.turingcomplete.quarkussimplifiedasync.core.Async;
 import dev.turingcomplete.quarkussimplifiedasync.core.AsyncUncaughtExceptionHandler;
+import io.netty.util.Timeout;
 import io.quarkus.arc.Priority;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
 
 import javax.inject.Inject;
 import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
 import javax.interceptor.InvocationContext;
 import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 /**
  * An interceptor which executes @{@link Async} methods asynchronously
@@ -50,9 +65,44 @@ import java.util.concurrent.TimeUnit;
  * It's also possible to have {@code Future<Void>} as a return type and return
  * null to use the callback functionalities.
  *
+ * <p>The same applies to methods with a {@link CompletionStage} or
+ * {@link CompletableFuture} return type. The method call returns a
+ * {@code CompletableFuture}, which gets directly completed by the result of
+ * the actual returned {@code CompletionStage}.
+ *
+ * <p>For methods with a Mutiny {@link Uni} return type, the method call
+ * returns a lazy {@code Uni}. The method gets executed for each subscription
+ * and a cancellation gets propagated to the actual returned {@code Uni}. For
+ * methods with a Mutiny {@link Multi} return type, the method call returns a
+ * {@code Multi}, whose items get produced on a worker thread of the executor.
+ *
  * <p>By using {@link VertxAsync}, as an alternative to {@link Async}, it's
  * possible to execute an asynchronous method on a custom shared worker
- * executor.
+ * executor, or on an event loop if the method is non-blocking.
+ *
+ * <p>Calls of a method with an {@link OrderingKey} parameter get executed
+ * serially per key. Calls of an @{@link AsyncBatched} method get collected
+ * into batches, which are executed by the bulk method.
+ *
+ * <p>A pending call can be cancelled via {@link VertxAsyncCancellation}.
+ *
+ * <p>Identical calls of an @{@link AsyncCoalesced} method join the in-flight
+ * call via the {@link VertxAsyncCoalescer}.
+ *
+ * <p>Calls of an @{@link AsyncDurable} method get appended to the
+ * {@link VertxAsyncJournal} before they get dispatched.
+ *
+ * <p>Calls of an @{@link AsyncDelayed} method wait in the
+ * {@link VertxAsyncTimer} until their delay has elapsed.
+ *
+ * <p>Failed executions of an @{@link AsyncRetry} method get retried after a
+ * backoff, during which the call waits in the {@link VertxAsyncTimer}.
+ *
+ * <p>Calls of an @{@link AsyncBulkhead} method wait in their
+ * {@link VertxAsyncBulkhead} until its limit allows their execution.
+ *
+ * <p>The context of the caller gets propagated to the worker thread by the
+ * {@link VertxAsyncContextPropagation}.
  */
 @Interceptor
 @Async
@@ -62,6 +112,12 @@ public class VertxAsyncInterceptor {
 
   public static final int PRIORITY = Interceptor.Priority.LIBRARY_AFTER + 100;
 
+  /**
+   * The event loop context of non-blocking methods for a calling thread
+   * which is not on an event loop.
+   */
+  private static final ThreadLocal<ContextInternal> CALLER_EVENT_LOOP_CONTEXT = new ThreadLocal<>();
+
   // -- Instance Fields --------------------------------------------------------------------------------------------- //
 
   @Inject
@@ -70,6 +126,38 @@ public class VertxAsyncInterceptor {
   @Inject
   AsyncUncaughtExceptionHandler asyncUncaughtExceptionHandler;
 
+  @Inject
+  VertxAsyncMethodIndex methodIndex;
+
+  @Inject
+  VertxAsyncExecutorRegistry executorRegistry;
+
+  @Inject
+  VertxAsyncBulkheadRegistry bulkheadRegistry;
+
+  @Inject
+  VertxAsyncContextPropagation contextPropagation;
+
+  @Inject
+  VertxAsyncMetrics metrics;
+
+  @Inject
+  VertxAsyncTimer timer;
+
+  @Inject
+  VertxAsyncJournal journal;
+
+  /**
+   * An interceptor instance belongs to a single intercepted bean instance.
+   * Therefore, each bean instance has its own batches.
+   */
+  private final ConcurrentMap<VertxAsyncMethodDescriptor, VertxAsyncBatcher> batchers = new ConcurrentHashMap<>();
+
+  /**
+   * Identical calls only get coalesced per bean instance, too.
+   */
+  private final VertxAsyncCoalescer coalescer = new VertxAsyncCoalescer();
+
   // -- Initialization ---------------------------------------------------------------------------------------------- //
   // -- Exposed Methods --------------------------------------------------------------------------------------------- //
 
@@ -80,67 +168,561 @@ public class VertxAsyncInterceptor {
       return context.proceed();
     }
 
-    Handler<Promise<Object>> taskHandler = createTaskHandler(context);
-    Future<?> future = executeTaskHandler(method, taskHandler);
-    if (method.getReturnType().equals(Future.class)) {
-      return future;
+    VertxAsyncMethodDescriptor descriptor = methodIndex.get(method);
+    VertxAsyncMetrics.MethodMetrics methodMetrics = metrics.methodMetrics(descriptor);
+    // Non-blocking methods get executed on an event loop instead
+    VertxAsyncExecutor executor = descriptor.isNonBlocking() ? null : executorRegistry.executor(descriptor);
+    if (descriptor.isBatched()) {
+      return executeBatched(executor, descriptor, context, methodMetrics);
     }
-    else {
-      future.onFailure(e -> asyncUncaughtExceptionHandler.handleUncaughtException(e, context.getMethod(), context.getParameters()));
-      return null;
+    if (descriptor.isCoalesced()) {
+      return executeCoalesced(executor, descriptor, context, methodMetrics);
+    }
+    if (descriptor.isDurable()) {
+      return executeDurable(executor, descriptor, context, methodMetrics);
     }
-  }
 
-  // -- Private Methods --------------------------------------------------------------------------------------------- //
+    switch (descriptor.getReturnType()) {
+      case VERTX_FUTURE:
+        return execute(executor, descriptor, context, createTaskHandler(context, methodMetrics));
 
-  private Future<?> executeTaskHandler(Method method, Handler<Promise<Object>> taskHandler) {
-    VertxAsync vertxAsyncAnnotation = method.getAnnotation(VertxAsync.class);
-    if (vertxAsyncAnnotation != null) {
-      return executeOnCustomExecutor(vertxAsyncAnnotation, taskHandler);
-    }
-    else {
-      return executorOnDefaultExecutor(taskHandler);
-    }
-  }
+      case COMPLETION_STAGE:
+      case COMPLETABLE_FUTURE:
+        return executeCompletableFutureTask(executor, descriptor, context, methodMetrics);
 
-  private Future<?> executeOnCustomExecutor(VertxAsync vertxAsyncAnnotation, Handler<Promise<Object>> taskHandler) {
-    String executorName = vertxAsyncAnnotation.value();
-    int executorPoolSize = vertxAsyncAnnotation.executorPoolSize();
-    long maxExecutionTime = vertxAsyncAnnotation.maxExecutionTime();
-    TimeUnit maxExecutionTimeUnit = vertxAsyncAnnotation.maxExecutionTimeUnit();
-    return vertx.createSharedWorkerExecutor(executorName, executorPoolSize, maxExecutionTime, maxExecutionTimeUnit)
-                .executeBlocking(taskHandler, false);
-  }
+      case MUTINY_UNI:
+        // Executes the method for each subscription
+        return Uni.createFrom().completionStage(() -> executeCompletableFutureTask(executor, descriptor, context, methodMetrics));
 
-  private Future<?> executorOnDefaultExecutor(Handler<Promise<Object>> taskHandler) {
-    return vertx.executeBlocking(taskHandler, false);
+      case MUTINY_MULTI:
+        // The subscription to and the requests of the returned `Multi` are
+        // continuations of the already accepted call. Therefore, they bypass
+        // the queue of the executor, which would otherwise be able to discard
+        // them.
+        return Uni.createFrom().completionStage(() -> executeCompletableFutureTask(executor, descriptor, context, methodMetrics))
+                  .onItem().transformToMulti(multi -> multi != null ? ((Multi<?>) multi).runSubscriptionOn(itemExecutor(executor)) : Multi.createFrom().empty());
+
+      default:
+        execute(executor, descriptor, context, createTaskHandler(context, methodMetrics))
+                .onFailure(e -> asyncUncaughtExceptionHandler.handleUncaughtException(e, context.getMethod(), context.getParameters()));
+        return null;
+    }
   }
 
-  private Handler<Promise<Object>> createTaskHandler(InvocationContext context) {
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private Handler<Promise<Object>> createTaskHandler(InvocationContext context, VertxAsyncMetrics.MethodMetrics methodMetrics) {
+    long callNanos = System.nanoTime();
+    Callable<Object> proceed = contextPropagation.contextual(context::proceed);
     return promise -> {
+      long startNanos = System.nanoTime();
+      methodMetrics.taskStarted(startNanos - callNanos);
       try {
-        Object result = context.proceed();
+        Object result = proceed.call();
 
         if (result instanceof Future) {
           // Map the results from the actual returned `Future` of the async
           // method to the `Future` that was returned from the method call.
           ((Future<?>) result).onComplete(asyncResult -> {
+            methodMetrics.taskCompleted(System.nanoTime() - startNanos, asyncResult.succeeded());
+            // The promise may have already been failed by a timeout
             if (asyncResult.succeeded()) {
-              promise.complete(asyncResult.result());
+              promise.tryComplete(asyncResult.result());
             }
             else {
-              promise.fail(asyncResult.cause());
+              promise.tryFail(asyncResult.cause());
             }
           });
         }
         else {
           // Handle any other return type
-          promise.complete(result);
+          methodMetrics.taskCompleted(System.nanoTime() - startNanos, true);
+          promise.tryComplete(result);
         }
       }
       catch (Exception e) {
+        methodMetrics.taskCompleted(System.nanoTime() - startNanos, false);
         // Will be handled by the `asyncUncaughtExceptionHandler`
-        promise.fail(e);
+        promise.tryFail(e);
+      }
+    };
+  }
+
+  private Object executeBatched(VertxAsyncExecutor executor,
+                                VertxAsyncMethodDescriptor descriptor,
+                                InvocationContext context,
+                                VertxAsyncMetrics.MethodMetrics methodMetrics) {
+
+    VertxAsyncBatcher batcher = batchers.get(descriptor);
+    if (batcher == null) {
+      batcher = batchers.computeIfAbsent(descriptor, key -> new VertxAsyncBatcher(vertx, executor, contextPropagation,
+                                                                                  (invocation, batchResult) -> createCompletableFutureTask(invocation, methodMetrics, batchResult),
+                                                                                  context.getTarget(), context.getMethod().getDeclaringClass(),
+                                                                                  descriptor.getBatchDescriptor()));
+    }
+
+    var completableFuture = new CompletableFuture<Object>();
+    batcher.add(context.getParameters()[0], completableFuture);
+    switch (descriptor.getReturnType()) {
+      case VERTX_FUTURE:
+        return Future.fromCompletionStage(completableFuture, vertx.getOrCreateContext());
+
+      case COMPLETION_STAGE:
+      case COMPLETABLE_FUTURE:
+        return completableFuture;
+
+      default:
+        completableFuture.whenComplete((result, error) -> {
+          if (error != null) {
+            asyncUncaughtExceptionHandler.handleUncaughtException(error, context.getMethod(), context.getParameters());
+          }
+        });
+        return null;
+    }
+  }
+
+  /**
+   * Each caller gets its own {@code Future} or {@code CompletableFuture} of
+   * the shared execution, so that a caller can't cancel or complete it for the
+   * other callers.
+   */
+  private Object executeCoalesced(VertxAsyncExecutor executor,
+                                  VertxAsyncMethodDescriptor descriptor,
+                                  InvocationContext context,
+                                  VertxAsyncMetrics.MethodMetrics methodMetrics) {
+
+    Object[] parameters = context.getParameters();
+    switch (descriptor.getReturnType()) {
+      case VERTX_FUTURE:
+        Promise<Object> promise = ((ContextInternal) vertx.getOrCreateContext()).promise();
+        coalescer.coalesce(descriptor, parameters, () -> execute(executor, descriptor, context, createTaskHandler(context, methodMetrics)))
+                 .onComplete(promise);
+        return VertxAsyncCancellation.cancellable(promise);
+
+      case COMPLETION_STAGE:
+      case COMPLETABLE_FUTURE:
+        return joinCoalesced(coalescer.coalesceCompletableFuture(descriptor, parameters,
+                                                                 () -> executeCompletableFutureTask(executor, descriptor, context, methodMetrics)));
+
+      case MUTINY_UNI:
+        // Coalesces the execution of each subscription
+        return Uni.createFrom().completionStage(() -> joinCoalesced(coalescer.coalesceCompletableFuture(descriptor, parameters,
+                                                                                                        () -> executeCompletableFutureTask(executor, descriptor, context, methodMetrics))));
+
+      default:
+        // The failure of the shared execution only gets handled once
+        coalescer.coalesce(descriptor, parameters, () -> execute(executor, descriptor, context, createTaskHandler(context, methodMetrics))
+                .onFailure(e -> asyncUncaughtExceptionHandler.handleUncaughtException(e, context.getMethod(), parameters)));
+        return null;
+    }
+  }
+
+  /**
+   * The call only gets dispatched once it has been forced to the journal. It
+   * gets acknowledged after its execution, even if the execution failed, so
+   * that a failing call does not get replayed after each restart. A call
+   * which never started, because the executor rejected or discarded it, or
+   * has been shut down, stays unacknowledged and gets replayed after the
+   * next startup.
+   */
+  private Object executeDurable(VertxAsyncExecutor executor,
+                                VertxAsyncMethodDescriptor descriptor,
+                                InvocationContext context,
+                                VertxAsyncMetrics.MethodMetrics methodMetrics) {
+
+    Handler<Promise<Object>> taskHandler = createTaskHandler(context, methodMetrics);
+    var started = new AtomicBoolean();
+    Handler<Promise<Object>> startedTaskHandler = promise -> {
+      started.set(true);
+      taskHandler.handle(promise);
+    };
+    // The callbacks don't run on the thread of the journal
+    Future.fromCompletionStage(journal.append(descriptor.toString(), context.getParameters()), vertx.getOrCreateContext())
+          .compose(entry -> execute(executor, descriptor, context, startedTaskHandler).onComplete(asyncResult -> {
+            if (started.get()) {
+              journal.acknowledge(entry);
+            }
+          }))
+          .onFailure(e -> asyncUncaughtExceptionHandler.handleUncaughtException(e, context.getMethod(), context.getParameters()));
+    return null;
+  }
+
+  private static CompletableFuture<Object> joinCoalesced(CompletableFuture<Object> sharedExecution) {
+    var completableFuture = new CompletableFuture<Object>();
+    sharedExecution.whenComplete((result, error) -> {
+      if (error == null) {
+        completableFuture.complete(result);
+      }
+      else {
+        completableFuture.completeExceptionally(error);
+      }
+    });
+    return completableFuture;
+  }
+
+  /**
+   * The delay, the retries and the bulkhead are implemented once by
+   * {@link #executeStages}, whose {@code CompletableFuture} gets adapted to
+   * the returned {@code Future}. Calls without any of them get dispatched
+   * directly.
+   */
+  private Future<Object> execute(VertxAsyncExecutor executor,
+                                 VertxAsyncMethodDescriptor descriptor,
+                                 InvocationContext context,
+                                 Handler<Promise<Object>> taskHandler) {
+
+    if (!hasStages(descriptor)) {
+      return dispatch(executor, descriptor, context, taskHandler);
+    }
+
+    CompletableFuture<Object> execution = executeStages(descriptor, context, () -> toCompletableFuture(dispatch(executor, descriptor, context, taskHandler)));
+    Promise<Object> promise = ((ContextInternal) vertx.getOrCreateContext()).promise();
+    execution.whenComplete((result, error) -> {
+      if (error == null) {
+        promise.tryComplete(result);
+      }
+      else {
+        promise.tryFail(error);
+      }
+    });
+    promise.future().onFailure(e -> {
+      if (e instanceof CancellationException) {
+        execution.cancel(false);
+      }
+    });
+    return VertxAsyncCancellation.cancellable(promise);
+  }
+
+  private CompletableFuture<Object> executeCompletableFutureTask(VertxAsyncExecutor executor,
+                                                                 VertxAsyncMethodDescriptor descriptor,
+                                                                 InvocationContext context,
+                                                                 VertxAsyncMetrics.MethodMetrics methodMetrics) {
+
+    return executeStages(descriptor, context, () -> dispatchCompletableFutureTask(executor, descriptor, context, methodMetrics));
+  }
+
+  private static boolean hasStages(VertxAsyncMethodDescriptor descriptor) {
+    return descriptor.isDelayed() || descriptor.hasRetry() || descriptor.hasBulkhead();
+  }
+
+  /**
+   * Executes the delay, the retries and the bulkhead of the call, in this
+   * order, around the given dispatch. Cancelling the returned
+   * {@code CompletableFuture} gets propagated to the current stage.
+   */
+  private CompletableFuture<Object> executeStages(VertxAsyncMethodDescriptor descriptor,
+                                                  InvocationContext context,
+                                                  Supplier<CompletableFuture<Object>> dispatch) {
+
+    if (!descriptor.isDelayed()) {
+      return executeWithRetries(descriptor, context, dispatch);
+    }
+
+    var completableFuture = new CompletableFuture<Object>();
+    Timeout timeout = timer.schedule(descriptor.getDelayMillis(), TimeUnit.MILLISECONDS, () -> {
+      if (completableFuture.isDone()) {
+        // Was cancelled during the delay
+        return;
+      }
+
+      CompletableFuture<Object> execution = executeWithRetries(descriptor, context, dispatch);
+      execution.whenComplete((result, error) -> {
+        if (error == null) {
+          completableFuture.complete(result);
+        }
+        else {
+          completableFuture.completeExceptionally(error);
+        }
+      });
+      completableFuture.whenComplete((result, error) -> {
+        if (completableFuture.isCancelled()) {
+          execution.cancel(false);
+        }
+      });
+    });
+    completableFuture.whenComplete((result, error) -> {
+      if (completableFuture.isCancelled()) {
+        // Frees the place in the wheel immediately
+        timeout.cancel();
+      }
+    });
+    return completableFuture;
+  }
+
+  private CompletableFuture<Object> executeWithRetries(VertxAsyncMethodDescriptor descriptor,
+                                                       InvocationContext context,
+                                                       Supplier<CompletableFuture<Object>> dispatch) {
+
+    if (!descriptor.hasRetry()) {
+      return executeInBulkhead(descriptor, dispatch);
+    }
+
+    var completableFuture = new CompletableFuture<Object>();
+    executeAttempt(1, completableFuture, descriptor, context, dispatch);
+    return completableFuture;
+  }
+
+  private void executeAttempt(int attempt,
+                              CompletableFuture<Object> completableFuture,
+                              VertxAsyncMethodDescriptor descriptor,
+                              InvocationContext context,
+                              Supplier<CompletableFuture<Object>> dispatch) {
+
+    CompletableFuture<Object> execution = executeInBulkhead(descriptor, dispatch);
+    execution.whenComplete((result, error) -> {
+      if (error == null) {
+        completableFuture.complete(result);
+        return;
+      }
+
+      // The call may have already been cancelled
+      if (completableFuture.isDone() || !shouldRetry(attempt, error, descriptor, context)) {
+        completableFuture.completeExceptionally(error);
+        return;
+      }
+
+      timer.schedule(descriptor.getRetryDescriptor().backoffMillis(attempt), TimeUnit.MILLISECONDS, () -> {
+        if (!completableFuture.isDone()) {
+          executeAttempt(attempt + 1, completableFuture, descriptor, context, dispatch);
+        }
+      });
+    });
+    completableFuture.whenComplete((result, error) -> {
+      if (completableFuture.isCancelled()) {
+        execution.cancel(false);
+      }
+    });
+  }
+
+  /**
+   * Records the retry, if the failed attempt should be retried.
+   */
+  private boolean shouldRetry(int attempt, Throwable failure, VertxAsyncMethodDescriptor descriptor, InvocationContext context) {
+    if (failure instanceof CompletionException && failure.getCause() != null) {
+      failure = failure.getCause();
+    }
+
+    ClassLoader classLoader = context.getMethod().getDeclaringClass().getClassLoader();
+    if (descriptor.getRetryDescriptor().shouldRetry(attempt, failure, classLoader)) {
+      metrics.methodMetrics(descriptor).taskRetried();
+      return true;
+    }
+    return false;
+  }
+
+  private CompletableFuture<Object> executeInBulkhead(VertxAsyncMethodDescriptor descriptor,
+                                                      Supplier<CompletableFuture<Object>> dispatch) {
+
+    if (!descriptor.hasBulkhead()) {
+      return dispatch.get();
+    }
+
+    VertxAsyncBulkhead bulkhead = bulkheadRegistry.bulkhead(descriptor.getBulkheadDescriptor());
+    var completableFuture = new CompletableFuture<Object>();
+    bulkhead.execute(() -> {
+      if (completableFuture.isDone()) {
+        // Was cancelled while waiting in the bulkhead
+        bulkhead.release(VertxAsyncBulkhead.NOT_EXECUTED, false);
+        return;
+      }
+
+      long startNanos = System.nanoTime();
+      CompletableFuture<Object> execution = dispatch.get();
+      execution.whenComplete((result, error) -> {
+        bulkhead.release(System.nanoTime() - startNanos, error == null);
+        if (error == null) {
+          completableFuture.complete(result);
+        }
+        else {
+          completableFuture.completeExceptionally(error);
+        }
+      });
+      completableFuture.whenComplete((result, error) -> {
+        if (completableFuture.isCancelled()) {
+          execution.cancel(false);
+        }
+      });
+    });
+    return completableFuture;
+  }
+
+  /**
+   * Cancelling the returned {@code CompletableFuture} cancels the given
+   * {@code Future}.
+   */
+  private static CompletableFuture<Object> toCompletableFuture(Future<Object> future) {
+    var completableFuture = new CompletableFuture<Object>();
+    future.onComplete(asyncResult -> {
+      if (asyncResult.succeeded()) {
+        completableFuture.complete(asyncResult.result());
+      }
+      else {
+        completableFuture.completeExceptionally(asyncResult.cause());
+      }
+    });
+    completableFuture.whenComplete((result, error) -> {
+      if (completableFuture.isCancelled()) {
+        VertxAsyncCancellation.cancel(future);
+      }
+    });
+    return completableFuture;
+  }
+
+  private Future<Object> dispatch(VertxAsyncExecutor executor,
+                                  VertxAsyncMethodDescriptor descriptor,
+                                  InvocationContext context,
+                                  Handler<Promise<Object>> taskHandler) {
+
+    if (descriptor.isNonBlocking()) {
+      ContextInternal vertxContext = nonBlockingContext();
+      Promise<Object> promise = vertxContext.promise();
+      vertxContext.runOnContext(ignore -> {
+        if (!promise.future().isComplete()) {
+          taskHandler.handle(promise);
+        }
+      });
+      return VertxAsyncCancellation.cancellable(promise);
+    }
+    else if (descriptor.isOrdered()) {
+      return executor.executeOrdered(orderingKey(descriptor, context), taskHandler);
+    }
+    else {
+      return executor.execute(descriptor.getPriority(), taskHandler);
+    }
+  }
+
+  private CompletableFuture<Object> dispatchCompletableFutureTask(VertxAsyncExecutor executor,
+                                                                  VertxAsyncMethodDescriptor descriptor,
+                                                                  InvocationContext context,
+                                                                  VertxAsyncMetrics.MethodMetrics methodMetrics) {
+
+    var completableFuture = new CompletableFuture<Object>();
+    Runnable task = createCompletableFutureTask(context, methodMetrics, completableFuture);
+    if (descriptor.isNonBlocking()) {
+      nonBlockingContext().runOnContext(ignore -> {
+        if (!completableFuture.isDone()) {
+          task.run();
+        }
+      });
+    }
+    else if (descriptor.isOrdered()) {
+      executor.executeOrdered(orderingKey(descriptor, context), task, completableFuture);
+    }
+    else {
+      executor.execute(descriptor.getPriority(), task, completableFuture);
+    }
+    return completableFuture;
+  }
+
+  /**
+   * A context created for a calling thread gets reused for all of its
+   * further calls, like {@link Vertx#getOrCreateContext()} does for a thread
+   * without any context. Unlike that, the caller may be on a worker context.
+   *
+   * @return the event loop context of the caller or, if the caller is not on
+   * an event loop, the context on the next event loop which was created for
+   * the calling thread.
+   */
+  private ContextInternal nonBlockingContext() {
+    ContextInternal currentContext = ContextInternal.current();
+    if (currentContext != null && currentContext.isEventLoopContext()) {
+      return currentContext;
+    }
+
+    ContextInternal callerContext = CALLER_EVENT_LOOP_CONTEXT.get();
+    // The context may belong to a previous Vert.x instance, e.g. after a restart in dev mode
+    if (callerContext == null || callerContext.owner() != vertx) {
+      callerContext = ((VertxInternal) vertx).createEventLoopContext();
+      CALLER_EVENT_LOOP_CONTEXT.set(callerContext);
+    }
+    return callerContext;
+  }
+
+  /**
+   * @param executor the executor of the method or null, if it is a
+   *                 non-blocking method.
+   * @return the {@link Executor} on which the items of a returned
+   * {@code Multi} get produced.
+   */
+  private Executor itemExecutor(VertxAsyncExecutor executor) {
+    if (executor != null) {
+      return executor.threadPool();
+    }
+
+    ContextInternal vertxContext = nonBlockingContext();
+    return command -> vertxContext.runOnContext(ignore -> command.run());
+  }
+
+  private Object orderingKey(VertxAsyncMethodDescriptor descriptor, InvocationContext context) {
+    return context.getParameters()[descriptor.getOrderingKeyParameterIndex()];
+  }
+
+  private Runnable createCompletableFutureTask(InvocationContext context,
+                                               VertxAsyncMetrics.MethodMetrics methodMetrics,
+                                               CompletableFuture<Object> completableFuture) {
+
+    return createCompletableFutureTask(contextPropagation.contextual(context::proceed), methodMetrics, completableFuture);
+  }
+
+  /**
+   * @param proceed executes the method within the propagated context of its
+   *                call.
+   */
+  private Runnable createCompletableFutureTask(Callable<Object> proceed,
+                                               VertxAsyncMetrics.MethodMetrics methodMetrics,
+                                               CompletableFuture<Object> completableFuture) {
+
+    long callNanos = System.nanoTime();
+    // The task does not run on a Vert.x context, which would otherwise set it
+    ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    return () -> {
+      long startNanos = System.nanoTime();
+      methodMetrics.taskStarted(startNanos - callNanos);
+      Thread currentThread = Thread.currentThread();
+      ClassLoader previousContextClassLoader = currentThread.getContextClassLoader();
+      currentThread.setContextClassLoader(contextClassLoader);
+      try {
+        Object result = proceed.call();
+        if (result instanceof Uni) {
+          // Subscribes on the worker thread. Cancelling the stage cancels
+          // the subscription.
+          result = ((Uni<?>) result).subscribeAsCompletionStage();
+        }
+
+        if (result instanceof CompletionStage) {
+          // Completes the returned `CompletableFuture` of the method call
+          // directly from the actual returned `CompletionStage`.
+          var stage = (CompletionStage<?>) result;
+          if (stage instanceof CompletableFuture) {
+            completableFuture.whenComplete((value, error) -> {
+              if (completableFuture.isCancelled()) {
+                ((CompletableFuture<?>) stage).cancel(false);
+              }
+            });
+          }
+          stage.whenComplete((value, error) -> {
+            methodMetrics.taskCompleted(System.nanoTime() - startNanos, error == null);
+            if (error == null) {
+              completableFuture.complete(value);
+            }
+            else {
+              completableFuture.completeExceptionally(error);
+            }
+          });
+        }
+        else {
+          // The method returned null or a `Multi`, which will be subscribed later
+          methodMetrics.taskCompleted(System.nanoTime() - startNanos, true);
+          completableFuture.complete(result);
+        }
+      }
+      catch (Throwable e) {
+        // Unlike `executeBlocking()`, the thread pool would swallow an error
+        methodMetrics.taskCompleted(System.nanoTime() - startNanos, false);
+        completableFuture.completeExceptionally(e);
+      }
+      finally {
+        currentThread.setContextClassLoader(previousContextClassLoader);
       }
     };
   }
@@ -0,0 +1,862 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import io.quarkus.arc.InjectableInstance;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.runtime.StartupEvent;
+import org.jboss.logging.Logger;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Any;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * A local, file-backed journal of the calls of @{@link AsyncDurable}
+ * methods.
+ *
+ * <p>The journal consists of segment files of a fixed size, which are
+ * memory-mapped. A call gets appended as a record with the signature of its
+ * method and its serialized parameters. Once the active segment is full, the
+ * next one takes over, which the thread of the journal has already created
+ * and mapped in the background. A record is acknowledged by flipping its state byte
+ * in place, so that no additional records must be written. A segment gets
+ * deleted as soon as all of its records have been acknowledged.
+ *
+ * <p>The appends use a group commit: All records which were appended while
+ * the thread of the journal forced the previous group to the disk get forced
+ * together, before their {@link CompletableFuture}s get completed. Therefore,
+ * the disk gets synchronized once per group instead of once per call.
+ *
+ * <p>The records of the previous run, which were not acknowledged, get
+ * replayed during the startup by calling their methods again. Their
+ * parameters only get deserialized into the types which the method
+ * declares (see {@link RecoveredCall#getParameters}), so that a manipulated
+ * segment file can't instantiate arbitrary classes.
+ */
+@Singleton
+public class VertxAsyncJournal {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final Logger LOGGER = Logger.getLogger(VertxAsyncJournal.class);
+
+  private static final String THREAD_NAME         = "vert.x-async-journal";
+  private static final String SEGMENT_FILE_PREFIX = "journal-";
+  private static final String SEGMENT_FILE_SUFFIX = ".log";
+
+  /**
+   * The body length, the CRC32 checksum of the body and the state.
+   */
+  private static final int RECORD_HEADER_SIZE  = Integer.BYTES + Integer.BYTES + Byte.BYTES;
+  private static final int RECORD_STATE_OFFSET = Integer.BYTES + Integer.BYTES;
+
+  private static final byte PENDING      = 1;
+  private static final byte ACKNOWLEDGED = 2;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final Path   directory;
+  private final int    segmentSize;
+  private final Object lock = new Object();
+
+  /**
+   * The handles of the beans on which calls have been replayed, which get
+   * reused for all calls of a bean class and destroyed once the journal gets
+   * closed. A {@code @Dependent} bean can't be destroyed directly after the
+   * replay, because the replayed call still gets executed on it. Only
+   * accessed during the startup and the closing.
+   */
+  private final Map<Class<?>, InstanceHandle<?>> replayBeans = new HashMap<>();
+
+  // All guarded by the lock
+  private final List<Segment> segments       = new ArrayList<>();
+  private final Set<Segment>  dirtySegments  = new LinkedHashSet<>();
+  private List<PendingAppend> pendingAppends = new ArrayList<>();
+  private List<RecoveredCall> recoveredCalls = Collections.emptyList();
+  private Segment             activeSegment;
+  private Segment             spareSegment;
+  private boolean             spareSegmentRequested;
+  private boolean             spareSegmentPreparing;
+  private long                nextSegmentId;
+  private boolean             opened;
+  private boolean             closed;
+  private Thread              flusher;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  @Inject
+  public VertxAsyncJournal(VertxAsyncJournalSettings settings) {
+    this.directory = settings.getDirectory();
+    this.segmentSize = settings.getSegmentSize();
+  }
+
+  /**
+   * Replays the unacknowledged calls of the previous run through the CDI
+   * proxies of their beans. Therefore, a replayed call gets journaled again,
+   * before its previous record gets acknowledged.
+   *
+   * <p>A call whose bean, method or parameters can't be resolved does not get
+   * acknowledged, so that it gets replayed again after the next startup,
+   * e.g. once an ambiguous bean has been fixed.
+   */
+  void replay(@Observes StartupEvent startupEvent, VertxAsyncMethodIndex methodIndex, @Any InjectableInstance<Object> beans) {
+    Map<String, VertxAsyncMethodDescriptor> durableDescriptors = methodIndex.descriptors().stream()
+                                                                            .filter(VertxAsyncMethodDescriptor::isDurable)
+                                                                            .collect(Collectors.toMap(VertxAsyncMethodDescriptor::toString,
+                                                                                                      Function.identity()));
+    if (durableDescriptors.isEmpty()) {
+      // Does not create the journal directory
+      return;
+    }
+
+    List<RecoveredCall> calls = recover();
+    if (!calls.isEmpty()) {
+      LOGGER.infof("Replaying %d unacknowledged @AsyncDurable calls.", calls.size());
+    }
+
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    for (RecoveredCall call : calls) {
+      VertxAsyncMethodDescriptor descriptor = durableDescriptors.get(call.getMethodId());
+      if (descriptor == null) {
+        LOGGER.warnf("Discarding the journaled call of the method '%s', which is no longer an @AsyncDurable method.", call.getMethodId());
+        acknowledge(call.getEntry());
+        continue;
+      }
+
+      Method method;
+      Object bean;
+      Object[] parameters;
+      try {
+        method = VertxAsyncMethodIndex.resolveMethod(descriptor, classLoader);
+        method.setAccessible(true);
+        bean = replayBean(method.getDeclaringClass(), beans);
+        parameters = call.getParameters(method);
+      }
+      catch (Exception e) {
+        LOGGER.errorf(e, "Failed to resolve the journaled call of the method '%s'. It will be replayed after the next startup.",
+                      call.getMethodId());
+        continue;
+      }
+
+      try {
+        method.invoke(bean, parameters);
+      }
+      catch (InvocationTargetException e) {
+        LOGGER.errorf(e.getCause(), "Failed to replay the journaled call of the method '%s'.", call.getMethodId());
+      }
+      catch (Exception e) {
+        LOGGER.errorf(e, "Failed to replay the journaled call of the method '%s'.", call.getMethodId());
+      }
+      // A call which can't be journaled again would otherwise be replayed forever
+      acknowledge(call.getEntry());
+    }
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Appends a call to the journal.
+   *
+   * @param methodId   the stable identifier of the method, which is its
+   *                   signature (see {@link VertxAsyncMethodDescriptor#toString()}).
+   * @param parameters the parameters of the call.
+   * @return a {@link CompletableFuture}, which gets completed with the
+   * {@link Entry} of the call once the call has been forced to the disk, or
+   * failed if the journal has been closed or could not be written.
+   * @throws IllegalArgumentException if a parameter is not serializable or
+   *                                  the call does not fit into a segment.
+   */
+  public CompletableFuture<Entry> append(String methodId, Object[] parameters) {
+    // Serializes outside the lock, but still in the calling thread, because
+    // the parameters may get modified after the call
+    byte[] body = serializeBody(methodId, parameters);
+    if (RECORD_HEADER_SIZE + body.length > segmentSize) {
+      throw new IllegalArgumentException("The journaled call of the method '" + methodId + "' has a size of " +
+                                         (RECORD_HEADER_SIZE + body.length) + " bytes, which exceeds the segment size of " +
+                                         segmentSize + " bytes.");
+    }
+
+    var completableFuture = new CompletableFuture<Entry>();
+    synchronized (lock) {
+      try {
+        // Usually already opened by the replay during the startup
+        open();
+        if (closed) {
+          throw new IllegalStateException("The journal has been closed.");
+        }
+
+        if (activeSegment.buffer.remaining() < RECORD_HEADER_SIZE + body.length) {
+          rotate(RECORD_HEADER_SIZE + body.length);
+        }
+        Entry entry = activeSegment.write(body);
+        dirtySegments.add(activeSegment);
+        pendingAppends.add(new PendingAppend(entry, completableFuture));
+        if (pendingAppends.size() == 1) {
+          // Otherwise, the flusher is already busy and will find the group
+          lock.notifyAll();
+        }
+      }
+      catch (IOException e) {
+        completableFuture.completeExceptionally(new UncheckedIOException("Failed to append to the journal: " + directory, e));
+      }
+      catch (RuntimeException e) {
+        completableFuture.completeExceptionally(e);
+      }
+    }
+    return completableFuture;
+  }
+
+  /**
+   * Acknowledges the execution of a call, which will not be replayed
+   * anymore. The acknowledgement gets forced to the disk together with the
+   * next group.
+   */
+  public void acknowledge(Entry entry) {
+    synchronized (lock) {
+      Segment segment = entry.segment;
+      if (closed || segment.deleted) {
+        return;
+      }
+
+      segment.buffer.put(entry.position + RECORD_STATE_OFFSET, ACKNOWLEDGED);
+      segment.pendingCalls--;
+      if (segment.pendingCalls == 0 && segment != activeSegment) {
+        delete(segment);
+      }
+      else {
+        dirtySegments.add(segment);
+      }
+    }
+  }
+
+  /**
+   * Opens the journal, if it's not already open, and takes the calls of the
+   * previous run, which were not acknowledged, in the order of their
+   * appending. The calls are only returned once.
+   *
+   * @throws UncheckedIOException if the journal could not be opened.
+   */
+  public List<RecoveredCall> recover() {
+    synchronized (lock) {
+      try {
+        open();
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException("Failed to open the journal: " + directory, e);
+      }
+
+      List<RecoveredCall> calls = recoveredCalls;
+      recoveredCalls = Collections.emptyList();
+      return calls;
+    }
+  }
+
+  /**
+   * Forces the pending appends to the disk and closes all segments.
+   * Acknowledged segments get deleted.
+   */
+  @PreDestroy
+  public void close() {
+    destroyReplayBeans();
+
+    Thread flusherToJoin;
+    synchronized (lock) {
+      if (!opened || closed) {
+        closed = true;
+        return;
+      }
+      closed = true;
+      flusherToJoin = flusher;
+      lock.notifyAll();
+    }
+
+    try {
+      // Completes the remaining group
+      flusherToJoin.join();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    synchronized (lock) {
+      if (spareSegment != null) {
+        delete(spareSegment);
+        spareSegment = null;
+      }
+      for (Segment segment : new ArrayList<>(segments)) {
+        if (segment.pendingCalls == 0) {
+          delete(segment);
+        }
+        else {
+          segment.buffer.force();
+          closeQuietly(segment);
+        }
+      }
+      segments.clear();
+    }
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * @throws IllegalStateException if no bean or multiple beans of the class
+   *                               exist. Of multiple beans, the one whose
+   *                               bean class is exactly the given class gets
+   *                               preferred over its subclasses.
+   */
+  private Object replayBean(Class<?> beanClass, InjectableInstance<Object> beans) {
+    InstanceHandle<?> replayBean = replayBeans.get(beanClass);
+    if (replayBean == null) {
+      List<InstanceHandle<?>> handles = new ArrayList<>();
+      beans.select(beanClass).handles().forEach(handles::add);
+      if (handles.size() > 1) {
+        handles.removeIf(handle -> handle.getBean().getBeanClass() != beanClass);
+      }
+      if (handles.size() != 1) {
+        throw new IllegalStateException("Expected exactly one bean of the class '" + beanClass.getName() + "', but found " +
+                                        (handles.isEmpty() ? "none" : "multiple ambiguous ones") + ".");
+      }
+      replayBean = handles.get(0);
+      replayBeans.put(beanClass, replayBean);
+    }
+    return replayBean.get();
+  }
+
+  private void destroyReplayBeans() {
+    replayBeans.values().forEach(InstanceHandle::close);
+    replayBeans.clear();
+  }
+
+  /**
+   * Reads the existing segments and creates a new active segment. The
+   * segments of the previous run are never written again, except for the
+   * acknowledgements of their records.
+   */
+  private void open() throws IOException {
+    if (opened) {
+      return;
+    }
+
+    Files.createDirectories(directory);
+    var calls = new ArrayList<RecoveredCall>();
+    for (Path segmentFile : existingSegmentFiles()) {
+      nextSegmentId = Math.max(nextSegmentId, segmentId(segmentFile) + 1);
+      Segment segment = Segment.open(segmentFile);
+      segment.readPendingCalls(calls);
+      if (segment.pendingCalls == 0) {
+        delete(segment);
+      }
+      else {
+        segments.add(segment);
+      }
+    }
+    recoveredCalls = calls;
+
+    activeSegment = Segment.create(nextSegmentFile(), segmentSize);
+    segments.add(activeSegment);
+    spareSegmentRequested = true;
+    flusher = new Thread(this::flushGroups, THREAD_NAME);
+    flusher.setDaemon(true);
+    flusher.start();
+    opened = true;
+  }
+
+  /**
+   * Replaces the active segment with the spare segment, and requests the
+   * next spare segment from the flusher thread. Only if there is no spare
+   * segment, e.g., because its creation failed, a new segment gets created
+   * in the calling thread.
+   *
+   * <p>Must be called while holding the lock.
+   */
+  private void rotate(int recordSize) throws IOException {
+    // The spare segment which is just being created has the next ID, which
+    // must not be skipped, because the IDs determine the order of the replay
+    while (spareSegmentPreparing) {
+      try {
+        lock.wait();
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for the next journal segment.");
+      }
+    }
+    if (closed) {
+      throw new IllegalStateException("The journal has been closed.");
+    }
+    if (activeSegment.buffer.remaining() >= recordSize) {
+      // Was rotated by another caller in the meantime
+      return;
+    }
+
+    Segment previousSegment = activeSegment;
+    activeSegment = spareSegment != null ? spareSegment : Segment.create(nextSegmentFile(), segmentSize);
+    segments.add(activeSegment);
+    spareSegment = null;
+    spareSegmentRequested = true;
+    lock.notifyAll();
+    if (previousSegment.pendingCalls == 0) {
+      delete(previousSegment);
+    }
+  }
+
+  /**
+   * Must be called while holding the lock.
+   */
+  private Path nextSegmentFile() {
+    return directory.resolve(String.format("%s%020d%s", SEGMENT_FILE_PREFIX, nextSegmentId++, SEGMENT_FILE_SUFFIX));
+  }
+
+  /**
+   * Must be called while holding the lock.
+   */
+  private void delete(Segment segment) {
+    segment.deleted = true;
+    segments.remove(segment);
+    dirtySegments.remove(segment);
+    closeQuietly(segment);
+    try {
+      Files.deleteIfExists(segment.path);
+    }
+    catch (IOException e) {
+      LOGGER.warnf(e, "Failed to delete journal segment: %s", segment.path);
+    }
+  }
+
+  private List<Path> existingSegmentFiles() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      // The zero-padded IDs sort the segments in the order of their creation
+      return files.filter(file -> {
+                    String fileName = file.getFileName().toString();
+                    return fileName.startsWith(SEGMENT_FILE_PREFIX) && fileName.endsWith(SEGMENT_FILE_SUFFIX);
+                  })
+                  .sorted()
+                  .collect(Collectors.toList());
+    }
+  }
+
+  private static long segmentId(Path segmentFile) {
+    String fileName = segmentFile.getFileName().toString();
+    return Long.parseLong(fileName.substring(SEGMENT_FILE_PREFIX.length(), fileName.length() - SEGMENT_FILE_SUFFIX.length()));
+  }
+
+  /**
+   * The loop of the flusher thread, which forces each group of appends to
+   * the disk before it completes them, and creates the spare segment
+   * outside the lock.
+   */
+  private void flushGroups() {
+    while (true) {
+      List<PendingAppend> group;
+      List<Segment> segmentsToForce;
+      Path spareSegmentFile = null;
+      synchronized (lock) {
+        while (pendingAppends.isEmpty() && !spareSegmentRequested && !closed) {
+          try {
+            lock.wait();
+          }
+          catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+          }
+        }
+        if (pendingAppends.isEmpty() && closed) {
+          return;
+        }
+
+        group = pendingAppends;
+        pendingAppends = new ArrayList<>();
+        segmentsToForce = new ArrayList<>(dirtySegments);
+        dirtySegments.clear();
+        if (spareSegmentRequested && !closed) {
+          spareSegmentRequested = false;
+          spareSegmentPreparing = true;
+          spareSegmentFile = nextSegmentFile();
+        }
+      }
+
+      try {
+        for (Segment segment : segmentsToForce) {
+          // A concurrently deleted segment does not need to be forced anymore
+          if (!segment.deleted) {
+            segment.buffer.force();
+          }
+        }
+        group.forEach(pendingAppend -> pendingAppend.completableFuture.complete(pendingAppend.entry));
+      }
+      catch (RuntimeException e) {
+        group.forEach(pendingAppend -> pendingAppend.completableFuture.completeExceptionally(e));
+      }
+
+      if (spareSegmentFile != null) {
+        prepareSpareSegment(spareSegmentFile);
+      }
+    }
+  }
+
+  /**
+   * Creates and maps the spare segment in the flusher thread, so that a
+   * rotation does not have to. If that fails, the next rotation creates the
+   * segment in the calling thread and reports the failure to its caller.
+   */
+  private void prepareSpareSegment(Path spareSegmentFile) {
+    Segment segment = null;
+    try {
+      segment = Segment.create(spareSegmentFile, segmentSize);
+    }
+    catch (IOException | RuntimeException e) {
+      LOGGER.warnf(e, "Failed to create the spare journal segment: %s", spareSegmentFile);
+    }
+
+    synchronized (lock) {
+      spareSegmentPreparing = false;
+      if (segment != null && closed) {
+        delete(segment);
+      }
+      else {
+        spareSegment = segment;
+      }
+      // Wakes up a caller which waits for the spare segment
+      lock.notifyAll();
+    }
+  }
+
+  private static byte[] serializeBody(String methodId, Object[] parameters) {
+    try {
+      var bytes = new ByteArrayOutputStream();
+      byte[] methodIdBytes = methodId.getBytes(StandardCharsets.UTF_8);
+      bytes.write(ByteBuffer.allocate(Integer.BYTES).putInt(methodIdBytes.length).array());
+      bytes.write(methodIdBytes);
+      try (var objectOutput = new ObjectOutputStream(bytes)) {
+        objectOutput.writeObject(parameters);
+      }
+      return bytes.toByteArray();
+    }
+    catch (NotSerializableException e) {
+      throw new IllegalArgumentException("All parameters of the @AsyncDurable method '" + methodId + "' must be serializable.", e);
+    }
+    catch (IOException e) {
+      throw new IllegalArgumentException("Failed to serialize the parameters of the @AsyncDurable method '" + methodId + "'.", e);
+    }
+  }
+
+  private static void closeQuietly(Segment segment) {
+    try {
+      segment.channel.close();
+    }
+    catch (IOException e) {
+      LOGGER.debugf(e, "Failed to close journal segment: %s", segment.path);
+    }
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  /**
+   * The position of an appended call in the journal, which is needed to
+   * acknowledge it.
+   */
+  public static final class Entry {
+
+    private final Segment segment;
+    private final int     position;
+
+    private Entry(Segment segment, int position) {
+      this.segment = segment;
+      this.position = position;
+    }
+  }
+
+  /**
+   * An unacknowledged call of the previous run.
+   */
+  public static final class RecoveredCall {
+
+    private final Entry  entry;
+    private final String methodId;
+    private final byte[] serializedParameters;
+
+    private RecoveredCall(Entry entry, String methodId, byte[] serializedParameters) {
+      this.entry = entry;
+      this.methodId = methodId;
+      this.serializedParameters = serializedParameters;
+    }
+
+    public Entry getEntry() {
+      return entry;
+    }
+
+    public String getMethodId() {
+      return methodId;
+    }
+
+    /**
+     * Deserializes the parameters with the {@link ClassLoader} of the
+     * declaring class of the given method. Only the classes which are
+     * allowed by its {@link ParameterTypeFilter} get deserialized.
+     *
+     * @param method the method of the call.
+     * @throws java.io.InvalidClassException if a parameter contains an
+     *                                       object of a class which is not
+     *                                       allowed.
+     */
+    public Object[] getParameters(Method method) throws IOException, ClassNotFoundException {
+      ClassLoader classLoader = method.getDeclaringClass().getClassLoader();
+      try (var objectInput = new ClassLoaderObjectInputStream(new ByteArrayInputStream(serializedParameters), classLoader)) {
+        objectInput.setObjectInputFilter(new ParameterTypeFilter(method.getGenericParameterTypes()));
+        return (Object[]) objectInput.readObject();
+      }
+    }
+  }
+
+  private static final class PendingAppend {
+
+    private final Entry                    entry;
+    private final CompletableFuture<Entry> completableFuture;
+
+    private PendingAppend(Entry entry, CompletableFuture<Entry> completableFuture) {
+      this.entry = entry;
+      this.completableFuture = completableFuture;
+    }
+  }
+
+  /**
+   * A memory-mapped segment file. A record has the layout
+   * {@code [int bodyLength][int crc32(body)][byte state][body]}. The body
+   * consists of the length and the UTF-8 bytes of the method ID, followed by
+   * the serialized parameters. The state is not covered by the checksum,
+   * because it gets flipped in place.
+   */
+  private static final class Segment {
+
+    private final Path             path;
+    private final FileChannel      channel;
+    private final MappedByteBuffer buffer;
+    private int                    pendingCalls;
+    private boolean                deleted;
+
+    private Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+      this.path = path;
+      this.channel = channel;
+      this.buffer = buffer;
+    }
+
+    static Segment create(Path path, int size) throws IOException {
+      FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      // The mapping extends the file, whose unwritten rest is zero-filled
+      return new Segment(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+    }
+
+    static Segment open(Path path) throws IOException {
+      FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      return new Segment(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+    }
+
+    Entry write(byte[] body) {
+      var crc = new CRC32();
+      crc.update(body);
+      int position = buffer.position();
+      buffer.putInt(body.length).putInt((int) crc.getValue()).put(PENDING).put(body);
+      pendingCalls++;
+      return new Entry(this, position);
+    }
+
+    /**
+     * Reads the records up to the first zero length, which marks the unwritten
+     * rest, or the first invalid record, which was torn by a crash.
+     */
+    void readPendingCalls(List<RecoveredCall> calls) {
+      var crc = new CRC32();
+      while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+        int position = buffer.position();
+        int bodyLength = buffer.getInt();
+        int checksum = buffer.getInt();
+        byte state = buffer.get();
+        if (bodyLength <= Integer.BYTES || bodyLength > buffer.remaining()) {
+          return;
+        }
+
+        var body = new byte[bodyLength];
+        buffer.get(body);
+        crc.reset();
+        crc.update(body);
+        if ((int) crc.getValue() != checksum) {
+          LOGGER.warnf("Ignoring the torn tail of journal segment '%s' at position %d.", path, position);
+          return;
+        }
+
+        if (state == PENDING) {
+          ByteBuffer bodyBuffer = ByteBuffer.wrap(body);
+          var methodIdBytes = new byte[bodyBuffer.getInt()];
+          bodyBuffer.get(methodIdBytes);
+          var serializedParameters = new byte[bodyBuffer.remaining()];
+          bodyBuffer.get(serializedParameters);
+          calls.add(new RecoveredCall(new Entry(this, position), new String(methodIdBytes, StandardCharsets.UTF_8), serializedParameters));
+          pendingCalls++;
+        }
+      }
+    }
+  }
+
+  /**
+   * Resolves the classes of the deserialized parameters with the
+   * {@link ClassLoader} of the application instead of the one of this
+   * extension.
+   */
+  private static final class ClassLoaderObjectInputStream extends ObjectInputStream {
+
+    private final ClassLoader classLoader;
+
+    private ClassLoaderObjectInputStream(InputStream input, ClassLoader classLoader) throws IOException {
+      super(input);
+      this.classLoader = classLoader;
+    }
+
+    @Override
+    protected Class<?> resolveClass(ObjectStreamClass objectStreamClass) throws IOException, ClassNotFoundException {
+      try {
+        return Class.forName(objectStreamClass.getName(), false, classLoader);
+      }
+      catch (ClassNotFoundException e) {
+        // Primitive types and the classes of the JDK
+        return super.resolveClass(objectStreamClass);
+      }
+    }
+  }
+
+  /**
+   * Allows the classes of which the parameters of a method can consist: the
+   * declared types of the parameters and, transitively, of their serialized
+   * fields, including their type arguments, together with their subclasses
+   * and superclasses, and the value types of the JDK. Any other class gets
+   * rejected before it gets instantiated.
+   *
+   * <p>The subclasses of a declared JDK type (e.g., {@code Serializable})
+   * are not allowed, since that would allow almost any class.
+   */
+  private static final class ParameterTypeFilter implements ObjectInputFilter {
+
+    private static final Set<String> JDK_VALUE_TYPE_PACKAGES = Set.of("java.lang", "java.math", "java.time", "java.util");
+
+    private final Set<Class<?>>        declaredTypes        = new HashSet<>();
+    private final Set<TypeVariable<?>> visitedTypeVariables = new HashSet<>();
+
+    private ParameterTypeFilter(Type[] parameterTypes) {
+      for (Type parameterType : parameterTypes) {
+        collectDeclaredTypes(parameterType);
+      }
+    }
+
+    @Override
+    public Status checkInput(FilterInfo filterInfo) {
+      Class<?> serialClass = filterInfo.serialClass();
+      if (serialClass == null) {
+        // Only a check of the limits, e.g., of the depth of the graph
+        return Status.UNDECIDED;
+      }
+
+      while (serialClass.isArray()) {
+        serialClass = serialClass.getComponentType();
+      }
+      return isAllowed(serialClass) ? Status.ALLOWED : Status.REJECTED;
+    }
+
+    private boolean isAllowed(Class<?> serialClass) {
+      if (serialClass.isPrimitive() || JDK_VALUE_TYPE_PACKAGES.contains(serialClass.getPackageName()) || declaredTypes.contains(serialClass)) {
+        return true;
+      }
+
+      for (Class<?> declaredType : declaredTypes) {
+        if (!isJdkType(declaredType) && (declaredType.isAssignableFrom(serialClass) || serialClass.isAssignableFrom(declaredType))) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private void collectDeclaredTypes(Type type) {
+      if (type instanceof Class) {
+        Class<?> declaredType = (Class<?>) type;
+        while (declaredType.isArray()) {
+          declaredType = declaredType.getComponentType();
+        }
+        if (declaredType.isPrimitive() || !declaredTypes.add(declaredType) || isJdkType(declaredType)) {
+          return;
+        }
+
+        // The fields of the superclasses get serialized, too
+        for (Class<?> currentType = declaredType; currentType != null && !isJdkType(currentType); currentType = currentType.getSuperclass()) {
+          for (Field field : currentType.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+              collectDeclaredTypes(field.getGenericType());
+            }
+          }
+        }
+      }
+      else if (type instanceof ParameterizedType) {
+        collectDeclaredTypes(((ParameterizedType) type).getRawType());
+        for (Type typeArgument : ((ParameterizedType) type).getActualTypeArguments()) {
+          collectDeclaredTypes(typeArgument);
+        }
+      }
+      else if (type instanceof GenericArrayType) {
+        collectDeclaredTypes(((GenericArrayType) type).getGenericComponentType());
+      }
+      else if (type instanceof WildcardType) {
+        for (Type upperBound : ((WildcardType) type).getUpperBounds()) {
+          collectDeclaredTypes(upperBound);
+        }
+      }
+      else if (type instanceof TypeVariable && visitedTypeVariables.add((TypeVariable<?>) type)) {
+        // Visited only once, since a bound may refer to its own variable,
+        // e.g., `T extends Comparable<T>`
+        for (Type bound : ((TypeVariable<?>) type).getBounds()) {
+          collectDeclaredTypes(bound);
+        }
+      }
+    }
+
+    private static boolean isJdkType(Class<?> type) {
+      return type.getName().startsWith("java.") || type.getName().startsWith("javax.");
+    }
+  }
+}
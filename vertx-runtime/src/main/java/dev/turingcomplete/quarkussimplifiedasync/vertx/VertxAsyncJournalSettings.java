@@ -0,0 +1,55 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import java.nio.file.Path;
+
+/**
+ * The settings of the {@link VertxAsyncJournal} from the
+ * {@link SimplifiedAsyncVertxConfig}.
+ */
+public final class VertxAsyncJournalSettings {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  /**
+   * The length and the checksum of the smallest record must fit into a
+   * segment.
+   */
+  private static final long MIN_SEGMENT_SIZE = 1024;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final Path directory;
+  private final int  segmentSize;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  public VertxAsyncJournalSettings(Path directory, int segmentSize) {
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+  }
+
+  /**
+   * @throws IllegalStateException if a configured value is invalid.
+   */
+  static VertxAsyncJournalSettings create(SimplifiedAsyncVertxConfig.DurableConfig durableConfig) {
+    long segmentSize = durableConfig.segmentSize.asLongValue();
+    // A segment gets mapped into a single `MappedByteBuffer`
+    if (segmentSize < MIN_SEGMENT_SIZE || segmentSize > Integer.MAX_VALUE) {
+      throw new IllegalStateException("The configured segment size of the journal must be between " + MIN_SEGMENT_SIZE +
+                                      " and " + Integer.MAX_VALUE + " bytes.");
+    }
+    return new VertxAsyncJournalSettings(durableConfig.directory, (int) segmentSize);
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  public Path getDirectory() {
+    return directory;
+  }
+
+  public int getSegmentSize() {
+    return segmentSize;
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
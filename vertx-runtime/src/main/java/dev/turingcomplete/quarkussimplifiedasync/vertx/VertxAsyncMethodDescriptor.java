@@ -0,0 +1,499 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import io.quarkus.runtime.annotations.RecordableConstructor;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.IntStream;
+
+/**
+ * A compact description of an @{@link Async} method, which contains all the
+ * information the {@link VertxAsyncInterceptor} needs to dispatch a call.
+ *
+ * <p>The descriptors get computed from the Jandex index during the build and
+ * are recorded into a {@link VertxAsyncMethodIndex}. Therefore, the dispatch of
+ * an intercepted call does not need to reflectively read any annotations.
+ */
+public final class VertxAsyncMethodDescriptor {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  /**
+   * The {@link #getOrderingKeyParameterIndex()} of a method without an
+   * {@link OrderingKey} parameter.
+   */
+  public static final int NO_ORDERING_KEY = -1;
+
+  /**
+   * The {@link #getDelayMillis()} of a method without an @{@link AsyncDelayed}
+   * annotation.
+   */
+  public static final long NO_DELAY = 0;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final String                       declaringClassName;
+  private final String                       methodName;
+  private final String[]                     parameterTypeNames;
+  private final VertxAsyncExecutorDescriptor executorDescriptor;
+  private final ReturnType                   returnType;
+  private final int                          orderingKeyParameterIndex;
+  private final VertxAsyncBatchDescriptor    batchDescriptor;
+  private final VertxAsyncBulkheadDescriptor bulkheadDescriptor;
+  private final boolean                      nonBlocking;
+  private final long                         delayMillis;
+  private final VertxAsyncRetryDescriptor    retryDescriptor;
+  private final TaskPriority                 priority;
+  private final int[]                        coalescingKeyParameterIndices;
+  private final boolean                      durable;
+  private final int                          hashCode;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  /**
+   * Only for the bytecode recorder, which needs a constructor with a
+   * parameter for each property. Use {@link #builder} instead.
+   */
+  @RecordableConstructor
+  public VertxAsyncMethodDescriptor(String declaringClassName,
+                                    String methodName,
+                                    String[] parameterTypeNames,
+                                    VertxAsyncExecutorDescriptor executorDescriptor,
+                                    ReturnType returnType,
+                                    int orderingKeyParameterIndex,
+                                    VertxAsyncBatchDescriptor batchDescriptor,
+                                    VertxAsyncBulkheadDescriptor bulkheadDescriptor,
+                                    boolean nonBlocking,
+                                    long delayMillis,
+                                    VertxAsyncRetryDescriptor retryDescriptor,
+                                    TaskPriority priority,
+                                    int[] coalescingKeyParameterIndices,
+                                    boolean durable) {
+
+    this.declaringClassName = declaringClassName;
+    this.methodName = methodName;
+    this.parameterTypeNames = parameterTypeNames;
+    this.executorDescriptor = executorDescriptor;
+    this.returnType = returnType;
+    this.orderingKeyParameterIndex = orderingKeyParameterIndex;
+    this.batchDescriptor = batchDescriptor;
+    this.bulkheadDescriptor = bulkheadDescriptor;
+    this.nonBlocking = nonBlocking;
+    this.delayMillis = delayMillis;
+    this.retryDescriptor = retryDescriptor;
+    this.priority = priority;
+    this.coalescingKeyParameterIndices = coalescingKeyParameterIndices;
+    this.durable = durable;
+    // The descriptor is used as a key on the hot path of every invocation
+    this.hashCode = 31 * Objects.hash(declaringClassName, methodName) + Arrays.hashCode(parameterTypeNames);
+  }
+
+  /**
+   * Creates a {@link VertxAsyncMethodDescriptor} by reflectively reading the
+   * annotations of the given {@link Method}.
+   *
+   * <p>This is only a fallback for methods which were not discovered during
+   * the build.
+   */
+  static VertxAsyncMethodDescriptor fromMethod(Method method) {
+    VertxAsync vertxAsyncAnnotation = method.getAnnotation(VertxAsync.class);
+    if (vertxAsyncAnnotation == null) {
+      vertxAsyncAnnotation = method.getDeclaringClass().getAnnotation(VertxAsync.class);
+    }
+    AsyncBatched asyncBatchedAnnotation = method.getAnnotation(AsyncBatched.class);
+    AsyncBulkhead asyncBulkheadAnnotation = method.getAnnotation(AsyncBulkhead.class);
+    AsyncDelayed asyncDelayedAnnotation = method.getAnnotation(AsyncDelayed.class);
+    AsyncRetry asyncRetryAnnotation = method.getAnnotation(AsyncRetry.class);
+
+    return builder(method.getDeclaringClass().getName(),
+                   method.getName(),
+                   Arrays.stream(method.getParameterTypes()).map(Class::getName).toArray(String[]::new),
+                   ReturnType.of(method.getReturnType().getName()))
+            .executorDescriptor(vertxAsyncAnnotation != null ? VertxAsyncExecutorDescriptor.fromAnnotation(vertxAsyncAnnotation) : null)
+            .orderingKeyParameterIndex(findOrderingKeyParameterIndex(method))
+            .batchDescriptor(asyncBatchedAnnotation != null ? VertxAsyncBatchDescriptor.fromAnnotation(asyncBatchedAnnotation) : null)
+            .bulkheadDescriptor(asyncBulkheadAnnotation != null ? VertxAsyncBulkheadDescriptor.fromAnnotation(asyncBulkheadAnnotation, method) : null)
+            .nonBlocking(vertxAsyncAnnotation != null && vertxAsyncAnnotation.nonBlocking())
+            .delayMillis(asyncDelayedAnnotation != null ? asyncDelayedAnnotation.unit().toMillis(asyncDelayedAnnotation.value()) : NO_DELAY)
+            .retryDescriptor(asyncRetryAnnotation != null ? VertxAsyncRetryDescriptor.fromAnnotation(asyncRetryAnnotation) : null)
+            .priority(vertxAsyncAnnotation != null ? vertxAsyncAnnotation.priority() : TaskPriority.NORMAL)
+            .coalescingKeyParameterIndices(method.isAnnotationPresent(AsyncCoalesced.class) ? findCoalescingKeyParameterIndices(method) : null)
+            .durable(method.isAnnotationPresent(AsyncDurable.class))
+            .build();
+  }
+
+  /**
+   * @return a {@link Builder} for a method which gets executed on the default
+   * Vert.x worker pool and has none of the optional features.
+   */
+  public static Builder builder(String declaringClassName, String methodName, String[] parameterTypeNames, ReturnType returnType) {
+    return new Builder(declaringClassName, methodName, parameterTypeNames, returnType);
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  public String getDeclaringClassName() {
+    return declaringClassName;
+  }
+
+  public String getMethodName() {
+    return methodName;
+  }
+
+  public String[] getParameterTypeNames() {
+    return parameterTypeNames;
+  }
+
+  /**
+   * @return the descriptor of the shared worker executor or null, if the
+   * method should be executed on the default Vert.x worker pool.
+   */
+  public VertxAsyncExecutorDescriptor getExecutorDescriptor() {
+    return executorDescriptor;
+  }
+
+  public ReturnType getReturnType() {
+    return returnType;
+  }
+
+  public int getOrderingKeyParameterIndex() {
+    return orderingKeyParameterIndex;
+  }
+
+  public boolean isOrdered() {
+    return orderingKeyParameterIndex != NO_ORDERING_KEY;
+  }
+
+  /**
+   * @return the descriptor of the batching or null, if the method is not
+   * annotated with @{@link AsyncBatched}.
+   */
+  public VertxAsyncBatchDescriptor getBatchDescriptor() {
+    return batchDescriptor;
+  }
+
+  public boolean isBatched() {
+    return batchDescriptor != null;
+  }
+
+  /**
+   * @return the descriptor of the bulkhead or null, if the method is not
+   * annotated with @{@link AsyncBulkhead}.
+   */
+  public VertxAsyncBulkheadDescriptor getBulkheadDescriptor() {
+    return bulkheadDescriptor;
+  }
+
+  public boolean hasBulkhead() {
+    return bulkheadDescriptor != null;
+  }
+
+  public boolean isNonBlocking() {
+    return nonBlocking;
+  }
+
+  /**
+   * @return the delay before the execution or {@link #NO_DELAY}.
+   */
+  public long getDelayMillis() {
+    return delayMillis;
+  }
+
+  public boolean isDelayed() {
+    return delayMillis != NO_DELAY;
+  }
+
+  /**
+   * @return the descriptor of the retries or null, if the method is not
+   * annotated with @{@link AsyncRetry}.
+   */
+  public VertxAsyncRetryDescriptor getRetryDescriptor() {
+    return retryDescriptor;
+  }
+
+  public boolean hasRetry() {
+    return retryDescriptor != null;
+  }
+
+  public TaskPriority getPriority() {
+    return priority;
+  }
+
+  /**
+   * @return the indices of the parameters which identify a call or null, if
+   * the method is not annotated with @{@link AsyncCoalesced}.
+   */
+  public int[] getCoalescingKeyParameterIndices() {
+    return coalescingKeyParameterIndices;
+  }
+
+  public boolean isCoalesced() {
+    return coalescingKeyParameterIndices != null;
+  }
+
+  public boolean isDurable() {
+    return durable;
+  }
+
+  public boolean usesDefaultExecutor() {
+    return executorDescriptor == null;
+  }
+
+  /**
+   * @return the name of the shared worker executor,
+   * {@link VertxAsyncExecutor#VERTX_WORKER_POOL_NAME} or
+   * {@link VertxAsyncExecutor#VERTX_EVENT_LOOP_NAME}.
+   */
+  public String getExecutorName() {
+    if (nonBlocking) {
+      return VertxAsyncExecutor.VERTX_EVENT_LOOP_NAME;
+    }
+    return executorDescriptor != null ? executorDescriptor.getName() : VertxAsyncExecutor.VERTX_WORKER_POOL_NAME;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    VertxAsyncMethodDescriptor that = (VertxAsyncMethodDescriptor) o;
+    return hashCode == that.hashCode &&
+           declaringClassName.equals(that.declaringClassName) &&
+           methodName.equals(that.methodName) &&
+           Arrays.equals(parameterTypeNames, that.parameterTypeNames);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return declaringClassName + "#" + methodName + "(" + String.join(", ", parameterTypeNames) + ")";
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static int findOrderingKeyParameterIndex(Method method) {
+    Parameter[] parameters = method.getParameters();
+    for (int i = 0; i < parameters.length; i++) {
+      if (parameters[i].isAnnotationPresent(OrderingKey.class)) {
+        return i;
+      }
+    }
+    return NO_ORDERING_KEY;
+  }
+
+  /**
+   * Without any {@link CoalescingKey} parameters, all parameters identify a
+   * call.
+   */
+  private static int[] findCoalescingKeyParameterIndices(Method method) {
+    Parameter[] parameters = method.getParameters();
+    int[] keyParameterIndices = IntStream.range(0, parameters.length)
+                                         .filter(i -> parameters[i].isAnnotationPresent(CoalescingKey.class))
+                                         .toArray();
+    return keyParameterIndices.length > 0 ? keyParameterIndices : IntStream.range(0, parameters.length).toArray();
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  /**
+   * Creates a {@link VertxAsyncMethodDescriptor}. All optional properties
+   * default to the value of a method without the corresponding annotation.
+   */
+  public static final class Builder {
+
+    private final String     declaringClassName;
+    private final String     methodName;
+    private final String[]   parameterTypeNames;
+    private final ReturnType returnType;
+
+    private VertxAsyncExecutorDescriptor executorDescriptor;
+    private int                          orderingKeyParameterIndex = NO_ORDERING_KEY;
+    private VertxAsyncBatchDescriptor    batchDescriptor;
+    private VertxAsyncBulkheadDescriptor bulkheadDescriptor;
+    private boolean                      nonBlocking;
+    private long                         delayMillis               = NO_DELAY;
+    private VertxAsyncRetryDescriptor    retryDescriptor;
+    private TaskPriority                 priority                  = TaskPriority.NORMAL;
+    private int[]                        coalescingKeyParameterIndices;
+    private boolean                      durable;
+
+    private Builder(String declaringClassName, String methodName, String[] parameterTypeNames, ReturnType returnType) {
+      this.declaringClassName = declaringClassName;
+      this.methodName = methodName;
+      this.parameterTypeNames = parameterTypeNames;
+      this.returnType = returnType;
+    }
+
+    /**
+     * @param executorDescriptor the descriptor of the shared worker executor
+     *                           or null, if the method should be executed on
+     *                           the default Vert.x worker pool.
+     */
+    public Builder executorDescriptor(VertxAsyncExecutorDescriptor executorDescriptor) {
+      this.executorDescriptor = executorDescriptor;
+      return this;
+    }
+
+    /**
+     * @param orderingKeyParameterIndex the index of the {@link OrderingKey}
+     *                                  parameter or
+     *                                  {@link VertxAsyncMethodDescriptor#NO_ORDERING_KEY}.
+     */
+    public Builder orderingKeyParameterIndex(int orderingKeyParameterIndex) {
+      this.orderingKeyParameterIndex = orderingKeyParameterIndex;
+      return this;
+    }
+
+    /**
+     * @param batchDescriptor the descriptor of the batching or null, if the
+     *                        method is not annotated with
+     *                        @{@link AsyncBatched}.
+     */
+    public Builder batchDescriptor(VertxAsyncBatchDescriptor batchDescriptor) {
+      this.batchDescriptor = batchDescriptor;
+      return this;
+    }
+
+    /**
+     * @param bulkheadDescriptor the descriptor of the bulkhead or null, if
+     *                           the method is not annotated with
+     *                           @{@link AsyncBulkhead}.
+     */
+    public Builder bulkheadDescriptor(VertxAsyncBulkheadDescriptor bulkheadDescriptor) {
+      this.bulkheadDescriptor = bulkheadDescriptor;
+      return this;
+    }
+
+    /**
+     * @param nonBlocking whether the method should be executed on an event
+     *                    loop (see {@link VertxAsync#nonBlocking()}).
+     */
+    public Builder nonBlocking(boolean nonBlocking) {
+      this.nonBlocking = nonBlocking;
+      return this;
+    }
+
+    /**
+     * @param delayMillis the delay before the execution or
+     *                    {@link VertxAsyncMethodDescriptor#NO_DELAY}, if the
+     *                    method is not annotated with @{@link AsyncDelayed}.
+     */
+    public Builder delayMillis(long delayMillis) {
+      this.delayMillis = delayMillis;
+      return this;
+    }
+
+    /**
+     * @param retryDescriptor the descriptor of the retries or null, if the
+     *                        method is not annotated with
+     *                        @{@link AsyncRetry}.
+     */
+    public Builder retryDescriptor(VertxAsyncRetryDescriptor retryDescriptor) {
+      this.retryDescriptor = retryDescriptor;
+      return this;
+    }
+
+    /**
+     * @param priority the priority of the calls on the executor (see
+     *                 {@link VertxAsync#priority()}).
+     */
+    public Builder priority(TaskPriority priority) {
+      this.priority = priority;
+      return this;
+    }
+
+    /**
+     * @param coalescingKeyParameterIndices the indices of the parameters
+     *                                      which identify a call or null, if
+     *                                      the method is not annotated with
+     *                                      @{@link AsyncCoalesced}.
+     */
+    public Builder coalescingKeyParameterIndices(int[] coalescingKeyParameterIndices) {
+      this.coalescingKeyParameterIndices = coalescingKeyParameterIndices;
+      return this;
+    }
+
+    /**
+     * @param durable whether the calls get journaled (see
+     *                @{@link AsyncDurable}).
+     */
+    public Builder durable(boolean durable) {
+      this.durable = durable;
+      return this;
+    }
+
+    public VertxAsyncMethodDescriptor build() {
+      return new VertxAsyncMethodDescriptor(declaringClassName, methodName, parameterTypeNames, executorDescriptor, returnType,
+                                            orderingKeyParameterIndex, batchDescriptor, bulkheadDescriptor, nonBlocking, delayMillis,
+                                            retryDescriptor, priority, coalescingKeyParameterIndices, durable);
+    }
+  }
+
+  /**
+   * The kind of the return type of an @{@link Async} method, which determines
+   * how the {@link VertxAsyncInterceptor} bridges the result of the
+   * asynchronous execution back to the caller.
+   */
+  public enum ReturnType {
+
+    /**
+     * The method returns a Vert.x {@link Future}.
+     */
+    VERTX_FUTURE(Future.class.getName()),
+
+    /**
+     * The method returns a {@link CompletionStage}.
+     */
+    COMPLETION_STAGE(CompletionStage.class.getName()),
+
+    /**
+     * The method returns a {@link CompletableFuture}.
+     */
+    COMPLETABLE_FUTURE(CompletableFuture.class.getName()),
+
+    /**
+     * The method returns a Mutiny {@link Uni}.
+     */
+    MUTINY_UNI(Uni.class.getName()),
+
+    /**
+     * The method returns a Mutiny {@link Multi}.
+     */
+    MUTINY_MULTI(Multi.class.getName()),
+
+    /**
+     * The method returns {@code void} or any other type, which will always
+     * lead to a {@code null} return value.
+     */
+    OTHER(null);
+
+    private final String className;
+
+    ReturnType(String className) {
+      this.className = className;
+    }
+
+    public static ReturnType of(String returnTypeClassName) {
+      for (ReturnType returnType : values()) {
+        if (returnType.className != null && returnType.className.equals(returnTypeClassName)) {
+          return returnType;
+        }
+      }
+      return OTHER;
+    }
+  }
+}
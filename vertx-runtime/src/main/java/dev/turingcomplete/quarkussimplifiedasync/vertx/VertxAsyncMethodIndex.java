@@ -0,0 +1,107 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import org.jboss.logging.Logger;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A lookup table from an @{@link Async} method to its
+ * {@link VertxAsyncMethodDescriptor}.
+ *
+ * <p>The table gets populated with the descriptors of all methods which were
+ * discovered during the build. Any other method (e.g., from a class that was
+ * not part of the Jandex index) gets its descriptor reflectively computed on
+ * its first call, which will then be cached.
+ */
+public final class VertxAsyncMethodIndex {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final Logger LOGGER = Logger.getLogger(VertxAsyncMethodIndex.class);
+
+  private static final Map<String, Class<?>> PRIMITIVE_TYPES = Map.of("boolean", boolean.class,
+                                                                      "byte", byte.class,
+                                                                      "char", char.class,
+                                                                      "short", short.class,
+                                                                      "int", int.class,
+                                                                      "long", long.class,
+                                                                      "float", float.class,
+                                                                      "double", double.class);
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final List<VertxAsyncMethodDescriptor>        indexedDescriptors;
+  private final Map<Method, VertxAsyncMethodDescriptor> descriptors;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  VertxAsyncMethodIndex(List<VertxAsyncMethodDescriptor> indexedDescriptors, Map<Method, VertxAsyncMethodDescriptor> descriptors) {
+    this.indexedDescriptors = List.copyOf(indexedDescriptors);
+    this.descriptors = new ConcurrentHashMap<>(descriptors);
+  }
+
+  /**
+   * Creates a {@link VertxAsyncMethodIndex} by resolving the {@link Method} of
+   * each of the given {@link VertxAsyncMethodDescriptor}s.
+   */
+  static VertxAsyncMethodIndex create(List<VertxAsyncMethodDescriptor> descriptors) {
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+    var resolvedDescriptors = new ConcurrentHashMap<Method, VertxAsyncMethodDescriptor>(descriptors.size());
+    for (VertxAsyncMethodDescriptor descriptor : descriptors) {
+      try {
+        resolvedDescriptors.put(resolveMethod(descriptor, classLoader), descriptor);
+      }
+      catch (ClassNotFoundException | NoSuchMethodException e) {
+        // The descriptor will be computed on the first call of the method
+        LOGGER.debugf(e, "Failed to resolve @Async method: %s", descriptor);
+      }
+    }
+    return new VertxAsyncMethodIndex(descriptors, resolvedDescriptors);
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Gets the {@link VertxAsyncMethodDescriptor} for the given @{@link Async}
+   * method.
+   */
+  public VertxAsyncMethodDescriptor get(Method method) {
+    VertxAsyncMethodDescriptor descriptor = descriptors.get(method);
+    if (descriptor == null) {
+      descriptor = descriptors.computeIfAbsent(method, VertxAsyncMethodDescriptor::fromMethod);
+    }
+    return descriptor;
+  }
+
+  /**
+   * @return the {@link VertxAsyncMethodDescriptor}s of all methods which were
+   * discovered during the build, in the order of their discovery.
+   */
+  public List<VertxAsyncMethodDescriptor> descriptors() {
+    return indexedDescriptors;
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  static Method resolveMethod(VertxAsyncMethodDescriptor descriptor, ClassLoader classLoader)
+          throws ClassNotFoundException, NoSuchMethodException {
+
+    String[] parameterTypeNames = descriptor.getParameterTypeNames();
+    var parameterTypes = new Class<?>[parameterTypeNames.length];
+    for (int i = 0; i < parameterTypeNames.length; i++) {
+      parameterTypes[i] = resolveClass(parameterTypeNames[i], classLoader);
+    }
+    return resolveClass(descriptor.getDeclaringClassName(), classLoader).getDeclaredMethod(descriptor.getMethodName(), parameterTypes);
+  }
+
+  private static Class<?> resolveClass(String className, ClassLoader classLoader) throws ClassNotFoundException {
+    Class<?> primitiveType = PRIMITIVE_TYPES.get(className);
+    return primitiveType != null ? primitiveType : Class.forName(className, false, classLoader);
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,73 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+
+/**
+ * Provides the {@link MethodMetrics} which get recorded by the
+ * {@link VertxAsyncInterceptor} for each call of an @{@link Async} method.
+ *
+ * <p>If Micrometer is available, the {@link MicrometerVertxAsyncMetrics} will
+ * be used. Otherwise, no metrics get recorded.
+ */
+public interface VertxAsyncMetrics {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * @return the metrics of the given @{@link Async} method. This method gets
+   * called for each invocation and should therefore not allocate.
+   */
+  MethodMetrics methodMetrics(VertxAsyncMethodDescriptor descriptor);
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  /**
+   * The metrics of a single @{@link Async} method.
+   */
+  interface MethodMetrics {
+
+    /**
+     * {@link MethodMetrics} which does not record anything.
+     */
+    MethodMetrics NOOP = new MethodMetrics() {
+      @Override
+      public void taskStarted(long queueWaitNanos) {
+      }
+
+      @Override
+      public void taskCompleted(long executionNanos, boolean succeeded) {
+      }
+
+      @Override
+      public void taskRetried() {
+      }
+    };
+
+    /**
+     * Gets called if a worker thread starts to execute the method.
+     *
+     * @param queueWaitNanos the time between the call and the start of the
+     *                       execution.
+     */
+    void taskStarted(long queueWaitNanos);
+
+    /**
+     * Gets called if the execution of the method is completed. For methods
+     * which return a {@code Future}, this is the completion of the
+     * returned {@code Future}.
+     *
+     * @param executionNanos the time between the start and the completion of
+     *                       the execution.
+     */
+    void taskCompleted(long executionNanos, boolean succeeded);
+
+    /**
+     * Gets called if a failed execution of an @{@link AsyncRetry} method
+     * gets retried.
+     */
+    void taskRetried();
+  }
+}
@@ -0,0 +1,199 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Maps the items of a collection in parallel on the worker threads of a
+ * {@link VertxAsyncExecutor} (scatter-gather).
+ *
+ * <p>Instead of one task, promise and callback chain per item, a mapping
+ * executes one task per lane. The number of lanes is the parallelism of the
+ * executor, limited by the given max concurrency. Each lane repeatedly claims
+ * the next chunk of items, so that lanes with cheaper items process more
+ * chunks. The results get merged into one {@link Future} in the order of the
+ * items.
+ *
+ * <p>The mapping fails fast: The first failure of the mapper fails the
+ * {@code Future}, and the lanes stop claiming chunks. The same happens if the
+ * {@code Future} gets cancelled via {@link VertxAsyncCancellation}.
+ */
+@Singleton
+public class VertxAsyncParallel {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  public static final int NO_CONCURRENCY_LIMIT = Integer.MAX_VALUE;
+
+  /**
+   * More chunks than lanes balance uneven mapping times.
+   */
+  private static final int CHUNKS_PER_LANE = 4;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final Vertx                      vertx;
+  private final VertxAsyncExecutorRegistry executorRegistry;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  @Inject
+  public VertxAsyncParallel(Vertx vertx, VertxAsyncExecutorRegistry executorRegistry) {
+    this.vertx = vertx;
+    this.executorRegistry = executorRegistry;
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Maps the given items on the default Vert.x worker pool.
+   *
+   * @see #map(String, Collection, int, Function)
+   */
+  public <T, R> Future<List<R>> map(Collection<? extends T> items, Function<? super T, ? extends R> mapper) {
+    return map(VertxAsyncExecutor.VERTX_WORKER_POOL_NAME, items, NO_CONCURRENCY_LIMIT, mapper);
+  }
+
+  /**
+   * Maps the given items on the default Vert.x worker pool, with at most
+   * {@code maxConcurrency} concurrently mapped items.
+   *
+   * @see #map(String, Collection, int, Function)
+   */
+  public <T, R> Future<List<R>> map(Collection<? extends T> items, int maxConcurrency, Function<? super T, ? extends R> mapper) {
+    return map(VertxAsyncExecutor.VERTX_WORKER_POOL_NAME, items, maxConcurrency, mapper);
+  }
+
+  /**
+   * Maps the given items on the executor with the given name, with at most
+   * {@code maxConcurrency} concurrently mapped items.
+   *
+   * @return a {@link Future} with the results in the order of the items, or
+   * the first failure of the mapper. If the bounded queue of the executor
+   * rejected all lanes, the {@code Future} gets failed with a
+   * {@link RejectedExecutionException}.
+   * @throws IllegalArgumentException if the executor does not exist or the
+   *                                  max concurrency is not positive.
+   */
+  public <T, R> Future<List<R>> map(String executorName,
+                                    Collection<? extends T> items,
+                                    int maxConcurrency,
+                                    Function<? super T, ? extends R> mapper) {
+
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("The max concurrency must be at least one: " + maxConcurrency);
+    }
+    VertxAsyncExecutor executor = executorRegistry.executor(executorName)
+                                                  .orElseThrow(() -> new IllegalArgumentException("The executor '" + executorName + "' does not exist."));
+
+    if (items.isEmpty()) {
+      return Future.succeededFuture(Collections.emptyList());
+    }
+
+    List<? extends T> itemsList = items instanceof List && items instanceof RandomAccess ? (List<? extends T>) items : new ArrayList<>(items);
+    int lanes = Math.min(Math.min(maxConcurrency, parallelism(executor)), itemsList.size());
+    int chunkSize = Math.max(1, itemsList.size() / (lanes * CHUNKS_PER_LANE));
+    Promise<List<R>> promise = ((ContextInternal) vertx.getOrCreateContext()).promise();
+    var mapping = new ParallelMapping<T, R>(itemsList, mapper, chunkSize, lanes, promise);
+    for (int i = 0; i < lanes && !promise.future().isComplete(); i++) {
+      executor.execute(lanePromise -> {
+        mapping.runLane();
+        lanePromise.complete();
+      }).onComplete(asyncResult -> mapping.laneFinished(asyncResult.cause()));
+    }
+    return VertxAsyncCancellation.cancellable(promise);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * The default Vert.x worker pool does not provide its size.
+   */
+  private static int parallelism(VertxAsyncExecutor executor) {
+    int poolSize = executor.getPoolSize();
+    return poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private static final class ParallelMapping<T, R> {
+
+    private final List<? extends T>                items;
+    private final Function<? super T, ? extends R> mapper;
+    private final int                              chunkSize;
+    private final Promise<List<R>>                 promise;
+    private final Object[]                         results;
+    private final AtomicInteger                    nextIndex = new AtomicInteger();
+    private final AtomicInteger                    remainingLanes;
+
+    private ParallelMapping(List<? extends T> items,
+                            Function<? super T, ? extends R> mapper,
+                            int chunkSize,
+                            int lanes,
+                            Promise<List<R>> promise) {
+
+      this.items = items;
+      this.mapper = mapper;
+      this.chunkSize = chunkSize;
+      this.promise = promise;
+      this.results = new Object[items.size()];
+      this.remainingLanes = new AtomicInteger(lanes);
+    }
+
+    void runLane() {
+      try {
+        int start;
+        while (!promise.future().isComplete() && (start = nextIndex.getAndAdd(chunkSize)) < items.size()) {
+          int end = Math.min(start + chunkSize, items.size());
+          for (int i = start; i < end; i++) {
+            results[i] = mapper.apply(items.get(i));
+          }
+        }
+      }
+      catch (Throwable e) {
+        // Fail fast
+        promise.tryFail(e);
+      }
+    }
+
+    /**
+     * The decrement of the last lane happens after the writes of the results
+     * of all lanes, so that they are visible to it.
+     *
+     * @param failure the rejection of the lane, the exceeding of the max
+     *                execution time of the executor or null.
+     */
+    @SuppressWarnings("unchecked")
+    void laneFinished(Throwable failure) {
+      // Another lane processes the chunks of a rejected one
+      if (failure != null && !(failure instanceof RejectedExecutionException)) {
+        promise.tryFail(failure);
+      }
+
+      if (remainingLanes.decrementAndGet() == 0) {
+        if (nextIndex.get() < items.size()) {
+          if (failure != null) {
+            // All lanes were rejected
+            promise.tryFail(failure);
+          }
+        }
+        else {
+          promise.tryComplete((List<R>) Collections.unmodifiableList(Arrays.asList(results)));
+        }
+      }
+    }
+  }
+}
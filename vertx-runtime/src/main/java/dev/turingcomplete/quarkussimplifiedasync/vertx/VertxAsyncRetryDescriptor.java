@@ -0,0 +1,145 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import io.quarkus.runtime.annotations.RecordableConstructor;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A compact description of the retries of an @{@link AsyncRetry} method.
+ *
+ * <p>The exception types are recorded by their names and get loaded on the
+ * first failure.
+ */
+public final class VertxAsyncRetryDescriptor {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final int      maxAttempts;
+  private final long     delayMillis;
+  private final long     maxDelayMillis;
+  private final double   multiplier;
+  private final double   jitter;
+  private final String[] retryOnClassNames;
+  private final String[] abortOnClassNames;
+
+  private volatile Class<?>[] retryOn;
+  private volatile Class<?>[] abortOn;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  @RecordableConstructor
+  public VertxAsyncRetryDescriptor(int maxAttempts,
+                                   long delayMillis,
+                                   long maxDelayMillis,
+                                   double multiplier,
+                                   double jitter,
+                                   String[] retryOnClassNames,
+                                   String[] abortOnClassNames) {
+
+    this.maxAttempts = maxAttempts;
+    this.delayMillis = delayMillis;
+    this.maxDelayMillis = maxDelayMillis;
+    this.multiplier = multiplier;
+    this.jitter = jitter;
+    this.retryOnClassNames = retryOnClassNames;
+    this.abortOnClassNames = abortOnClassNames;
+  }
+
+  static VertxAsyncRetryDescriptor fromAnnotation(AsyncRetry asyncRetryAnnotation) {
+    return new VertxAsyncRetryDescriptor(asyncRetryAnnotation.maxAttempts(),
+                                         asyncRetryAnnotation.delayUnit().toMillis(asyncRetryAnnotation.delay()),
+                                         asyncRetryAnnotation.delayUnit().toMillis(asyncRetryAnnotation.maxDelay()),
+                                         asyncRetryAnnotation.multiplier(),
+                                         asyncRetryAnnotation.jitter(),
+                                         Arrays.stream(asyncRetryAnnotation.retryOn()).map(Class::getName).toArray(String[]::new),
+                                         Arrays.stream(asyncRetryAnnotation.abortOn()).map(Class::getName).toArray(String[]::new));
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  public long getDelayMillis() {
+    return delayMillis;
+  }
+
+  public long getMaxDelayMillis() {
+    return maxDelayMillis;
+  }
+
+  public double getMultiplier() {
+    return multiplier;
+  }
+
+  public double getJitter() {
+    return jitter;
+  }
+
+  public String[] getRetryOnClassNames() {
+    return retryOnClassNames;
+  }
+
+  public String[] getAbortOnClassNames() {
+    return abortOnClassNames;
+  }
+
+  /**
+   * @param attempt     the number of the failed attempt, starting with 1.
+   * @param classLoader the class loader of the method, which is used to load
+   *                    the exception types.
+   * @return whether the given failure of the given attempt should be retried.
+   */
+  public boolean shouldRetry(int attempt, Throwable failure, ClassLoader classLoader) {
+    if (attempt >= maxAttempts) {
+      return false;
+    }
+
+    if (retryOn == null) {
+      // Benign race, both threads load the same classes
+      abortOn = loadClasses(abortOnClassNames, classLoader);
+      retryOn = loadClasses(retryOnClassNames, classLoader);
+    }
+    return !isInstanceOfAny(failure, abortOn) && isInstanceOfAny(failure, retryOn);
+  }
+
+  /**
+   * @param attempt the number of the failed attempt, starting with 1.
+   * @return the randomized backoff before the next attempt.
+   */
+  public long backoffMillis(int attempt) {
+    double backoff = Math.min(maxDelayMillis, delayMillis * Math.pow(multiplier, attempt - 1));
+    if (jitter > 0) {
+      backoff *= 1 + jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+    }
+    return Math.max(0, Math.min(maxDelayMillis, Math.round(backoff)));
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static boolean isInstanceOfAny(Throwable failure, Class<?>[] types) {
+    for (Class<?> type : types) {
+      if (type.isInstance(failure)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Class<?>[] loadClasses(String[] classNames, ClassLoader classLoader) {
+    Class<?>[] classes = new Class<?>[classNames.length];
+    for (int i = 0; i < classNames.length; i++) {
+      try {
+        classes[i] = Class.forName(classNames[i], false, classLoader);
+      }
+      catch (ClassNotFoundException e) {
+        throw new IllegalStateException("Unable to load the exception type of an @AsyncRetry method: " + classNames[i], e);
+      }
+    }
+    return classes;
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,39 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import java.time.Duration;
+
+/**
+ * The settings of the draining of the executors during the shutdown from
+ * the {@link SimplifiedAsyncVertxConfig}.
+ */
+public final class VertxAsyncShutdownSettings {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final Duration timeout;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  public VertxAsyncShutdownSettings(Duration timeout) {
+    this.timeout = timeout;
+  }
+
+  /**
+   * @throws IllegalStateException if the configured timeout is negative.
+   */
+  static VertxAsyncShutdownSettings create(Duration timeout) {
+    if (timeout.isNegative()) {
+      throw new IllegalStateException("The configured shutdown timeout must not be negative.");
+    }
+    return new VertxAsyncShutdownSettings(timeout);
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  public Duration getTimeout() {
+    return timeout;
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
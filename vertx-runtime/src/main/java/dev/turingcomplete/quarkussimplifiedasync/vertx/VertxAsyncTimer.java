@@ -0,0 +1,80 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Singleton;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the pending calls of @{@link AsyncDelayed} methods.
+ *
+ * <p>The calls are held in a hashed timing wheel (Netty's
+ * {@link HashedWheelTimer}), which is driven by a single thread. Scheduling
+ * and cancelling a call are O(1) operations, and no Vert.x timer gets
+ * created per call. Once the delay of a call has elapsed, the thread of the
+ * wheel hands it over to the executor of the method.
+ */
+@Singleton
+public class VertxAsyncTimer {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  public static final long TICK_DURATION_MILLIS = 10;
+
+  private static final int    TICKS_PER_WHEEL = 512;
+  private static final String THREAD_NAME     = "vert.x-async-timer";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final HashedWheelTimer wheel = new HashedWheelTimer(WheelThread::new, TICK_DURATION_MILLIS, TimeUnit.MILLISECONDS,
+                                                              TICKS_PER_WHEEL, false);
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Executes the given task on the thread of the wheel after the given
+   * delay. The task must only hand over the actual work.
+   *
+   * @return the {@link Timeout}, which can be used to cancel the task.
+   */
+  public Timeout schedule(long delay, TimeUnit unit, Runnable task) {
+    return wheel.newTimeout(timeout -> task.run(), delay, unit);
+  }
+
+  /**
+   * A scheduled task runs on the thread of the wheel, which must never be
+   * blocked, like an event loop thread. Otherwise, all other pending calls
+   * would be delayed, too.
+   *
+   * @return true, if the current thread is the thread of a wheel.
+   */
+  public static boolean isOnWheelThread() {
+    return Thread.currentThread() instanceof WheelThread;
+  }
+
+  /**
+   * @return the number of scheduled tasks, which are still waiting for their
+   * delay.
+   */
+  public int getPendingCount() {
+    return (int) wheel.pendingTimeouts();
+  }
+
+  @PreDestroy
+  public void close() {
+    wheel.stop();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private static final class WheelThread extends Thread {
+
+    private WheelThread(Runnable runnable) {
+      super(runnable, THREAD_NAME);
+      setDaemon(true);
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the {@link VertxAsyncBulkhead}.
+ */
+class VertxAsyncBulkheadTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final int WAITING_CALLS = 100_000;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether calls which get released while they are running, like a
+   * call whose dispatch failed synchronously, don't recurse into the next
+   * waiting call.
+   */
+  @Test
+  void testReleasingRunningCallDoesNotRecurse() {
+    var bulkhead = new VertxAsyncBulkhead(new VertxAsyncBulkheadDescriptor("Test", 1, 1, false));
+
+    // Occupies the limit, so that all following calls have to wait
+    Runnable[] releaseFirstCall = new Runnable[1];
+    bulkhead.execute(() -> releaseFirstCall[0] = () -> bulkhead.release(0, true));
+
+    var executedCalls = new AtomicInteger();
+    for (int i = 0; i < WAITING_CALLS; i++) {
+      bulkhead.execute(() -> {
+        executedCalls.incrementAndGet();
+        bulkhead.release(0, false);
+      });
+    }
+    assertThat(bulkhead.getWaiting()).isEqualTo(WAITING_CALLS);
+
+    releaseFirstCall[0].run();
+    assertThat(executedCalls).hasValue(WAITING_CALLS);
+    assertThat(bulkhead.getWaiting()).isZero();
+    assertThat(bulkhead.getRunning()).isZero();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,97 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the {@link VertxAsyncCancellation}.
+ */
+class VertxAsyncCancellationTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private Vertx                      vertx;
+  private VertxAsyncExecutorRegistry executorRegistry;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  @BeforeEach
+  void setUp() {
+    vertx = Vertx.vertx();
+    executorRegistry = new VertxAsyncExecutorRegistry(vertx);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    executorRegistry.close();
+    vertx.close().toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS);
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether a {@code Future} which was not created for a call does not
+   * get failed.
+   */
+  @Test
+  void testDoesNotCancelForeignFuture() {
+    Promise<Object> promise = Promise.promise();
+    assertThat(VertxAsyncCancellation.cancel(promise.future())).isFalse();
+    assertThat(promise.future().isComplete()).isFalse();
+    assertThat(VertxAsyncCancellation.cancel(Future.succeededFuture())).isFalse();
+  }
+
+  /**
+   * Tests whether the {@code Future} of a pending task gets failed, and
+   * whether it can't be cancelled anymore once it has been completed.
+   */
+  @Test
+  void testCancelsFutureOfPendingTask() throws Exception {
+    var release = new CountDownLatch(1);
+    Future<Object> future = executorRegistry.defaultExecutor().execute(promise -> {
+      await(release);
+      promise.tryComplete();
+    });
+
+    assertThat(VertxAsyncCancellation.cancel(future)).isTrue();
+    assertThat(future.failed()).isTrue();
+    assertThat(future.cause()).isInstanceOf(CancellationException.class);
+    assertThat(VertxAsyncCancellation.cancel(future)).isFalse();
+    release.countDown();
+  }
+
+  /**
+   * Tests whether the cancellable {@code Future} of a task can be returned
+   * from a {@code compose()} function, in which Vert.x expects its own
+   * {@code Future} implementation.
+   */
+  @Test
+  void testComposesFutureOfTask() throws Exception {
+    Future<Object> composed = Future.succeededFuture().compose(ignore -> executorRegistry.defaultExecutor().execute(promise -> promise.complete("result")));
+
+    assertThat(composed.toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS)).isEqualTo("result");
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,69 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the {@link VertxAsyncExecutorOverrides}.
+ */
+class VertxAsyncExecutorOverridesTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String EXECUTOR_NAME = "OverridesTest";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether a configured maximum queue size overrides the one of the
+   * annotation, and whether {@link VertxAsync#UNBOUNDED_QUEUE_SIZE} is
+   * accepted.
+   */
+  @Test
+  void testOverridesMaxQueueSize() {
+    VertxAsyncExecutorDescriptor descriptor = createDescriptor(100);
+
+    assertThat(createOverrides(5).apply(descriptor).getMaxQueueSize()).isEqualTo(5);
+    assertThat(createOverrides(VertxAsync.UNBOUNDED_QUEUE_SIZE).apply(descriptor).hasBoundedQueue()).isFalse();
+  }
+
+  /**
+   * Tests whether a maximum queue size of zero, which would silently make the
+   * queue unbounded, or less than {@link VertxAsync#UNBOUNDED_QUEUE_SIZE}
+   * fails the startup.
+   */
+  @Test
+  void testRejectsInvalidMaxQueueSize() {
+    for (int maxQueueSize : new int[] {0, -2}) {
+      assertThatThrownBy(() -> createOverrides(maxQueueSize)).isInstanceOf(IllegalStateException.class)
+                                                             .hasMessageContaining("'" + EXECUTOR_NAME + "'")
+                                                             .hasMessageContaining("must be positive or -1");
+    }
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static VertxAsyncExecutorOverrides createOverrides(int maxQueueSize) {
+    var executorConfig = new SimplifiedAsyncVertxConfig.ExecutorConfig();
+    executorConfig.poolSize = OptionalInt.empty();
+    executorConfig.maxQueueSize = OptionalInt.of(maxQueueSize);
+    executorConfig.maxExecutionTime = Optional.empty();
+    executorConfig.kind = Optional.empty();
+    return VertxAsyncExecutorOverrides.create(Map.of(EXECUTOR_NAME, executorConfig));
+  }
+
+  private static VertxAsyncExecutorDescriptor createDescriptor(int maxQueueSize) {
+    return new VertxAsyncExecutorDescriptor(EXECUTOR_NAME, 1, 1, TimeUnit.SECONDS, false, maxQueueSize, SaturationPolicy.REJECT,
+                                            1, TimeUnit.SECONDS, ExecutorKind.WORKER);
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
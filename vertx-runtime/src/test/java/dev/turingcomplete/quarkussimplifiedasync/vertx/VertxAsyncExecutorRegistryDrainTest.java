@@ -0,0 +1,139 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the draining of the executors of the
+ * {@link VertxAsyncExecutorRegistry} during the shutdown.
+ */
+class VertxAsyncExecutorRegistryDrainTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private Vertx                      vertx;
+  private VertxAsyncExecutorRegistry executorRegistry;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  @BeforeEach
+  void setUp() {
+    vertx = Vertx.vertx();
+    executorRegistry = new VertxAsyncExecutorRegistry(vertx);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    executorRegistry.close();
+    vertx.close().toCompletionStage().toCompletableFuture().get(2, TimeUnit.SECONDS);
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether the draining waits for the pending tasks and rejects new
+   * tasks afterwards.
+   */
+  @Test
+  void testCompletesPendingTasks() {
+    VertxAsyncExecutor executor = executorRegistry.defaultExecutor();
+    for (int i = 0; i < 3; i++) {
+      executor.execute(promise -> {
+        sleep(20);
+        promise.complete();
+      });
+    }
+
+    List<VertxAsyncExecutorRegistry.DrainResult> drainResults = executorRegistry.drain(Duration.ofSeconds(2));
+    assertThat(drainResults).singleElement().satisfies(drainResult -> {
+      assertThat(drainResult.getExecutorName()).isEqualTo(VertxAsyncExecutor.VERTX_WORKER_POOL_NAME);
+      assertThat(drainResult.getCompletedTaskCount()).isEqualTo(3);
+      assertThat(drainResult.getAbandonedTaskCount()).isZero();
+    });
+
+    Future<Object> rejected = executor.execute(promise -> promise.complete());
+    assertThat(rejected.failed()).isTrue();
+    assertThat(rejected.cause()).isInstanceOf(RejectedExecutionException.class);
+  }
+
+  /**
+   * Tests whether the tasks which are still pending after the timeout get
+   * reported as abandoned.
+   */
+  @Test
+  void testAbandonsTasksAfterTimeout() throws Exception {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    executorRegistry.defaultExecutor().execute(promise -> {
+      started.countDown();
+      await(release);
+      promise.complete();
+    });
+    assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+
+    List<VertxAsyncExecutorRegistry.DrainResult> drainResults = executorRegistry.drain(Duration.ofMillis(50));
+    release.countDown();
+    assertThat(drainResults).singleElement().satisfies(drainResult -> {
+      assertThat(drainResult.getCompletedTaskCount()).isZero();
+      assertThat(drainResult.getAbandonedTaskCount()).isEqualTo(1);
+    });
+  }
+
+  /**
+   * Tests whether the draining returns as soon as the last pending task has
+   * finished, instead of waiting for the timeout.
+   */
+  @Test
+  void testReturnsOnceLastTaskFinished() throws Exception {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    executorRegistry.defaultExecutor().execute(promise -> {
+      started.countDown();
+      await(release);
+      promise.complete();
+    });
+    assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+
+    vertx.setTimer(50, ignore -> release.countDown());
+    long startNanos = System.nanoTime();
+    List<VertxAsyncExecutorRegistry.DrainResult> drainResults = executorRegistry.drain(Duration.ofSeconds(30));
+    assertThat(Duration.ofNanos(System.nanoTime() - startNanos)).isLessThan(Duration.ofSeconds(10));
+    assertThat(drainResults).singleElement().satisfies(drainResult -> {
+      assertThat(drainResult.getCompletedTaskCount()).isEqualTo(1);
+      assertThat(drainResult.getAbandonedTaskCount()).isZero();
+    });
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,238 @@
+package dev.turingcomplete.quarkussimplifiedasync.vertx;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the {@link VertxAsyncJournal}.
+ */
+class VertxAsyncJournalTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String METHOD_ID       = "Bean#run(java.lang.String, int)";
+  private static final String ORDER_METHOD_ID = "Bean#submit(dev.turingcomplete.quarkussimplifiedasync.vertx.VertxAsyncJournalTest$Order)";
+  private static final int    SEGMENT_SIZE    = 4 * 1024;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  @TempDir
+  Path directory;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether only the unacknowledged calls get recovered after a
+   * restart, in the order of their appending.
+   */
+  @Test
+  void testRecoversUnacknowledgedCalls() throws Exception {
+    var journal = createJournal();
+    assertThat(journal.recover()).isEmpty();
+    VertxAsyncJournal.Entry first = journal.append(METHOD_ID, new Object[]{"a", 1}).get(2, TimeUnit.SECONDS);
+    journal.append(METHOD_ID, new Object[]{"b", 2}).get(2, TimeUnit.SECONDS);
+    journal.append(METHOD_ID, new Object[]{"c", 3}).get(2, TimeUnit.SECONDS);
+    journal.acknowledge(first);
+    journal.close();
+
+    var reopenedJournal = createJournal();
+    List<VertxAsyncJournal.RecoveredCall> calls = reopenedJournal.recover();
+    assertThat(calls).extracting(VertxAsyncJournal.RecoveredCall::getMethodId).containsExactly(METHOD_ID, METHOD_ID);
+    assertThat(calls.get(0).getParameters(runMethod())).containsExactly("b", 2);
+    assertThat(calls.get(1).getParameters(runMethod())).containsExactly("c", 3);
+    // Only returned once
+    assertThat(reopenedJournal.recover()).isEmpty();
+
+    calls.forEach(call -> reopenedJournal.acknowledge(call.getEntry()));
+    reopenedJournal.close();
+    assertThat(segmentFiles()).isEmpty();
+  }
+
+  /**
+   * Tests whether full segments get rotated and deleted once all of their
+   * calls have been acknowledged.
+   */
+  @Test
+  void testRotatesAndDeletesAcknowledgedSegments() throws Exception {
+    var journal = createJournal();
+    var parameter = "x".repeat(1024);
+    List<VertxAsyncJournal.Entry> entries = Stream.generate(() -> journal.append(METHOD_ID, new Object[]{parameter, 0}))
+                                                  .limit(10)
+                                                  .map(completableFuture -> completableFuture.join())
+                                                  .collect(Collectors.toList());
+    assertThat(segmentFiles()).hasSizeGreaterThan(2);
+
+    entries.forEach(journal::acknowledge);
+    // Only the active segment and the empty spare segment remain
+    awaitSegmentFileCount(2);
+    journal.close();
+    assertThat(segmentFiles()).isEmpty();
+  }
+
+  /**
+   * Tests whether the next segment gets created ahead of time, and takes
+   * over once the active segment is full.
+   */
+  @Test
+  void testPreparesSpareSegment() throws Exception {
+    var journal = createJournal();
+    assertThat(journal.recover()).isEmpty();
+    awaitSegmentFileCount(2);
+    List<Path> preparedSegmentFiles = segmentFiles();
+
+    var parameter = "x".repeat(1024);
+    for (int i = 0; i < 5; i++) {
+      journal.append(METHOD_ID, new Object[]{parameter, i}).get(2, TimeUnit.SECONDS);
+    }
+    // The full first segment, the previous spare segment and the next spare segment
+    awaitSegmentFileCount(3);
+    assertThat(segmentFiles()).startsWith(preparedSegmentFiles.toArray(Path[]::new));
+    journal.close();
+
+    var reopenedJournal = createJournal();
+    assertThat(reopenedJournal.recover()).hasSize(5);
+    reopenedJournal.close();
+  }
+
+  /**
+   * Tests whether a torn record at the end of a segment gets ignored.
+   */
+  @Test
+  void testIgnoresTornRecord() throws Exception {
+    var journal = createJournal();
+    journal.append(METHOD_ID, new Object[]{"a", 1}).get(2, TimeUnit.SECONDS);
+    journal.append(METHOD_ID, new Object[]{"b", 2}).get(2, TimeUnit.SECONDS);
+    journal.close();
+
+    // Corrupts the last byte of the second record
+    Path segmentFile = segmentFiles().get(0);
+    try (var file = new RandomAccessFile(segmentFile.toFile(), "rw")) {
+      long position = file.length() - 1;
+      while (position > 0) {
+        file.seek(position);
+        if (file.read() != 0) {
+          file.seek(position);
+          file.write(0x7F);
+          break;
+        }
+        position--;
+      }
+    }
+
+    var reopenedJournal = createJournal();
+    List<VertxAsyncJournal.RecoveredCall> calls = reopenedJournal.recover();
+    assertThat(calls).hasSize(1);
+    assertThat(calls.get(0).getParameters(runMethod())).containsExactly("a", 1);
+    reopenedJournal.close();
+  }
+
+  /**
+   * Tests whether a call with a parameter that is not serializable gets
+   * rejected.
+   */
+  @Test
+  void testRejectsNotSerializableParameter() {
+    var journal = createJournal();
+    assertThatThrownBy(() -> journal.append(METHOD_ID, new Object[]{new Object()})).isInstanceOf(IllegalArgumentException.class);
+    journal.close();
+  }
+
+  /**
+   * Tests whether the parameters only get deserialized into the declared
+   * types of the method, including their subclasses and the types of their
+   * fields.
+   */
+  @Test
+  void testDeserializesOnlyDeclaredParameterTypes() throws Exception {
+    var journal = createJournal();
+    journal.append(METHOD_ID, new Object[]{"a", 1}).get(2, TimeUnit.SECONDS);
+    journal.append(METHOD_ID, new Object[]{new AtomicInteger(), 2}).get(2, TimeUnit.SECONDS);
+    journal.append(ORDER_METHOD_ID, new Object[]{new ExpressOrder(List.of(new Item("x")))}).get(2, TimeUnit.SECONDS);
+    journal.close();
+
+    var reopenedJournal = createJournal();
+    List<VertxAsyncJournal.RecoveredCall> calls = reopenedJournal.recover();
+    assertThat(calls.get(0).getParameters(runMethod())).containsExactly("a", 1);
+    // Not a type of the parameters of the method
+    assertThatThrownBy(() -> calls.get(1).getParameters(runMethod())).isInstanceOf(InvalidClassException.class);
+    Object[] parameters = calls.get(2).getParameters(VertxAsyncJournalTest.class.getDeclaredMethod("submit", Order.class));
+    assertThat(parameters[0]).isInstanceOf(ExpressOrder.class);
+    assertThat(((Order) parameters[0]).items).extracting(item -> item.name).containsExactly("x");
+    reopenedJournal.close();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static Method runMethod() throws NoSuchMethodException {
+    return VertxAsyncJournalTest.class.getDeclaredMethod("run", String.class, int.class);
+  }
+
+  @SuppressWarnings("unused")
+  private void run(String name, int count) {
+  }
+
+  @SuppressWarnings("unused")
+  private void submit(Order order) {
+  }
+
+  private VertxAsyncJournal createJournal() {
+    return new VertxAsyncJournal(new VertxAsyncJournalSettings(directory, SEGMENT_SIZE));
+  }
+
+  private void awaitSegmentFileCount(int expectedCount) throws IOException, InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+    while (segmentFiles().size() != expectedCount && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(segmentFiles()).hasSize(expectedCount);
+  }
+
+  private List<Path> segmentFiles() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.sorted().collect(Collectors.toList());
+    }
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private static class Order implements Serializable {
+
+    private final List<Item> items;
+
+    private Order(List<Item> items) {
+      this.items = items;
+    }
+  }
+
+  private static class ExpressOrder extends Order {
+
+    private ExpressOrder(List<Item> items) {
+      super(items);
+    }
+  }
+
+  private static class Item implements Serializable {
+
+    private final String name;
+
+    private Item(String name) {
+      this.name = name;
+    }
+  }
+}
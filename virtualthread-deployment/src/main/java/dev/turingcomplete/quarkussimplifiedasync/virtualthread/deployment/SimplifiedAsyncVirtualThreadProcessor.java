@@ -0,0 +1,25 @@
+package dev.turingcomplete.quarkussimplifiedasync.virtualthread.deployment;
+
+import dev.turingcomplete.quarkussimplifiedasync.virtualthread.VirtualThreadAsync;
+import dev.turingcomplete.quarkussimplifiedasync.virtualthread.VirtualThreadAsyncInterceptor;
+import dev.turingcomplete.quarkussimplifiedasync.virtualthread.VirtualThreadGroups;
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.FeatureBuildItem;
+
+class SimplifiedAsyncVirtualThreadProcessor {
+
+    private static final String FEATURE = "simplified-async-virtualthread";
+
+    @BuildStep
+    FeatureBuildItem feature() {
+        return new FeatureBuildItem(FEATURE);
+    }
+
+    @BuildStep
+    AdditionalBeanBuildItem additionalBean() {
+        return new AdditionalBeanBuildItem(VirtualThreadAsyncInterceptor.class,
+                                           VirtualThreadAsync.class,
+                                           VirtualThreadGroups.class);
+    }
+}
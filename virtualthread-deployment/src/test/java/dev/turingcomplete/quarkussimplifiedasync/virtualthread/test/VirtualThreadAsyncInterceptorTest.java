@@ -0,0 +1,98 @@
+package dev.turingcomplete.quarkussimplifiedasync.virtualthread.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import dev.turingcomplete.quarkussimplifiedasync.testkit.AsyncAssertions;
+import dev.turingcomplete.quarkussimplifiedasync.virtualthread.VirtualThreadAsync;
+import dev.turingcomplete.quarkussimplifiedasync.virtualthread.VirtualThreadAsyncInterceptor;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.turingcomplete.quarkussimplifiedasync.testkit.AsyncAssertions.assertAsyncMethodExecutedInParallel;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the {@link VirtualThreadAsyncInterceptor}, which only run on a Java
+ * version with virtual threads.
+ */
+@QuarkusTest
+@EnabledIf("dev.turingcomplete.quarkussimplifiedasync.virtualthread.VirtualThreads#isSupported")
+class VirtualThreadAsyncInterceptorTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String LIMITED_GROUP_NAME = "LimitedGroup";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final AtomicInteger concurrentExecutions    = new AtomicInteger();
+  private final AtomicInteger maxConcurrentExecutions = new AtomicInteger();
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether {@link VirtualThreadAsyncInterceptor} executes a void
+   * returning method asynchronously in parallel.
+   */
+  @Test
+  @Timeout(value = AsyncAssertions.ASYNC_EXECUTION_TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+  void testVoidReturnMethod() throws InterruptedException {
+    assertAsyncMethodExecutedInParallel(this::voidReturnMethod);
+  }
+
+  @Async
+  void voidReturnMethod(Runnable runnable) {
+    runnable.run();
+  }
+
+  /**
+   * Tests whether {@link VirtualThreadAsyncInterceptor} executes a method on a
+   * virtual thread of the default group and passes the result of the returned
+   * {@link CompletionStage} to the caller.
+   */
+  @Test
+  @Timeout(2)
+  void testCompletionStageReturnMethod() throws ExecutionException, InterruptedException {
+    String threadName = completionStageReturnMethod().toCompletableFuture().get();
+    assertThat(threadName).startsWith(VirtualThreadAsync.DEFAULT_GROUP_NAME);
+  }
+
+  @Async
+  CompletionStage<String> completionStageReturnMethod() {
+    return CompletableFuture.completedFuture(Thread.currentThread().getName());
+  }
+
+  /**
+   * Tests whether {@link VirtualThreadAsyncInterceptor} respects the
+   * {@link VirtualThreadAsync#maxConcurrency()} of a group.
+   */
+  @Test
+  @Timeout(5)
+  void testMaxConcurrency() throws InterruptedException {
+    var futures = new CompletableFuture<?>[10];
+    for (int i = 0; i < futures.length; i++) {
+      futures[i] = limitedConcurrencyMethod().toCompletableFuture();
+    }
+    CompletableFuture.allOf(futures).join();
+
+    assertThat(maxConcurrentExecutions.get()).isEqualTo(2);
+  }
+
+  @VirtualThreadAsync(value = LIMITED_GROUP_NAME, maxConcurrency = 2)
+  CompletableFuture<Void> limitedConcurrencyMethod() throws InterruptedException {
+    maxConcurrentExecutions.accumulateAndGet(concurrentExecutions.incrementAndGet(), Math::max);
+    Thread.sleep(100);
+    concurrentExecutions.decrementAndGet();
+    return null;
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,77 @@
+package dev.turingcomplete.quarkussimplifiedasync.virtualthread.test;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import dev.turingcomplete.quarkussimplifiedasync.virtualthread.VirtualThreadAsync;
+import dev.turingcomplete.quarkussimplifiedasync.virtualthread.VirtualThreadAsyncInterceptor;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.condition.DisabledIf;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the {@link VirtualThreadAsyncInterceptor}, which only run on a Java
+ * version without virtual threads.
+ *
+ * <p>The application must still start, because the groups of virtual threads
+ * get lazily created. But each call of an @{@link Async} method must fail
+ * without executing the method.
+ */
+@QuarkusTest
+@DisabledIf("dev.turingcomplete.quarkussimplifiedasync.virtualthread.VirtualThreads#isSupported")
+class VirtualThreadAsyncInterceptorUnsupportedTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final AtomicInteger executions = new AtomicInteger();
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Tests whether the call of a void returning method fails with an
+   * {@link IllegalStateException}.
+   */
+  @Test
+  @Timeout(2)
+  void testVoidReturnMethod() {
+    assertThatThrownBy(this::voidReturnMethod).isInstanceOf(IllegalStateException.class)
+                                              .hasMessageContaining("At least Java 21 is required");
+    assertThat(executions.get()).isZero();
+  }
+
+  @Async
+  void voidReturnMethod() {
+    executions.incrementAndGet();
+  }
+
+  /**
+   * Tests whether the call of a method of a {@link VirtualThreadAsync} group
+   * fails on every call, and not only on the one that tried to create the
+   * group.
+   */
+  @Test
+  @Timeout(2)
+  void testCompletionStageReturnMethod() {
+    for (int i = 0; i < 2; i++) {
+      assertThatThrownBy(this::completionStageReturnMethod).isInstanceOf(IllegalStateException.class)
+                                                           .hasMessageContaining("At least Java 21 is required");
+    }
+    assertThat(executions.get()).isZero();
+  }
+
+  @VirtualThreadAsync("UnsupportedGroup")
+  CompletionStage<Void> completionStageReturnMethod() {
+    executions.incrementAndGet();
+    return CompletableFuture.completedFuture(null);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
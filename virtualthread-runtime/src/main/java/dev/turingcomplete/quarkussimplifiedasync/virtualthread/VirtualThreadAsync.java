@@ -0,0 +1,67 @@
+package dev.turingcomplete.quarkussimplifiedasync.virtualthread;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+
+import javax.enterprise.util.Nonbinding;
+import javax.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An alternative to {@link Async} which allows the execution of asynchronous
+ * methods in a named group of virtual threads, whose number of concurrent
+ * executions can be limited.
+ *
+ * <p>In the following example:
+ * <pre>{@code
+ * @VirtualThreadAsync(value = "jdbc", maxConcurrency = 50) void query1() {}
+ * @VirtualThreadAsync("jdbc") void query2() {}
+ * }</pre>
+ * both methods share the {@code jdbc} group and therefore there will never be
+ * more than 50 concurrent executions of both methods together. Like with the
+ * pool size of a Vert.x shared worker executor, the limit gets taken into
+ * account only during the initialization of the group, which happens on the
+ * first call of a method of the group.
+ */
+@Inherited
+@Async
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface VirtualThreadAsync {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  String DEFAULT_GROUP_NAME = "VirtualThreadAsync-DefaultGroup";
+
+  int UNLIMITED_CONCURRENCY = -1;
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * The name of the group of virtual threads to be used for the asynchronous
+   * execution of the method.
+   *
+   * <p>The name is also used as the prefix of the virtual thread names.
+   *
+   * @return the group name.
+   */
+  @Nonbinding String value() default DEFAULT_GROUP_NAME;
+
+  /**
+   * The maximum number of concurrent executions in the group.
+   *
+   * <p>Calls exceeding this limit will not block the caller. Instead, their
+   * virtual thread waits until a running execution has finished. A waiting
+   * virtual thread does not occupy a platform thread.
+   *
+   * <p>The default value is {@link #UNLIMITED_CONCURRENCY}.
+   *
+   * @return the maximum number of concurrent executions.
+   */
+  @Nonbinding int maxConcurrency() default UNLIMITED_CONCURRENCY;
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,158 @@
+package dev.turingcomplete.quarkussimplifiedasync.virtualthread;
+
+import dev.turingcomplete.quarkussimplifiedasync.core.Async;
+import dev.turingcomplete.quarkussimplifiedasync.core.AsyncUncaughtExceptionHandler;
+import io.quarkus.arc.Priority;
+
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * An interceptor which executes @{@link Async} methods asynchronously
+ * on a JDK virtual thread.
+ *
+ * <p>Because a virtual thread does not occupy a platform thread while it is
+ * blocked, this interceptor is well suited for methods that block on I/O
+ * (e.g., JDBC or HTTP calls).
+ *
+ * <p>The return value of an @{@code Async} method call is always null, with
+ * the exception of methods that have {@link CompletableFuture},
+ * {@link CompletionStage} or {@link Future} as their return type. The call of
+ * such a method returns a {@code CompletableFuture}, which gets completed with
+ * the result of the actual returned object of the asynchronous method:
+ * <pre>{@code
+ * class MyBean {
+ *   void run() {
+ *     runAsync().thenAccept(result -> { assert result.equals("Foo"); });
+ *   }
+ *
+ *   @Async
+ *   CompletionStage<String> runAsync() {
+ *      return CompletableFuture.completedFuture("Foo");
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>By using {@link VirtualThreadAsync}, as an alternative to {@link Async},
+ * it's possible to execute an asynchronous method in a named group with a
+ * limited number of concurrent executions.
+ */
+@Interceptor
+@Async
+@Priority(VirtualThreadAsyncInterceptor.PRIORITY)
+public class VirtualThreadAsyncInterceptor {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  public static final int PRIORITY = Interceptor.Priority.LIBRARY_AFTER + 100;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final ConcurrentMap<Method, AsyncMethod> asyncMethods = new ConcurrentHashMap<>();
+
+  @Inject
+  VirtualThreadGroups virtualThreadGroups;
+
+  @Inject
+  AsyncUncaughtExceptionHandler asyncUncaughtExceptionHandler;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @AroundInvoke
+  public Object intercept(InvocationContext context) throws Exception {
+    Method method = context.getMethod();
+    if (method == null) {
+      return context.proceed();
+    }
+
+    AsyncMethod asyncMethod = asyncMethods.get(method);
+    if (asyncMethod == null) {
+      asyncMethod = asyncMethods.computeIfAbsent(method, AsyncMethod::new);
+    }
+
+    var result = new CompletableFuture<>();
+    virtualThreadGroups.execute(asyncMethod.groupName, asyncMethod.maxConcurrency, () -> proceed(context, result));
+    if (asyncMethod.returnsFuture) {
+      return result;
+    }
+    else {
+      result.whenComplete((ignore, e) -> {
+        if (e != null) {
+          asyncUncaughtExceptionHandler.handleUncaughtException(e, method, context.getParameters());
+        }
+      });
+      return null;
+    }
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private void proceed(InvocationContext context, CompletableFuture<Object> result) {
+    try {
+      Object returnValue = context.proceed();
+
+      if (returnValue instanceof CompletionStage) {
+        // Map the results from the actual returned `CompletionStage` of the
+        // async method to the `CompletableFuture` that was returned from the
+        // method call.
+        ((CompletionStage<?>) returnValue).whenComplete((value, e) -> {
+          if (e != null) {
+            result.completeExceptionally(e);
+          }
+          else {
+            result.complete(value);
+          }
+        });
+      }
+      else if (returnValue instanceof Future) {
+        // Blocking is cheap on a virtual thread
+        result.complete(((Future<?>) returnValue).get());
+      }
+      else {
+        // Handle any other return type
+        result.complete(returnValue);
+      }
+    }
+    catch (ExecutionException e) {
+      result.completeExceptionally(e.getCause());
+    }
+    catch (Throwable e) {
+      // Will be handled by the `asyncUncaughtExceptionHandler`
+      result.completeExceptionally(e);
+    }
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  /**
+   * The settings of an @{@link Async} method, which get reflectively read
+   * only once.
+   */
+  private static class AsyncMethod {
+
+    private final String  groupName;
+    private final int     maxConcurrency;
+    private final boolean returnsFuture;
+
+    private AsyncMethod(Method method) {
+      VirtualThreadAsync virtualThreadAsync = method.getAnnotation(VirtualThreadAsync.class);
+      if (virtualThreadAsync == null) {
+        virtualThreadAsync = method.getDeclaringClass().getAnnotation(VirtualThreadAsync.class);
+      }
+      groupName = virtualThreadAsync != null ? virtualThreadAsync.value() : VirtualThreadAsync.DEFAULT_GROUP_NAME;
+      maxConcurrency = virtualThreadAsync != null ? virtualThreadAsync.maxConcurrency() : VirtualThreadAsync.UNLIMITED_CONCURRENCY;
+
+      Class<?> returnType = method.getReturnType();
+      returnsFuture = !returnType.equals(Object.class) && returnType.isAssignableFrom(CompletableFuture.class);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package dev.turingcomplete.quarkussimplifiedasync.virtualthread;
+
+import org.jboss.logging.Logger;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Manages the named groups of virtual threads in which @{@link VirtualThreadAsync}
+ * methods get executed.
+ *
+ * <p>The groups get lazily created on the first call of one of their methods.
+ * Therefore, an application that never calls an asynchronous method can also
+ * be started on a Java version without virtual threads.
+ */
+@ApplicationScoped
+public class VirtualThreadGroups {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final Logger LOGGER = Logger.getLogger(VirtualThreadGroups.class);
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final ConcurrentMap<String, Group> groups = new ConcurrentHashMap<>();
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Executes the given task on a new virtual thread of the given group, which
+   * will be created if it does not exist yet.
+   *
+   * @param maxConcurrency the maximum concurrent executions of the group or
+   *                       {@link VirtualThreadAsync#UNLIMITED_CONCURRENCY}.
+   *                       Only used if the group gets created.
+   */
+  public void execute(String groupName, int maxConcurrency, Runnable task) {
+    Group group = groups.get(groupName);
+    if (group == null) {
+      group = groups.computeIfAbsent(groupName, ignore -> new Group(groupName, maxConcurrency));
+    }
+    group.execute(task);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    groups.values().forEach(group -> group.executorService.shutdown());
+    groups.clear();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private static class Group {
+
+    private final ExecutorService executorService;
+    private final Semaphore       concurrencyPermits;
+
+    private Group(String name, int maxConcurrency) {
+      LOGGER.debugf("Creating virtual thread group '%s' with maximum concurrency %d", name, maxConcurrency);
+      this.executorService = VirtualThreads.newThreadPerTaskExecutor(name + "-");
+      this.concurrencyPermits = maxConcurrency > 0 ? new Semaphore(maxConcurrency, true) : null;
+    }
+
+    void execute(Runnable task) {
+      if (concurrencyPermits == null) {
+        executorService.execute(task);
+        return;
+      }
+
+      executorService.execute(() -> {
+        // Blocks only the virtual thread, which gets unmounted from its
+        // carrier thread while waiting.
+        concurrencyPermits.acquireUninterruptibly();
+        try {
+          task.run();
+        }
+        finally {
+          concurrencyPermits.release();
+        }
+      });
+    }
+  }
+}
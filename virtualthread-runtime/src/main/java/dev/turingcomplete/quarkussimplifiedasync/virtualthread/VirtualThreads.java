@@ -0,0 +1,87 @@
+package dev.turingcomplete.quarkussimplifiedasync.virtualthread;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Utilities to create virtual threads.
+ *
+ * <p>This extension gets compiled against Java 11, but virtual threads are
+ * only available since Java 21. Therefore, the API gets accessed
+ * reflectively.
+ */
+public final class VirtualThreads {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final Method OF_VIRTUAL;
+  private static final Method BUILDER_NAME;
+  private static final Method BUILDER_FACTORY;
+  private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+  static {
+    Method ofVirtual = null;
+    Method builderName = null;
+    Method builderFactory = null;
+    Method newThreadPerTaskExecutor = null;
+    try {
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      ofVirtual = Thread.class.getMethod("ofVirtual");
+      builderName = builderClass.getMethod("name", String.class, long.class);
+      builderFactory = builderClass.getMethod("factory");
+      newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+    }
+    catch (ClassNotFoundException | NoSuchMethodException e) {
+      // Virtual threads are not supported by the current Java version
+    }
+    OF_VIRTUAL = ofVirtual;
+    BUILDER_NAME = builderName;
+    BUILDER_FACTORY = builderFactory;
+    NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+  }
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private VirtualThreads() {
+    throw new UnsupportedOperationException();
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * @return true if the current Java version supports virtual threads.
+   */
+  public static boolean isSupported() {
+    return OF_VIRTUAL != null;
+  }
+
+  /**
+   * Creates an {@link ExecutorService} that starts a new virtual thread for
+   * each task. The threads are named with the given prefix followed by a
+   * counter.
+   *
+   * @throws IllegalStateException if virtual threads are not supported by
+   *                               the current Java version.
+   */
+  public static ExecutorService newThreadPerTaskExecutor(String threadNamePrefix) {
+    if (!isSupported()) {
+      throw new IllegalStateException("Virtual threads are not supported by the current Java version "
+                                      + Runtime.version() + ". At least Java 21 is required.");
+    }
+
+    try {
+      Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), threadNamePrefix, 0L);
+      ThreadFactory threadFactory = (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+      return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+    }
+    catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Failed to create virtual thread executor.", e);
+    }
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}